@@ -0,0 +1,109 @@
+package school.faang.user_service.service;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ImageResizeService} against the Thumbnailator call the avatar pipeline used before, which decoded the
+ * source once per size. Run with {@code ./gradlew jmh}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageResizeBenchmark {
+    private static final ImageVariant SMALL = new ImageVariant("small", 200, 200, "jpeg");
+    private static final List<ImageVariant> ALL_SIZES = List.of(
+            SMALL,
+            new ImageVariant("medium", 400, 400, "jpeg"),
+            new ImageVariant("large", 800, 800, "jpeg"),
+            new ImageVariant("small-webp", 200, 200, "webp"));
+
+    // DiceBear avatars are 256px; uploads from phones are several thousand
+    @Param({"256", "3000"})
+    private int sourceSize;
+
+    private byte[] source;
+    private List<ImageVariant> writableSizes;
+    private ImageResizeService resizeService;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        BufferedImage image = new BufferedImage(sourceSize, sourceSize, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setPaint(new GradientPaint(0, 0, Color.ORANGE, sourceSize, sourceSize, Color.BLUE));
+        graphics.fillRect(0, 0, sourceSize, sourceSize);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpeg", output);
+        source = output.toByteArray();
+
+        writableSizes = ALL_SIZES.stream().filter(ImageVariant::isWritable).toList();
+        resizeService = new ImageResizeService((long) sourceSize * sourceSize, 100);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        resizeService.shutdown();
+    }
+
+    @Benchmark
+    public byte[] thumbnailatorSmall() throws IOException {
+        return thumbnailator(SMALL);
+    }
+
+    @Benchmark
+    public byte[] resizeServiceSmall() {
+        return resizeService.resize(source, SMALL);
+    }
+
+    @Benchmark
+    public List<byte[]> thumbnailatorAllSizes() throws IOException {
+        List<byte[]> rendered = new ArrayList<>();
+        for (ImageVariant variant : writableSizes) {
+            rendered.add(thumbnailator(variant));
+        }
+        return rendered;
+    }
+
+    @Benchmark
+    public Map<ImageVariant, byte[]> resizeServiceAllSizes() {
+        return resizeService.resizeAll(source, writableSizes);
+    }
+
+    private byte[] thumbnailator(ImageVariant variant) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        Thumbnails.of(new ByteArrayInputStream(source))
+                .size(variant.width(), variant.height())
+                .outputFormat(variant.format())
+                .toOutputStream(output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,184 @@
+package school.faang.user_service.cache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Local copy of generated avatars, so a restart or a failed upload does not cost another DiceBear call and resize.
+ * Bounded by total size; the least recently used avatars are deleted first.
+ */
+@Slf4j
+@Component
+public class AvatarDiskCache {
+    private static final String AVATAR_SUFFIX = ".img";
+    private static final String SMALL_AVATAR_SUFFIX = ".small.img";
+
+    private final Path directory;
+    private final long maxBytes;
+    // avatar id -> bytes of both files, in access order
+    private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    public AvatarDiskCache(@Value("${services.avatar.pool.disk.directory}") Path directory,
+                           @Value("${services.avatar.pool.disk.max-size}") DataSize maxSize) {
+        this.directory = directory;
+        this.maxBytes = maxSize.toBytes();
+    }
+
+    @PostConstruct
+    public synchronized void load() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.getFileName().toString().endsWith(SMALL_AVATAR_SUFFIX))
+                        .sorted(Comparator.comparing(this::lastModified))
+                        .forEach(small -> {
+                            String name = small.getFileName().toString();
+                            String id = name.substring(0, name.length() - SMALL_AVATAR_SUFFIX.length());
+                            Path avatar = directory.resolve(id + AVATAR_SUFFIX);
+                            if (Files.exists(avatar)) {
+                                track(id, size(avatar) + size(small));
+                            }
+                        });
+            }
+            evictOverBudget();
+            log.info("Avatar disk cache loaded {} avatars ({} bytes) from {}", entries.size(), totalBytes, directory);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Could not load avatar disk cache from {}, starting empty", directory, e);
+        }
+    }
+
+    public synchronized List<AvatarKey> keys() {
+        return entries.keySet().stream()
+                .map(AvatarKey::parse)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    public Optional<AvatarImages> read(AvatarKey key) {
+        String id = key.id();
+        synchronized (this) {
+            if (entries.get(id) == null) {
+                return Optional.empty();
+            }
+        }
+        try {
+            return Optional.of(new AvatarImages(readFile(directory.resolve(id + AVATAR_SUFFIX)),
+                    readFile(directory.resolve(id + SMALL_AVATAR_SUFFIX))));
+        } catch (IOException e) {
+            log.warn("Could not read avatar {} from the disk cache", id, e);
+            forget(id);
+            return Optional.empty();
+        }
+    }
+
+    public void write(AvatarKey key, AvatarImages images) {
+        String id = key.id();
+        try {
+            writeFile(directory.resolve(id + AVATAR_SUFFIX), images.avatar());
+            // the thumbnail is written last: load() only picks up avatars whose thumbnail exists
+            writeFile(directory.resolve(id + SMALL_AVATAR_SUFFIX), images.smallAvatar());
+        } catch (IOException e) {
+            log.warn("Could not write avatar {} to the disk cache", id, e);
+            return;
+        }
+        synchronized (this) {
+            track(id, (long) images.avatar().length + images.smallAvatar().length);
+            evictOverBudget();
+        }
+    }
+
+    private byte[] readFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) < 0) {
+                    throw new IOException("Unexpected end of " + file);
+                }
+            }
+            return buffer.array();
+        }
+    }
+
+    private void writeFile(Path file, byte[] bytes) throws IOException {
+        Path tmp = Files.createTempFile(directory, "avatar", ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        }
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void track(String id, long bytes) {
+        Long previous = entries.put(id, bytes);
+        totalBytes += bytes - (previous == null ? 0 : previous);
+    }
+
+    private synchronized void forget(String id) {
+        Long bytes = entries.remove(id);
+        if (bytes != null) {
+            totalBytes -= bytes;
+        }
+    }
+
+    private void evictOverBudget() {
+        List<String> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Long>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            Map.Entry<String, Long> entry = eldest.next();
+            totalBytes -= entry.getValue();
+            evicted.add(entry.getKey());
+            eldest.remove();
+        }
+        evicted.forEach(id -> {
+            deleteQuietly(directory.resolve(id + SMALL_AVATAR_SUFFIX));
+            deleteQuietly(directory.resolve(id + AVATAR_SUFFIX));
+        });
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {} from the avatar disk cache", file, e);
+        }
+    }
+
+    private long size(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
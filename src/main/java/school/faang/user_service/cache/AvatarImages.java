@@ -0,0 +1,11 @@
+package school.faang.user_service.cache;
+
+/**
+ * Full-size avatar and its thumbnail; {@code smallAvatar} is {@code null} until the image has been resized.
+ */
+public record AvatarImages(byte[] avatar, byte[] smallAvatar) {
+
+    public boolean isResized() {
+        return smallAvatar != null;
+    }
+}
@@ -0,0 +1,27 @@
+package school.faang.user_service.cache;
+
+import java.util.Optional;
+
+/**
+ * Identity of a generated avatar: DiceBear renders the same image for the same style and seed, so users that draw
+ * the same key share one pair of S3 objects.
+ */
+public record AvatarKey(String style, int seed) {
+    private static final char SEPARATOR = '_';
+
+    public String id() {
+        return style + SEPARATOR + seed;
+    }
+
+    public static Optional<AvatarKey> parse(String id) {
+        int separator = id.lastIndexOf(SEPARATOR);
+        if (separator <= 0) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(new AvatarKey(id.substring(0, separator), Integer.parseInt(id.substring(separator + 1))));
+        } catch (NumberFormatException e) {
+            return Optional.empty();
+        }
+    }
+}
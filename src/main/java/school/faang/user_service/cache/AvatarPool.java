@@ -0,0 +1,55 @@
+package school.faang.user_service.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Avatars that are already in S3 and can be handed to a new user without any I/O. Avatars are shared, not consumed:
+ * the pool only grows until it holds enough distinct ones.
+ */
+@Component
+public class AvatarPool {
+    private final int targetSize;
+    private final Map<AvatarKey, StoredAvatar> avatars = new ConcurrentHashMap<>();
+    private final List<StoredAvatar> published = new CopyOnWriteArrayList<>();
+
+    public AvatarPool(@Value("${services.avatar.pool.size}") int targetSize) {
+        this.targetSize = targetSize;
+    }
+
+    public Optional<StoredAvatar> pick() {
+        List<StoredAvatar> snapshot = published;
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(snapshot.get(ThreadLocalRandom.current().nextInt(snapshot.size())));
+    }
+
+    public void add(AvatarKey key, StoredAvatar avatar) {
+        if (published.size() < targetSize && avatars.putIfAbsent(key, avatar) == null) {
+            published.add(avatar);
+        }
+    }
+
+    public boolean contains(AvatarKey key) {
+        return avatars.containsKey(key);
+    }
+
+    public int missing() {
+        return Math.max(0, targetSize - published.size());
+    }
+
+    // Pooled objects are not referenced by anyone yet; touching them keeps them out of garbage collection.
+    public List<String> objectKeys() {
+        return published.stream()
+                .flatMap(avatar -> avatar.objectKeys().stream())
+                .toList();
+    }
+}
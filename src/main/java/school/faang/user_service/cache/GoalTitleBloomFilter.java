@@ -0,0 +1,82 @@
+package school.faang.user_service.cache;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import school.faang.user_service.event.GoalTitleSavedEvent;
+import school.faang.user_service.repository.goal.GoalRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every goal title, so that a create with a new title can skip the existence query. A negative
+ * answer is only as fresh as this instance's view: titles saved by other instances are caught by the unique index
+ * on goal.title instead. Until the first rebuild finishes every title "might" exist and the database is asked.
+ */
+@Slf4j
+@Component
+public class GoalTitleBloomFilter {
+    private final GoalRepository goalRepository;
+    private final boolean enabled;
+    private final long expectedInsertions;
+    private final double falsePositiveProbability;
+
+    private volatile BloomFilter<String> filter;
+    private volatile BloomFilter<String> building;
+
+    public GoalTitleBloomFilter(GoalRepository goalRepository,
+                                @Value("${goal.title-filter.enabled}") boolean enabled,
+                                @Value("${goal.title-filter.expected-insertions}") long expectedInsertions,
+                                @Value("${goal.title-filter.false-positive-probability}") double falsePositiveProbability) {
+        this.goalRepository = goalRepository;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        BloomFilter<String> rebuilt = BloomFilter.create(
+                Funnels.stringFunnel(StandardCharsets.UTF_8), expectedInsertions, falsePositiveProbability);
+        building = rebuilt;
+        try (Stream<String> titles = goalRepository.streamAllTitles()) {
+            titles.forEach(rebuilt::put);
+        } finally {
+            building = null;
+        }
+        filter = rebuilt;
+        log.info("Goal title filter rebuilt with ~{} titles", rebuilt.approximateElementCount());
+    }
+
+    public boolean mightContain(String title) {
+        BloomFilter<String> current = filter;
+        return current == null || current.mightContain(title);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGoalTitleSaved(GoalTitleSavedEvent event) {
+        put(event.title());
+    }
+
+    public void put(String title) {
+        BloomFilter<String> current = filter;
+        if (current != null) {
+            current.put(title);
+        }
+        BloomFilter<String> inProgress = building;
+        if (inProgress != null) {
+            inProgress.put(title);
+        }
+    }
+}
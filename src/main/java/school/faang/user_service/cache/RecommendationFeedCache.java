@@ -0,0 +1,113 @@
+package school.faang.user_service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import school.faang.user_service.dto.CursorPageDto;
+import school.faang.user_service.dto.recomendation.RecommendationDto;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Redis copy of the first page of each receiver's recommendation feed, the page every profile view opens with.
+ * Later pages and other page sizes always go to the database. As in {@link UserCache}, eviction leaves a short-lived
+ * tombstone and a loaded page is only written if the key is absent, so a reader that loaded the feed before a
+ * concurrent write committed cannot put the stale page back.
+ */
+@Slf4j
+@Component
+public class RecommendationFeedCache {
+    private static final String KEY_PREFIX = "recommendation:feed:";
+    private static final String TOMBSTONE = "evicted";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JavaType pageType;
+    private final boolean enabled;
+    private final int firstPageSize;
+    private final Duration ttl;
+    private final Duration tombstoneTtl;
+
+    public RecommendationFeedCache(RedisTemplate<String, Object> redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${cache.recommendation.feed.enabled}") boolean enabled,
+                                   @Value("${cache.recommendation.feed.first-page-size}") int firstPageSize,
+                                   @Value("${cache.recommendation.feed.ttl}") Duration ttl,
+                                   @Value("${cache.recommendation.feed.tombstone-ttl}") Duration tombstoneTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.pageType = objectMapper.getTypeFactory()
+                .constructParametricType(CursorPageDto.class, RecommendationDto.class);
+        this.enabled = enabled;
+        this.firstPageSize = firstPageSize;
+        this.ttl = ttl;
+        this.tombstoneTtl = tombstoneTtl;
+    }
+
+    public boolean isCacheable(Long cursor, int size) {
+        return enabled && cursor == null && size == firstPageSize;
+    }
+
+    public CursorPageDto<RecommendationDto> getFirstPage(long receiverId,
+                                                         Supplier<CursorPageDto<RecommendationDto>> loader) {
+        CursorPageDto<RecommendationDto> page = read(receiverId);
+        if (page == null) {
+            page = loader.get();
+            write(receiverId, page);
+        }
+        return page;
+    }
+
+    public void evict(long receiverId) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(receiverId);
+                }
+            });
+        } else {
+            delete(receiverId);
+        }
+    }
+
+    private CursorPageDto<RecommendationDto> read(long receiverId) {
+        try {
+            Object json = redisTemplate.opsForValue().get(key(receiverId));
+            return json == null || TOMBSTONE.equals(json) ? null : objectMapper.readValue(json.toString(), pageType);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not read cached recommendation feed of user {} from Redis", receiverId, e);
+            return null;
+        }
+    }
+
+    private void write(long receiverId, CursorPageDto<RecommendationDto> page) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(receiverId), objectMapper.writeValueAsString(page), ttl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not cache recommendation feed of user {} in Redis", receiverId, e);
+        }
+    }
+
+    private void delete(long receiverId) {
+        try {
+            redisTemplate.opsForValue().set(key(receiverId), TOMBSTONE, tombstoneTtl);
+        } catch (RuntimeException e) {
+            log.warn("Could not invalidate cached recommendation feed of user {} in Redis", receiverId, e);
+        }
+    }
+
+    private String key(long receiverId) {
+        return KEY_PREFIX + receiverId;
+    }
+}
@@ -0,0 +1,19 @@
+package school.faang.user_service.cache;
+
+import school.faang.user_service.entity.UserProfilePic;
+
+import java.util.List;
+
+/**
+ * Content-addressed S3 keys of an avatar that is already uploaded.
+ */
+public record StoredAvatar(String fileId, String smallFileId) {
+
+    public UserProfilePic toProfilePic() {
+        return new UserProfilePic(fileId, smallFileId);
+    }
+
+    public List<String> objectKeys() {
+        return List.of(fileId, smallFileId);
+    }
+}
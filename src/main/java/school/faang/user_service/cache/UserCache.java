@@ -0,0 +1,157 @@
+package school.faang.user_service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import school.faang.user_service.dto.user.UserDto;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of {@link UserDto}s without credentials: a local Caffeine cache in front of Redis. An eviction
+ * leaves a short-lived tombstone in Redis, and a loaded user is written back only if the key is still absent, so a
+ * reader that loaded the user before a concurrent update committed cannot put the old state back.
+ */
+@Slf4j
+@Component
+public class UserCache {
+    private static final String CACHE_NAME = "user";
+    private static final String KEY_PREFIX = "user:dto:";
+    private static final String TOMBSTONE = "evicted";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic userCacheInvalidationTopic;
+    private final Duration redisTtl;
+    private final Duration tombstoneTtl;
+    private final Cache<Long, UserDto> localCache;
+    // bumped before every local eviction, so a load that overlapped one does not stay in the local cache
+    private final AtomicLong localEvictions = new AtomicLong();
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public UserCache(RedisTemplate<String, Object> redisTemplate,
+                     ObjectMapper objectMapper,
+                     @Qualifier("userCacheInvalidationTopic") ChannelTopic userCacheInvalidationTopic,
+                     MeterRegistry meterRegistry,
+                     @Value("${cache.user.local.max-size}") long localMaxSize,
+                     @Value("${cache.user.local.ttl}") Duration localTtl,
+                     @Value("${cache.user.redis.ttl}") Duration redisTtl,
+                     @Value("${cache.user.redis.tombstone-ttl}") Duration tombstoneTtl) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.userCacheInvalidationTopic = userCacheInvalidationTopic;
+        this.redisTtl = redisTtl;
+        this.tombstoneTtl = tombstoneTtl;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, CACHE_NAME + ".local");
+        this.redisHits = redisCounter(meterRegistry, "hit");
+        this.redisMisses = redisCounter(meterRegistry, "miss");
+        this.redisErrors = redisCounter(meterRegistry, "error");
+    }
+
+    /**
+     * @param loader builds the user without its password; the result is shared through Redis
+     */
+    public UserDto get(long userId, Supplier<UserDto> loader) {
+        UserDto cached = localCache.getIfPresent(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        long evictions = localEvictions.get();
+        UserDto userDto = readRemote(userId);
+        if (userDto == null) {
+            userDto = loader.get();
+            writeRemote(userId, userDto);
+        }
+        localCache.put(userId, userDto);
+        if (localEvictions.get() != evictions) {
+            localCache.invalidate(userId);
+        }
+        return userDto;
+    }
+
+    public void evict(long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEverywhere(userId);
+                }
+            });
+        } else {
+            evictEverywhere(userId);
+        }
+    }
+
+    public void evictLocal(long userId) {
+        localEvictions.incrementAndGet();
+        localCache.invalidate(userId);
+    }
+
+    private void evictEverywhere(long userId) {
+        evictLocal(userId);
+        try {
+            redisTemplate.opsForValue().set(key(userId), TOMBSTONE, tombstoneTtl);
+            redisTemplate.convertAndSend(userCacheInvalidationTopic.getTopic(), String.valueOf(userId));
+        } catch (RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Could not invalidate cached user {} in Redis", userId, e);
+        }
+    }
+
+    private UserDto readRemote(long userId) {
+        try {
+            Object json = redisTemplate.opsForValue().get(key(userId));
+            if (json == null || TOMBSTONE.equals(json)) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json.toString(), UserDto.class);
+        } catch (JsonProcessingException | RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Could not read cached user {} from Redis", userId, e);
+            return null;
+        }
+    }
+
+    private void writeRemote(long userId, UserDto userDto) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key(userId), objectMapper.writeValueAsString(userDto), redisTtl);
+        } catch (JsonProcessingException | RuntimeException e) {
+            redisErrors.increment();
+            log.warn("Could not cache user {} in Redis", userId, e);
+        }
+    }
+
+    private String key(long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private Counter redisCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.user.redis")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
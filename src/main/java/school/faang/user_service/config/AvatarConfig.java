@@ -12,11 +12,11 @@ public class AvatarConfig {
     @Value("${services.s3.bucket-name}")
     private String BUCKET_NAME;
 
-    @Value("${services.avatar.pattern}")
-    private String AVATAR_ID_PATTERN;
+    @Value("${services.avatar.object-key-pattern}")
+    private String OBJECT_KEY_PATTERN;
 
-    @Value("${services.avatar.small-pattern}")
-    private String SMALL_AVATAR_ID_PATTERN;
+    @Value("${services.avatar.upload-key-pattern}")
+    private String UPLOAD_KEY_PATTERN;
 
     @Value("${dice-bear.url}/${dice-bear.version}/%s/${dice-bear.file-type}?${dice-bear.params}")
     private String GENERATION_URL_PATTERN;
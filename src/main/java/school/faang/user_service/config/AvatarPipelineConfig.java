@@ -0,0 +1,51 @@
+package school.faang.user_service.config;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+public class AvatarPipelineConfig {
+
+    @Value("${services.avatar.pipeline.fetch.threads}")
+    private int FETCH_THREADS;
+
+    @Value("${services.avatar.pipeline.fetch.queue-size}")
+    private int FETCH_QUEUE_SIZE;
+
+    @Value("${services.avatar.pipeline.resize.threads}")
+    private int RESIZE_THREADS;
+
+    @Value("${services.avatar.pipeline.resize.queue-size}")
+    private int RESIZE_QUEUE_SIZE;
+
+    @Value("${services.avatar.pipeline.upload.threads}")
+    private int UPLOAD_THREADS;
+
+    @Value("${services.avatar.pipeline.upload.queue-size}")
+    private int UPLOAD_QUEUE_SIZE;
+
+    @Bean(destroyMethod = "shutdown")
+    public AvatarPipelineExecutors avatarPipelineExecutors() {
+        return new AvatarPipelineExecutors(
+                stagePool("avatar-fetch-%d", FETCH_THREADS, FETCH_QUEUE_SIZE),
+                stagePool("avatar-resize-%d", RESIZE_THREADS, RESIZE_QUEUE_SIZE),
+                stagePool("avatar-upload-%d", UPLOAD_THREADS, UPLOAD_QUEUE_SIZE));
+    }
+
+    // A full queue rejects the avatar instead of blocking the caller; the user simply stays without one.
+    private ThreadPoolExecutor stagePool(String nameFormat, int threads, int queueSize) {
+        return new ThreadPoolExecutor(threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat(nameFormat).setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+}
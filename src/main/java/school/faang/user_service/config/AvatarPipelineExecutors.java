@@ -0,0 +1,18 @@
+package school.faang.user_service.config;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+/**
+ * Executors of the random avatar pipeline, one per stage so a slow avatar API cannot starve resizing or uploads.
+ */
+public record AvatarPipelineExecutors(Executor fetch, Executor resize, Executor upload) {
+
+    public void shutdown() {
+        Stream.of(fetch, resize, upload)
+                .filter(ExecutorService.class::isInstance)
+                .map(ExecutorService.class::cast)
+                .forEach(ExecutorService::shutdown);
+    }
+}
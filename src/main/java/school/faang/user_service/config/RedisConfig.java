@@ -9,10 +9,12 @@ import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 import school.faang.user_service.event.ProfileViewEvent;
 import school.faang.user_service.listener.UserBanListener;
+import school.faang.user_service.listener.UserCacheInvalidationListener;
 
 @Configuration
 @RequiredArgsConstructor
@@ -38,6 +40,8 @@ public class RedisConfig {
     private String mentorshipAcceptedChannel;
     @Value("${spring.data.redis.channels.profile_view_channel.name}")
     private String profileViewTopicName;
+    @Value("${spring.data.redis.channels.user_cache_invalidation_channel.name}")
+    private String userCacheInvalidationChannel;
 
     public interface MessagePublisher {
         void publish(ProfileViewEvent profileViewEvent);
@@ -98,6 +102,21 @@ public class RedisConfig {
         return new ChannelTopic(mentorshipRequestTopicName);
     }
 
+    @Bean
+    public ChannelTopic userCacheInvalidationTopic() {
+        return new ChannelTopic(userCacheInvalidationChannel);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory redisConnectionFactory,
+            UserCacheInvalidationListener userCacheInvalidationListener) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(userCacheInvalidationListener, userCacheInvalidationTopic());
+        return container;
+    }
+
     @Bean
     MessageListenerAdapter messageListener(UserBanListener userBanListener) {
         return new MessageListenerAdapter(userBanListener);
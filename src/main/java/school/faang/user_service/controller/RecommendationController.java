@@ -5,13 +5,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import school.faang.user_service.dto.CursorPageDto;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recomendation.RecommendationDto;
 import school.faang.user_service.service.RecommendationService;
 
-import java.util.List;
-
 
 @RestController
 @RequestMapping("/api/v1/recommendations")
@@ -44,15 +47,37 @@ public class RecommendationController {
 
     @GetMapping("/receivers/{id}")
     @ResponseStatus(HttpStatus.OK)
-    @Operation(summary= "Returns all recommendations that are given to the user")
-    public List<RecommendationDto> getAllUserRecommendations(@Positive @PathVariable long receiverId) {
-        return recommendationService.getAllUserRecommendations(receiverId);
+    @Operation(summary= "Returns a page of recommendations that are given to the user")
+    public PageDto<RecommendationDto> getAllUserRecommendations(@Positive @PathVariable("id") long receiverId,
+                                                                @PageableDefault(size = 20, sort = "createdAt",
+                                                                        direction = Sort.Direction.DESC) Pageable pageable) {
+        return recommendationService.getAllUserRecommendations(receiverId, pageable);
     }
 
     @GetMapping("/authors/{id}")
     @ResponseStatus(HttpStatus.OK)
-    @Operation(summary = "Returns all recommendations given by the user")
-    public List<RecommendationDto> getAllGivenRecommendations(@Positive @PathVariable long authorId) {
-        return recommendationService.getAllGivenRecommendations(authorId);
+    @Operation(summary = "Returns a page of recommendations given by the user")
+    public PageDto<RecommendationDto> getAllGivenRecommendations(@Positive @PathVariable("id") long authorId,
+                                                                 @PageableDefault(size = 20, sort = "createdAt",
+                                                                         direction = Sort.Direction.DESC) Pageable pageable) {
+        return recommendationService.getAllGivenRecommendations(authorId, pageable);
+    }
+
+    @GetMapping("/receivers/{id}/feed")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Returns the newest recommendations given to the user, older ones are read with the cursor")
+    public CursorPageDto<RecommendationDto> getReceivedFeed(@Positive @PathVariable("id") long receiverId,
+                                                            @RequestParam(required = false) Long cursor,
+                                                            @RequestParam(defaultValue = "20") int size) {
+        return recommendationService.getReceivedFeed(receiverId, cursor, size);
+    }
+
+    @GetMapping("/authors/{id}/feed")
+    @ResponseStatus(HttpStatus.OK)
+    @Operation(summary = "Returns the newest recommendations given by the user, older ones are read with the cursor")
+    public CursorPageDto<RecommendationDto> getGivenFeed(@Positive @PathVariable("id") long authorId,
+                                                         @RequestParam(required = false) Long cursor,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        return recommendationService.getGivenFeed(authorId, cursor, size);
     }
 }
@@ -1,21 +1,26 @@
 package school.faang.user_service.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import school.faang.user_service.dto.CursorPageDto;
 import school.faang.user_service.dto.user.UserDto;
 import school.faang.user_service.dto.user.UserFilterDto;
+import school.faang.user_service.handler.NdjsonResponseHandler;
 import school.faang.user_service.service.SubscriptionService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/subscription")
 @RequiredArgsConstructor
 public class SubscriptionController {
     private final SubscriptionService subscriptionService;
+    private final NdjsonResponseHandler ndjsonResponseHandler;
 
     @PostMapping("/followUser/{followerId}/{followeeId}")
     public void followUser(@PathVariable(name = "followerId") long followerId,
@@ -27,16 +32,38 @@ public class SubscriptionController {
         subscriptionService.unfollowUser(followerId, followeeId);
     }
 
-    public List<UserDto> getFollowers(long followeeId, UserFilterDto filter) {
-        return subscriptionService.getFollowers(followeeId, filter);
+    @PostMapping("/{followeeId}/followers")
+    public CursorPageDto<UserDto> getFollowers(@PathVariable(name = "followeeId") long followeeId,
+                                               @RequestBody UserFilterDto filter,
+                                               @RequestParam(required = false) Long cursor,
+                                               @RequestParam(defaultValue = "100") int size) {
+        return subscriptionService.getFollowers(followeeId, filter, cursor, size);
+    }
+
+    @PostMapping(value = "/{followeeId}/followers/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamFollowers(@PathVariable(name = "followeeId") long followeeId,
+                                                 @RequestBody UserFilterDto filter) {
+        return ndjsonResponseHandler.stream(UserDto.class,
+                consumer -> subscriptionService.streamFollowers(followeeId, filter, consumer));
     }
 
     public Integer getFollowersCount(long followerId) {
         return subscriptionService.getFollowersCount(followerId);
     }
 
-    public List<UserDto> getFollowing(long followeeId, UserFilterDto filter) {
-        return subscriptionService.getFollowing(followeeId, filter);
+    @PostMapping("/{followerId}/following")
+    public CursorPageDto<UserDto> getFollowing(@PathVariable(name = "followerId") long followerId,
+                                               @RequestBody UserFilterDto filter,
+                                               @RequestParam(required = false) Long cursor,
+                                               @RequestParam(defaultValue = "100") int size) {
+        return subscriptionService.getFollowing(followerId, filter, cursor, size);
+    }
+
+    @PostMapping(value = "/{followerId}/following/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamFollowing(@PathVariable(name = "followerId") long followerId,
+                                                 @RequestBody UserFilterDto filter) {
+        return ndjsonResponseHandler.stream(UserDto.class,
+                consumer -> subscriptionService.streamFollowing(followerId, filter, consumer));
     }
 
     public Integer getFollowingCount(long followerId) {
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -12,13 +13,18 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import school.faang.user_service.dto.CursorPageDto;
 import school.faang.user_service.dto.UserProfilePicDto;
+import school.faang.user_service.dto.user.UserDeactivationDto;
 import school.faang.user_service.dto.user.UserDto;
 import school.faang.user_service.dto.user.UserTransportDto;
+import school.faang.user_service.handler.NdjsonResponseHandler;
 import school.faang.user_service.service.UserService;
 
 import java.util.List;
@@ -30,6 +36,7 @@ import java.util.Optional;
 public class UserController {
     private final UserService userService;
     private final ObjectMapper objectMapper;
+    private final NdjsonResponseHandler ndjsonResponseHandler;
 
     @PostMapping()
     @ResponseStatus(HttpStatus.CREATED)
@@ -52,6 +59,12 @@ public class UserController {
         return userService.deactivateUser(userId);
     }
 
+    @GetMapping("/deactivate/{userId}")
+    @ResponseStatus(HttpStatus.OK)
+    public UserDeactivationDto getDeactivationProgress(@PathVariable Long userId) {
+        return userService.getDeactivationProgress(userId);
+    }
+
     @GetMapping("/exists/{userId}")
     @ResponseStatus(HttpStatus.OK)
     public boolean checkUserExistence(@PathVariable Long userId) {
@@ -60,8 +73,17 @@ public class UserController {
 
     @GetMapping("/{userId}/followers")
     @ResponseStatus(HttpStatus.OK)
-    public List<UserDto> getUserFollowers(@PathVariable Long userId) {
-        return userService.getUserFollowers(userId);
+    public CursorPageDto<UserDto> getUserFollowers(@PathVariable Long userId,
+                                                   @RequestParam(required = false) Long cursor,
+                                                   @RequestParam(defaultValue = "100") int size) {
+        return userService.getUserFollowers(userId, cursor, size);
+    }
+
+    @GetMapping(value = "/{userId}/followers/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public StreamingResponseBody streamUserFollowers(@PathVariable Long userId) {
+        return ndjsonResponseHandler.stream(UserDto.class,
+                consumer -> userService.streamUserFollowers(userId, consumer));
     }
 
     @PostMapping("/exists/followers")
@@ -70,12 +92,29 @@ public class UserController {
         return userService.checkAllFollowersExist(followerIds);
     }
 
-    @GetMapping("/byList")
+    @PostMapping("/byList")
     @ResponseStatus(HttpStatus.OK)
     public List<UserTransportDto> getUsersByIds(@RequestBody List<Long> ids) {
         return userService.getUsersByIds(ids);
     }
 
+    /**
+     * @deprecated GET with a request body is dropped by some proxies, use the POST mapping instead.
+     */
+    @Deprecated
+    @GetMapping("/byList")
+    @ResponseStatus(HttpStatus.OK)
+    public List<UserTransportDto> getUsersByIdsLegacy(@RequestBody List<Long> ids) {
+        return userService.getUsersByIds(ids);
+    }
+
+    @PostMapping(value = "/byList/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public StreamingResponseBody streamUsersByIds(@RequestBody List<Long> ids) {
+        return ndjsonResponseHandler.stream(UserTransportDto.class,
+                consumer -> userService.streamUsersByIds(ids, consumer));
+    }
+
     @PutMapping("/avatar/put")
     public void uploadAvatar(@RequestHeader(value = "x-user-id") long userId,
                              @RequestBody UserProfilePicDto userProfilePicDto) {
@@ -2,6 +2,8 @@ package school.faang.user_service.controller.event;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
+import school.faang.user_service.dto.event.EventCursorDto;
+import school.faang.user_service.dto.event.EventPageDto;
 import school.faang.user_service.dto.event.ReadEvetDto;
 import school.faang.user_service.dto.event.WriteEventDto;
 import school.faang.user_service.filter.event.EventFilterDto;
@@ -19,8 +21,8 @@ public class EventController {
         return eventService.create(writeEventDto);
     }
 
-    public List<ReadEvetDto> getEventsByFilter(EventFilterDto filter) {
-        return eventService.findAllByFilter(filter);
+    public EventPageDto getEventsByFilter(EventFilterDto filter, EventCursorDto cursor, int size) {
+        return eventService.findAllByFilter(filter, cursor, size);
     }
 
     public ReadEvetDto getEvent(Long id) {
@@ -18,11 +18,11 @@ public class EventParticipationController {
     private final EventParticipationService eventParticipationService;
 
     public void registerParticipant(@Validated(CreateGroup.class) UserDto userDTO, @Valid EventDto eventDto) {
-        eventParticipationService.registerParticipant(userDTO.getId(), eventDto.getId());
+        eventParticipationService.registerParticipant(eventDto.getId(), userDTO.getId());
     }
 
     public void unregisterParticipant(@Validated(CreateGroup.class) UserDto userDTO, @Valid EventDto eventDto) {
-        eventParticipationService.unregisterParticipant(userDTO.getId(), eventDto.getId());
+        eventParticipationService.unregisterParticipant(eventDto.getId(), userDTO.getId());
     }
 
     public void getParticipant(@Valid EventDto eventDto) {
@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import school.faang.user_service.dto.GoalDto;
@@ -51,11 +52,12 @@ public class GoalController {
     @GetMapping("/filter/{goalId}")
     @ResponseStatus(HttpStatus.OK)
     public List<GoalDto> getSubtasksByGoalId(@PathVariable("goalId") @Positive long goalId,
+                                             @RequestParam(required = false) @Positive Integer maxDepth,
                                              @RequestBody GoalFilterDto filterGoals) {
-        return goalService.getSubtasksByGoalId(goalId, filterGoals);
+        return goalService.getSubtasksByGoalId(goalId, maxDepth, filterGoals);
     }
 
-    @GetMapping("/filter/{userId}")
+    @GetMapping("/filter/user/{userId}")
     @ResponseStatus(HttpStatus.OK)
     public List<GoalDto> getGoalsByUser(@PathVariable("userId") @Positive long userId,
                                         @RequestBody GoalFilterDto filterGoals) {
@@ -2,27 +2,35 @@ package school.faang.user_service.controller.mentorship;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.SortDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.mentorship.MentorshipRequestDto;
 import school.faang.user_service.dto.mentorship.MentorshipRequestFilterDto;
 import school.faang.user_service.dto.mentorship.RejectionDto;
+import school.faang.user_service.handler.NdjsonResponseHandler;
 import school.faang.user_service.service.mentorship.MentorshipRequestService;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/mentorship")
 @RequiredArgsConstructor
 public class MentorshipRequestController {
     private final MentorshipRequestService mentorshipRequestService;
+    private final NdjsonResponseHandler ndjsonResponseHandler;
 
     @PostMapping("/request")
     @ResponseStatus(HttpStatus.CREATED)
@@ -32,8 +40,19 @@ public class MentorshipRequestController {
 
     @GetMapping("/requests")
     @ResponseStatus(HttpStatus.OK)
-    public List<MentorshipRequestDto> getRequests(@RequestBody MentorshipRequestFilterDto filters) {
-        return mentorshipRequestService.getRequests(filters);
+    public PageDto<MentorshipRequestDto> getRequests(@RequestBody MentorshipRequestFilterDto filters,
+                                                     @PageableDefault(size = 50, sort = "createdAt",
+                                                             direction = Sort.Direction.DESC) Pageable pageable,
+                                                     @RequestParam(defaultValue = "false") boolean withTotal) {
+        return mentorshipRequestService.getRequests(filters, pageable, withTotal);
+    }
+
+    @PostMapping(value = "/requests/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    public StreamingResponseBody exportRequests(@RequestBody MentorshipRequestFilterDto filters,
+                                                @SortDefault(sort = "id") Sort sort) {
+        return ndjsonResponseHandler.stream(MentorshipRequestDto.class,
+                consumer -> mentorshipRequestService.exportRequests(filters, sort, consumer));
     }
 
     @PutMapping("/accept/{requestId}")
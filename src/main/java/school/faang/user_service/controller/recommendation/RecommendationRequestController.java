@@ -1,6 +1,9 @@
 package school.faang.user_service.controller.recommendation;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -8,15 +11,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recommendation.RecommendationRequestDto;
 import school.faang.user_service.dto.recommendation.RejectionDto;
 import school.faang.user_service.dto.recommendation.RequestFilterDto;
 import school.faang.user_service.service.recommendation.RecommendationRequestService;
 
-import java.util.List;
-
 @RequestMapping("/recommendation")
 @RequiredArgsConstructor
 @RestController
@@ -31,8 +34,11 @@ public class RecommendationRequestController {
 
     @GetMapping("/requests")
     @ResponseStatus(HttpStatus.FOUND)
-    public List<RecommendationRequestDto> getRecommendationRequests(@RequestBody RequestFilterDto filter) {
-        return recommendationRequestService.getRequests(filter);
+    public PageDto<RecommendationRequestDto> getRecommendationRequests(@RequestBody RequestFilterDto filter,
+                                                                       @PageableDefault(size = 50, sort = "createdAt",
+                                                                               direction = Sort.Direction.DESC) Pageable pageable,
+                                                                       @RequestParam(defaultValue = "false") boolean withTotal) {
+        return recommendationRequestService.getRequests(filter, pageable, withTotal);
     }
 
     @GetMapping("/request/{id}")
@@ -0,0 +1,16 @@
+package school.faang.user_service.dto.event;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the last event of a page in the (start_date, id) order. Both keys travel with the client, so the next
+ * page does not depend on that event still existing.
+ */
+@Value
+public class EventCursorDto {
+
+    LocalDateTime startDate;
+    long id;
+}
@@ -0,0 +1,15 @@
+package school.faang.user_service.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPageDto {
+    private List<ReadEvetDto> content;
+    private EventCursorDto nextCursor;
+}
@@ -1,11 +1,15 @@
 package school.faang.user_service.dto.recomendation;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 @Schema(description = "Information about skill offer")
 public class SkillOfferDto {
     @Schema(description = "skill offer identifier")
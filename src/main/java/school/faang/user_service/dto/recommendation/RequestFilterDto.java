@@ -3,7 +3,6 @@ package school.faang.user_service.dto.recommendation;
 import lombok.Data;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.RequestStatus;
-import school.faang.user_service.entity.recommendation.SkillRequest;
 
 import java.util.List;
 
@@ -11,7 +10,7 @@ import java.util.List;
 @Data
 public class RequestFilterDto {
     private RequestStatus status;
-    private List<SkillRequest> skills;
+    private List<Long> skillIds;
     private Long requesterId;
     private Long receiverId;
 }
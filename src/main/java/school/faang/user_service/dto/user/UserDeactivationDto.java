@@ -0,0 +1,22 @@
+package school.faang.user_service.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import school.faang.user_service.entity.DeactivationStage;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserDeactivationDto {
+
+    private Long userId;
+    private DeactivationStage stage;
+    private long processed;
+    private boolean finished;
+    private LocalDateTime updatedAt;
+}
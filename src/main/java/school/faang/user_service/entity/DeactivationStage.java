@@ -0,0 +1,17 @@
+package school.faang.user_service.entity;
+
+/**
+ * Steps of the background clean-up of a deactivated user, in the order they run.
+ */
+public enum DeactivationStage {
+    SOLO_GOALS,
+    GOAL_LINKS,
+    PLANNED_EVENTS,
+    MENTORED_GOALS,
+    MENTORSHIPS,
+    DONE;
+
+    public DeactivationStage next() {
+        return this == DONE ? DONE : values()[ordinal() + 1];
+    }
+}
@@ -0,0 +1,26 @@
+package school.faang.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "subscription_counter")
+public class SubscriptionCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private long userId;
+
+    @Column(name = "followers_count", nullable = false)
+    private int followersCount;
+
+    @Column(name = "followees_count", nullable = false)
+    private int followeesCount;
+}
@@ -0,0 +1,41 @@
+package school.faang.user_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "user_deactivation")
+public class UserDeactivation {
+
+    @Id
+    @Column(name = "user_id")
+    private long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "stage", length = 32, nullable = false)
+    private DeactivationStage stage;
+
+    @Column(name = "processed", nullable = false)
+    private long processed;
+
+    @CreationTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
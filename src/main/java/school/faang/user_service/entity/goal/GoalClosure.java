@@ -0,0 +1,46 @@
+package school.faang.user_service.entity.goal;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+
+/**
+ * Ancestor/descendant pair of the goal tree. Rows are written by {@code GoalRepository} when a goal is created and
+ * removed by the database together with the goals they reference.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Immutable
+@IdClass(GoalClosure.Key.class)
+@Table(name = "goal_closure")
+public class GoalClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private long ancestorId;
+
+    @Id
+    @Column(name = "descendant_id")
+    private long descendantId;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private long ancestorId;
+        private long descendantId;
+    }
+}
@@ -0,0 +1,6 @@
+package school.faang.user_service.entity.outbox;
+
+public enum AggregateType {
+    USER,
+    MENTORSHIP_REQUEST
+}
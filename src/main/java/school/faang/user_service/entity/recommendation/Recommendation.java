@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import school.faang.user_service.entity.User;
@@ -36,6 +37,7 @@ public class Recommendation {
     private User receiver;
 
     @OneToMany(mappedBy = "recommendation", cascade = CascadeType.ALL)
+    @BatchSize(size = 100)
     private List<SkillOffer> skillOffers;
 
     @OneToOne(mappedBy = "recommendation")
@@ -0,0 +1,4 @@
+package school.faang.user_service.event;
+
+public record GoalTitleSavedEvent(String title) {
+}
@@ -61,4 +61,10 @@ public class GlobalExceptionHandler {
     public ErrorResponse handleDataValidationException(DataValidationException exception) {
         return new ErrorResponse("Data Validation Exception", exception.getMessage());
     }
+
+    @ExceptionHandler(UploadCapacityExceededException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleUploadCapacityExceededException(UploadCapacityExceededException exception) {
+        return new ErrorResponse("Upload Capacity Exceeded", exception.getMessage());
+    }
 }
@@ -0,0 +1,7 @@
+package school.faang.user_service.exception;
+
+public class UploadCapacityExceededException extends RuntimeException {
+    public UploadCapacityExceededException(String message) {
+        super(message);
+    }
+}
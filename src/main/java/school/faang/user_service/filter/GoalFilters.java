@@ -1,13 +1,12 @@
 package school.faang.user_service.filter;
 
+import org.springframework.data.jpa.domain.Specification;
 import school.faang.user_service.dto.GoalFilterDto;
 import school.faang.user_service.entity.goal.Goal;
 
-import java.util.stream.Stream;
-
 public interface GoalFilters {
 
     boolean isApplicable(GoalFilterDto filters);
 
-    void apply(Stream<Goal> goals, GoalFilterDto filters);
-}
\ No newline at end of file
+    Specification<Goal> toSpecification(GoalFilterDto filters);
+}
@@ -1,21 +1,20 @@
 package school.faang.user_service.filter;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.GoalFilterDto;
 import school.faang.user_service.entity.goal.Goal;
 
-import java.util.stream.Stream;
-
 @Component
 public class GoalStatusFilter implements GoalFilters {
 
     @Override
     public boolean isApplicable(GoalFilterDto filters) {
-        return filters.getTitle() != null;
+        return filters.getStatus() != null;
     }
 
     @Override
-    public void apply(Stream<Goal> goals, GoalFilterDto filters) {
-        goals.filter(goal -> goal.getStatus().equals(filters.getStatus()));
+    public Specification<Goal> toSpecification(GoalFilterDto filters) {
+        return (goal, query, cb) -> cb.equal(goal.get("status"), filters.getStatus());
     }
-}
\ No newline at end of file
+}
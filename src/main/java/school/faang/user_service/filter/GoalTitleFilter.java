@@ -1,11 +1,10 @@
 package school.faang.user_service.filter;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.GoalFilterDto;
 import school.faang.user_service.entity.goal.Goal;
 
-import java.util.stream.Stream;
-
 @Component
 public class GoalTitleFilter implements GoalFilters {
 
@@ -15,7 +14,8 @@ public class GoalTitleFilter implements GoalFilters {
     }
 
     @Override
-    public void apply(Stream<Goal> goals, GoalFilterDto filters) {
-        goals.filter(goal -> goal.getTitle().contains(filters.getTitle()));
+    public Specification<Goal> toSpecification(GoalFilterDto filters) {
+        return (goal, query, cb) -> cb.like(goal.get("title"), LikePatterns.contains(filters.getTitle()),
+                LikePatterns.ESCAPE);
     }
-}
\ No newline at end of file
+}
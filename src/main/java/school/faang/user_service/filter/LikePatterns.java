@@ -0,0 +1,16 @@
+package school.faang.user_service.filter;
+
+public final class LikePatterns {
+    public static final char ESCAPE = '\\';
+
+    private LikePatterns() {
+    }
+
+    /**
+     * LIKE pattern matching {@code value} anywhere in the column, with the LIKE wildcards of the value escaped
+     * by {@link #ESCAPE}.
+     */
+    public static String contains(String value) {
+        return "%" + value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
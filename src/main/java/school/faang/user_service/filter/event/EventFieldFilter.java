@@ -1,12 +1,11 @@
 package school.faang.user_service.filter.event;
 
+import org.springframework.data.jpa.domain.Specification;
 import school.faang.user_service.entity.event.Event;
 
-import java.util.stream.Stream;
-
 public interface EventFieldFilter {
 
     boolean isApplicable(EventFilterDto filter);
 
-    Stream<Event> apply(Stream<Event> eventStream, EventFilterDto eventFilterDto);
+    Specification<Event> toSpecification(EventFilterDto filter);
 }
@@ -1,9 +1,10 @@
 package school.faang.user_service.filter.event;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.event.Event;
 
-import java.util.stream.Stream;
+import java.time.LocalDateTime;
 
 @Component
 public class EventStartDateAfterFieldFilter implements EventFieldFilter {
@@ -14,8 +15,7 @@ public class EventStartDateAfterFieldFilter implements EventFieldFilter {
     }
 
     @Override
-    public Stream<Event> apply(Stream<Event> eventStream, EventFilterDto filter) {
-        return eventStream.filter(event -> event.getStartDate().isAfter(filter.getStartDate()));
+    public Specification<Event> toSpecification(EventFilterDto filter) {
+        return (event, query, cb) -> cb.greaterThan(event.<LocalDateTime>get("startDate"), filter.getStartDate());
     }
 }
-
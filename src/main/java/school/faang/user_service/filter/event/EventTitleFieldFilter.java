@@ -1,9 +1,9 @@
 package school.faang.user_service.filter.event;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.event.Event;
-
-import java.util.stream.Stream;
+import school.faang.user_service.filter.LikePatterns;
 
 @Component
 public class EventTitleFieldFilter implements EventFieldFilter {
@@ -14,7 +14,9 @@ public class EventTitleFieldFilter implements EventFieldFilter {
     }
 
     @Override
-    public Stream<Event> apply(Stream<Event> eventStream, EventFilterDto filter) {
-        return eventStream.filter(event -> !filter.getTitle().isEmpty() && event.getTitle().contains(filter.getTitle()));
+    public Specification<Event> toSpecification(EventFilterDto filter) {
+        return (event, query, cb) -> filter.getTitle().isEmpty()
+                ? cb.disjunction()
+                : cb.like(event.<String>get("title"), LikePatterns.contains(filter.getTitle()), LikePatterns.ESCAPE);
     }
 }
@@ -1,8 +1,10 @@
 package school.faang.user_service.filter.mentorship;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.mentorship.MentorshipRequestFilterDto;
 import school.faang.user_service.entity.MentorshipRequest;
+import school.faang.user_service.filter.LikePatterns;
 
 import java.util.stream.Stream;
 
@@ -19,4 +21,10 @@ public class MentorshipRequestDescriptionFilter implements MentorshipRequestFilt
         return mentorshipRequestStream.filter(mentorshipRequest -> mentorshipRequest.getDescription().toLowerCase()
                 .contains(mentorshipRequestFilterDto.getDescription()));
     }
+
+    @Override
+    public Specification<MentorshipRequest> toSpecification(MentorshipRequestFilterDto mentorshipRequestFilterDto) {
+        return (mentorshipRequest, query, cb) -> cb.like(cb.lower(mentorshipRequest.get("description")),
+                LikePatterns.contains(mentorshipRequestFilterDto.getDescription()), LikePatterns.ESCAPE);
+    }
 }
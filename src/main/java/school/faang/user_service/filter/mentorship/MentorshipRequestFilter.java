@@ -1,5 +1,6 @@
 package school.faang.user_service.filter.mentorship;
 
+import org.springframework.data.jpa.domain.Specification;
 import school.faang.user_service.dto.mentorship.MentorshipRequestFilterDto;
 import school.faang.user_service.entity.MentorshipRequest;
 
@@ -10,4 +11,6 @@ public interface MentorshipRequestFilter {
 
     Stream<MentorshipRequest> filter(Stream<MentorshipRequest> mentorshipRequestStream,
                                      MentorshipRequestFilterDto mentorshipRequestFilterDto);
+
+    Specification<MentorshipRequest> toSpecification(MentorshipRequestFilterDto mentorshipRequestFilterDto);
 }
@@ -1,5 +1,6 @@
 package school.faang.user_service.filter.mentorship;
 
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.mentorship.MentorshipRequestFilterDto;
 import school.faang.user_service.entity.MentorshipRequest;
@@ -19,4 +20,10 @@ public class MentorshipRequestReceiverFilter implements MentorshipRequestFilter
         return mentorshipRequestStream.filter(mentorshipRequest ->
                 mentorshipRequest.getReceiver().getId() == mentorshipRequestFilterDto.getReceiverId());
     }
+
+    @Override
+    public Specification<MentorshipRequest> toSpecification(MentorshipRequestFilterDto mentorshipRequestFilterDto) {
+        return (mentorshipRequest, query, cb) -> cb.equal(mentorshipRequest.get("receiver").get("id"),
+                mentorshipRequestFilterDto.getReceiverId());
+    }
 }
@@ -0,0 +1,25 @@
+package school.faang.user_service.filter.userFilter;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+import school.faang.user_service.dto.user.UserFilterDto;
+import school.faang.user_service.entity.User;
+
+/**
+ * A {@link UserFilter} that can also be expressed as a database predicate. Callers push these into the query and
+ * apply only the remaining filters in memory through {@link #apply}.
+ */
+public interface QueryableUserFilter extends UserFilter {
+
+    Predicate toPredicate(From<?, User> user, CriteriaQuery<?> query, CriteriaBuilder cb, UserFilterDto userFilter);
+
+    /**
+     * Postgres counterpart of {@link String#matches}: the pattern is anchored so it has to match the whole value.
+     */
+    static Predicate matches(CriteriaBuilder cb, Expression<String> value, String pattern) {
+        return cb.isTrue(cb.function("textregexeq", Boolean.class, value, cb.literal("^(?:" + pattern + ")$")));
+    }
+}
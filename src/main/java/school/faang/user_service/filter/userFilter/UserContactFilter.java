@@ -1,14 +1,21 @@
 package school.faang.user_service.filter.userFilter;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.user.UserFilterDto;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.contact.Contact;
 
 import java.util.List;
 import java.util.stream.Stream;
 
 @Component
-public class UserContactFilter implements UserFilter {
+public class UserContactFilter implements QueryableUserFilter {
     @Override
     public boolean isApplicable(UserFilterDto userFilterDto) {
         return userFilterDto.getContactPattern() != null;
@@ -19,4 +26,15 @@ public class UserContactFilter implements UserFilter {
         return users.stream().filter(user -> user.getContacts().stream()
                 .anyMatch(contact -> contact.getContact().equals(userFilter.getContactPattern())));
     }
+
+    @Override
+    public Predicate toPredicate(From<?, User> user, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                 UserFilterDto userFilter) {
+        Subquery<Long> contacts = query.subquery(Long.class);
+        Root<Contact> contact = contacts.from(Contact.class);
+        contacts.select(contact.get("id"))
+                .where(cb.equal(contact.get("user"), user),
+                        cb.equal(contact.get("contact"), userFilter.getContactPattern()));
+        return cb.exists(contacts);
+    }
 }
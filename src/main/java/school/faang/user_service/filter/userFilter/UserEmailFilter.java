@@ -1,5 +1,9 @@
 package school.faang.user_service.filter.userFilter;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.user.UserFilterDto;
 import school.faang.user_service.entity.User;
@@ -8,7 +12,7 @@ import java.util.List;
 import java.util.stream.Stream;
 
 @Component
-public class UserEmailFilter implements UserFilter {
+public class UserEmailFilter implements QueryableUserFilter {
     @Override
     public boolean isApplicable(UserFilterDto userFilterDto) {
         return userFilterDto.getEmailPattern() != null;
@@ -18,4 +22,10 @@ public class UserEmailFilter implements UserFilter {
     public Stream<User> apply(List<User> users, UserFilterDto userFilter) {
         return users.stream().filter(user -> user.getEmail().matches(userFilter.getEmailPattern()));
     }
+
+    @Override
+    public Predicate toPredicate(From<?, User> user, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                 UserFilterDto userFilter) {
+        return QueryableUserFilter.matches(cb, user.get("email"), userFilter.getEmailPattern());
+    }
 }
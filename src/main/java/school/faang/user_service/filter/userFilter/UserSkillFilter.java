@@ -1,14 +1,21 @@
 package school.faang.user_service.filter.userFilter;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.user.UserFilterDto;
+import school.faang.user_service.entity.Skill;
 import school.faang.user_service.entity.User;
 
 import java.util.List;
 import java.util.stream.Stream;
 
 @Component
-public class UserSkillFilter implements UserFilter {
+public class UserSkillFilter implements QueryableUserFilter {
     @Override
     public boolean isApplicable(UserFilterDto userFilterDto) {
         return userFilterDto.getSkillPattern() != null;
@@ -19,4 +26,15 @@ public class UserSkillFilter implements UserFilter {
         return users.stream().filter(user -> user.getSkills().stream()
                 .anyMatch(skill -> skill.getTitle().equals(userFilter.getSkillPattern())));
     }
+
+    @Override
+    public Predicate toPredicate(From<?, User> user, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                 UserFilterDto userFilter) {
+        Subquery<Long> skills = query.subquery(Long.class);
+        Root<Skill> skill = skills.from(Skill.class);
+        skills.select(skill.get("id"))
+                .where(cb.equal(skill.join("users"), user),
+                        cb.equal(skill.get("title"), userFilter.getSkillPattern()));
+        return cb.exists(skills);
+    }
 }
@@ -0,0 +1,33 @@
+package school.faang.user_service.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class NdjsonResponseHandler {
+    private final ObjectMapper objectMapper;
+
+    public <T> StreamingResponseBody stream(Class<T> type, Consumer<Consumer<T>> producer) {
+        return outputStream -> {
+            try (SequenceWriter writer = objectMapper.writerFor(type)
+                    .withRootValueSeparator("\n")
+                    .writeValues(outputStream)) {
+                producer.accept(value -> {
+                    try {
+                        writer.write(value);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package school.faang.user_service.listener;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.cache.UserCache;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener implements MessageListener {
+    private final UserCache userCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        userCache.evictLocal(Long.parseLong(new String(message.getBody(), StandardCharsets.UTF_8)));
+    }
+}
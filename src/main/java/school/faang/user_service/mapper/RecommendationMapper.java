@@ -4,7 +4,9 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 import school.faang.user_service.dto.recomendation.RecommendationDto;
+import school.faang.user_service.dto.recomendation.SkillOfferDto;
 import school.faang.user_service.entity.recommendation.Recommendation;
+import school.faang.user_service.entity.recommendation.SkillOffer;
 
 import java.util.List;
 
@@ -19,4 +21,7 @@ public interface RecommendationMapper {
     Recommendation toEntity(RecommendationDto dto);
 
     List<RecommendationDto> recommendationToRecommendationDto(List<Recommendation> recommendations);
+
+    @Mapping(source = "skill.id", target = "skillId")
+    SkillOfferDto toDto(SkillOffer skillOffer);
 }
@@ -3,9 +3,13 @@ package school.faang.user_service.mapper;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
+import org.mapstruct.ValueMapping;
+import school.faang.user_service.dto.user.PreferredContact;
 import school.faang.user_service.dto.user.UserDto;
 import school.faang.user_service.dto.user.UserTransportDto;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.projection.UserSummary;
+import school.faang.user_service.repository.projection.UserTransportSummary;
 
 import java.util.List;
 
@@ -15,11 +19,23 @@ public interface UserMapper {
     @Mapping(source = "country.id", target = "country")
     UserDto toDto(User user);
 
+    @Mapping(source = "country.id", target = "country")
+    @Mapping(target = "password", ignore = true)
+    UserDto toCachedDto(User user);
+
+    @Mapping(source = "countryId", target = "country")
+    UserDto toDto(UserSummary userSummary);
+
     @Mapping(source = "country", target = "country.id")
     User toEntity(UserDto userDto);
 
     UserTransportDto toTransportDto(User user);
 
+    UserTransportDto toTransportDto(UserTransportSummary userTransportSummary);
+
+    @ValueMapping(source = "PHONE", target = "SMS")
+    PreferredContact toDto(school.faang.user_service.entity.contact.PreferredContact preferredContact);
+
     @Mapping(source = "active", target = "isActive")
     List<UserDto> toDtoList(List<User> users);
 }
@@ -10,6 +10,8 @@ import school.faang.user_service.entity.User;
 import school.faang.user_service.entity.recommendation.RecommendationRequest;
 import school.faang.user_service.repository.UserRepository;
 
+import java.util.List;
+
 @Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface RecommendationRequestMapper {
 
@@ -19,7 +21,9 @@ public interface RecommendationRequestMapper {
 
     @Mapping(source = "receiver.id", target = "receiverId")
     @Mapping(source = "requester.id", target = "requesterId")
-    RecommendationRequestDto toDto(RecommendationRequest recommendationRequest, @Context UserRepository userRepository);
+    RecommendationRequestDto toDto(RecommendationRequest recommendationRequest);
+
+    List<RecommendationRequestDto> toDtoList(List<RecommendationRequest> recommendationRequests);
 
     @Named("receiverIdToReceiver")
     default User receiverIdToReceiver(Long receiverId, @Context UserRepository userRepository) {
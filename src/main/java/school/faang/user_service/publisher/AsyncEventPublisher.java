@@ -0,0 +1,163 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Buffers events and publishes them from a single drain thread, pipelining up to {@code batchSize}
+ * messages per Redis round trip so callers never wait on Redis.
+ */
+@Slf4j
+public abstract class AsyncEventPublisher<T> extends EventPublisher<T> {
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
+    private final BlockingQueue<T> buffer;
+    private final int batchSize;
+    private final BackpressurePolicy backpressurePolicy;
+    private final long deduplicationWindowNanos;
+    private final Map<Object, Long> recentEvents = new ConcurrentHashMap<>();
+    private final AtomicLong droppedEvents = new AtomicLong();
+    private final Thread drainThread;
+    private volatile boolean running = true;
+    private long lastPurgeNanos = System.nanoTime();
+
+    protected AsyncEventPublisher(RedisTemplate<String, Object> redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  ChannelTopic channelTopic,
+                                  MeterRegistry meterRegistry,
+                                  int bufferSize,
+                                  int batchSize,
+                                  BackpressurePolicy backpressurePolicy,
+                                  Duration deduplicationWindow) {
+        super(redisTemplate, objectMapper, channelTopic, meterRegistry);
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.backpressurePolicy = backpressurePolicy;
+        this.deduplicationWindowNanos = deduplicationWindow.toNanos();
+        this.drainThread = new Thread(this::drain, getClass().getSimpleName() + "-drain");
+        this.drainThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        drainThread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        drainThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+    }
+
+    @Override
+    public void publish(T event) {
+        if (isDuplicate(event)) {
+            return;
+        }
+        switch (backpressurePolicy) {
+            case DROP -> {
+                if (!buffer.offer(event)) {
+                    dropped();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!buffer.offer(event)) {
+                    if (buffer.poll() != null) {
+                        dropped();
+                    }
+                }
+            }
+            case BLOCK -> {
+                try {
+                    buffer.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped();
+                }
+            }
+        }
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    // Events sharing a key within the deduplication window are published once; null disables deduplication.
+    protected Object deduplicationKey(T event) {
+        return null;
+    }
+
+    private boolean isDuplicate(T event) {
+        Object key = deduplicationKey(event);
+        if (key == null || deduplicationWindowNanos <= 0) {
+            return false;
+        }
+        long now = System.nanoTime();
+        // compute runs atomically per key, so of two concurrent publishes of the same event only one gets through
+        boolean[] duplicate = new boolean[1];
+        recentEvents.compute(key, (ignored, previous) -> {
+            duplicate[0] = previous != null && now - previous < deduplicationWindowNanos;
+            return duplicate[0] ? previous : now;
+        });
+        return duplicate[0];
+    }
+
+    private void drain() {
+        List<T> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                T first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    buffer.drainTo(batch, batchSize - 1);
+                    publishBatch(batch);
+                    batch.clear();
+                }
+                purgeRecentEvents();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void publishBatch(List<T> batch) {
+        try {
+            publishAll(batch);
+        } catch (RuntimeException e) {
+            log.error("Could not publish {} events from {}", batch.size(), getClass().getSimpleName(), e);
+        }
+    }
+
+    private void purgeRecentEvents() {
+        long now = System.nanoTime();
+        if (recentEvents.isEmpty() || now - lastPurgeNanos < deduplicationWindowNanos) {
+            return;
+        }
+        recentEvents.values().removeIf(seenAt -> now - seenAt >= deduplicationWindowNanos);
+        lastPurgeNanos = now;
+    }
+
+    private void dropped() {
+        if (droppedEvents.incrementAndGet() % 1000 == 1) {
+            log.warn("{} buffer is full, {} events dropped so far",
+                    getClass().getSimpleName(), droppedEvents.get());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package school.faang.user_service.publisher;
+
+public enum BackpressurePolicy {
+    DROP,
+    DROP_OLDEST,
+    BLOCK
+}
@@ -2,26 +2,130 @@ package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serializes events with a writer bound to the event type and sends them as raw bytes, pipelining
+ * batches in one round trip. Payloads above {@code publisher.compression.threshold-bytes} are gzipped
+ * (consumers can detect the gzip magic header); compression is off unless the threshold is set.
+ */
 @Slf4j
-@RequiredArgsConstructor
 public abstract class EventPublisher<T> {
 
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ObjectMapper objectMapper;
-    private final ChannelTopic channelTopic;
+    private final ObjectWriter objectWriter;
+    private final String channel;
+    private final byte[] channelBytes;
+    private final Timer publishLatency;
+    private final DistributionSummary batchSize;
+    private final Counter failures;
+    private final Counter compressed;
+    private int compressionThreshold = -1;
+
+    protected EventPublisher(RedisTemplate<String, Object> redisTemplate,
+                             ObjectMapper objectMapper,
+                             ChannelTopic channelTopic,
+                             MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        Class<?> eventType = GenericTypeResolver.resolveTypeArgument(getClass(), EventPublisher.class);
+        this.objectWriter = eventType == null ? objectMapper.writer() : objectMapper.writerFor(eventType);
+        this.channel = channelTopic.getTopic();
+        this.channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+        this.publishLatency = Timer.builder("redis.publish.latency")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("redis.publish.batch.size")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        this.failures = Counter.builder("redis.publish.failures")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        this.compressed = Counter.builder("redis.publish.compressed")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    @Autowired
+    public void setCompressionThreshold(@Value("${publisher.compression.threshold-bytes:-1}") int threshold) {
+        this.compressionThreshold = threshold;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
 
     public void publish(T event) {
+        byte[] message = compress(serialize(event));
+        send(() -> redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.publish(channelBytes, message)), 1);
+    }
+
+    public void publishSerialized(List<byte[]> payloads) {
+        List<byte[]> messages = payloads.stream().map(this::compress).toList();
+        send(() -> redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            messages.forEach(message -> connection.publish(channelBytes, message));
+            return null;
+        }), messages.size());
+    }
+
+    public byte[] serialize(T event) {
         try {
-            redisTemplate.convertAndSend(channelTopic.getTopic(), objectMapper.writeValueAsString(event));
+            return objectWriter.writeValueAsBytes(event);
         } catch (JsonProcessingException e) {
             String errorMessage = "Could not parse event: %s".formatted(event);
             log.error(errorMessage, e);
             throw new RuntimeException(errorMessage, e);
         }
     }
-}
\ No newline at end of file
+
+    protected void publishAll(List<T> events) {
+        publishSerialized(events.stream().map(this::serialize).toList());
+    }
+
+    private void send(Runnable command, int messages) {
+        batchSize.record(messages);
+        try {
+            publishLatency.record(command);
+        } catch (RuntimeException e) {
+            failures.increment(messages);
+            log.error("Could not publish {} events to {}", messages, channel, e);
+            throw e;
+        }
+    }
+
+    private byte[] compress(byte[] payload) {
+        if (compressionThreshold < 0 || payload.length <= compressionThreshold) {
+            return payload;
+        }
+        compressed.increment();
+        return gzip(payload);
+    }
+
+    private byte[] gzip(byte[] payload) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(payload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -1,6 +1,7 @@
 package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -11,7 +12,8 @@ import school.faang.user_service.dto.event.FollowerEventDto;
 public class FollowerEventPublisher extends EventPublisher<FollowerEventDto> {
     public FollowerEventPublisher(RedisTemplate<String, Object> redisTemplate,
                                   @Qualifier("followerChannelTopic") ChannelTopic followerChannelTopic,
-                                  ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, followerChannelTopic);
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        super(redisTemplate, objectMapper, followerChannelTopic, meterRegistry);
     }
 }
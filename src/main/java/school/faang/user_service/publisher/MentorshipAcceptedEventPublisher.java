@@ -1,6 +1,7 @@
 package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -11,7 +12,8 @@ import school.faang.user_service.dto.event.MentorshipAcceptedEvent;
 public class MentorshipAcceptedEventPublisher extends EventPublisher<MentorshipAcceptedEvent> {
     public MentorshipAcceptedEventPublisher(RedisTemplate<String, Object> redisTemplate,
                                   @Qualifier("mentorshipAcceptedChannelTopic") ChannelTopic mentorshipAcceptedChannelTopic,
-                                  ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, mentorshipAcceptedChannelTopic);
+                                  ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry) {
+        super(redisTemplate, objectMapper, mentorshipAcceptedChannelTopic, meterRegistry);
     }
 }
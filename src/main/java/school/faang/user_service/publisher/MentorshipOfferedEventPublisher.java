@@ -1,6 +1,7 @@
-package school.faang.user_service.publishier;
+package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
@@ -9,9 +10,10 @@ import school.faang.user_service.event.MentorshipOfferedEvent;
 @Component
 public class MentorshipOfferedEventPublisher extends EventPublisher<MentorshipOfferedEvent> {
 
-    public MentorshipOfferedEventPublisher(ObjectMapper objectMapper,
-                                           RedisTemplate<String, Object> redisTemplate,
-                                           ChannelTopic mentorshipOfferedChannel) {
-        super(objectMapper, redisTemplate, mentorshipOfferedChannel);
+    public MentorshipOfferedEventPublisher(RedisTemplate<String, Object> redisTemplate,
+                                           ObjectMapper objectMapper,
+                                           ChannelTopic mentorshipOfferedChannel,
+                                           MeterRegistry meterRegistry) {
+        super(redisTemplate, objectMapper, mentorshipOfferedChannel, meterRegistry);
     }
-}
\ No newline at end of file
+}
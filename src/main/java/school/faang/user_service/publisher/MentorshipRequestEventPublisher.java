@@ -1,6 +1,7 @@
 package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
@@ -13,7 +14,8 @@ public class MentorshipRequestEventPublisher extends EventPublisher<MentorshipRe
 
     public MentorshipRequestEventPublisher(RedisTemplate<String, Object> redisTemplate,
                                            ObjectMapper objectMapper,
-                                           @Qualifier("mentorshipRequestTopic") ChannelTopic mentorshipRequestTopic) {
-        super(redisTemplate, objectMapper, mentorshipRequestTopic);
+                                           @Qualifier("mentorshipRequestTopic") ChannelTopic mentorshipRequestTopic,
+                                           MeterRegistry meterRegistry) {
+        super(redisTemplate, objectMapper, mentorshipRequestTopic, meterRegistry);
     }
 }
@@ -1,6 +1,7 @@
 package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
@@ -10,7 +11,8 @@ import school.faang.user_service.event.MentorshipStartEvent;
 public class MentorshipStartEventPublisher extends EventPublisher<MentorshipStartEvent> {
     public MentorshipStartEventPublisher(RedisTemplate<String, Object> redisTemplate,
                                          ChannelTopic mentorshipChannelTopic,
-                                         ObjectMapper objectMapper) {
-        super(redisTemplate, objectMapper, mentorshipChannelTopic);
+                                         ObjectMapper objectMapper,
+                                         MeterRegistry meterRegistry) {
+        super(redisTemplate, objectMapper, mentorshipChannelTopic, meterRegistry);
     }
 }
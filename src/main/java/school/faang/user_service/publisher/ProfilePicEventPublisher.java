@@ -1,6 +1,7 @@
 package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
@@ -11,7 +12,8 @@ import school.faang.user_service.publisher.EventPublisher;
 public class ProfilePicEventPublisher extends EventPublisher<ProfilePicEvent> {
     public ProfilePicEventPublisher(RedisTemplate<String, Object> redisTemplate,
                                     ObjectMapper objectMapper,
-                                    ChannelTopic profilePictureTopic) {
-        super(redisTemplate, objectMapper, profilePictureTopic);
+                                    ChannelTopic profilePictureTopic,
+                                    MeterRegistry meterRegistry) {
+        super(redisTemplate, objectMapper, profilePictureTopic, meterRegistry);
     }
 }
@@ -1,18 +1,33 @@
 package school.faang.user_service.publisher;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.event.ProfileViewEvent;
 
+import java.time.Duration;
+import java.util.List;
+
 @Component
-public class ProfileViewEventPublisher extends EventPublisher<ProfileViewEvent> {
+public class ProfileViewEventPublisher extends AsyncEventPublisher<ProfileViewEvent> {
 
     public ProfileViewEventPublisher(RedisTemplate<String, Object> redisTemplate,
                                      ObjectMapper objectMapper,
-                                     @Qualifier("profileViewTopic") ChannelTopic channelTopic) {
-        super(redisTemplate, objectMapper, channelTopic);
+                                     @Qualifier("profileViewTopic") ChannelTopic channelTopic,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${publisher.profile-view.buffer-size}") int bufferSize,
+                                     @Value("${publisher.profile-view.batch-size}") int batchSize,
+                                     @Value("${publisher.profile-view.backpressure}") BackpressurePolicy backpressure,
+                                     @Value("${publisher.profile-view.deduplication-window}") Duration deduplication) {
+        super(redisTemplate, objectMapper, channelTopic, meterRegistry, bufferSize, batchSize, backpressure, deduplication);
+    }
+
+    @Override
+    protected Object deduplicationKey(ProfileViewEvent event) {
+        return List.of(event.getViewerId(), event.getViewedId());
     }
-}
\ No newline at end of file
+}
@@ -1,26 +0,0 @@
-package school.faang.user_service.publishier;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.listener.ChannelTopic;
-
-@Slf4j
-@RequiredArgsConstructor
-public abstract class EventPublisher<T> {
-
-    private final ObjectMapper objectMapper;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelTopic channelTopic;
-
-    public void publish(T event) {
-        try {
-            redisTemplate.convertAndSend(channelTopic.getTopic(), objectMapper.writeValueAsString(event));
-        } catch (JsonProcessingException e) {
-            log.error("Could not parse event {} to JSON", event, e);
-            throw new RuntimeException(e);
-        }
-    }
-}
\ No newline at end of file
@@ -0,0 +1,55 @@
+package school.faang.user_service.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * Base of the repository fragments implementing {@link SpecificationSliceExecutor}. Spring Data shares one fragment
+ * instance per fragment interface and does not tell it the entity type, so every entity gets a subclass that only
+ * passes its class in.
+ */
+public abstract class AbstractSpecificationSliceExecutor<T> implements SpecificationSliceExecutor<T> {
+    private final EntityManager entityManager;
+    private final Class<T> domainClass;
+
+    protected AbstractSpecificationSliceExecutor(EntityManager entityManager, Class<T> domainClass) {
+        this.entityManager = entityManager;
+        this.domainClass = domainClass;
+    }
+
+    @Override
+    public Slice<T> findSlice(Specification<T> specification, Pageable pageable) {
+        List<T> content = createQuery(specification, pageable.getSort())
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
+    }
+
+    protected TypedQuery<T> createQuery(Specification<T> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query);
+    }
+}
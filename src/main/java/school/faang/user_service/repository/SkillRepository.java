@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.Skill;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -38,14 +39,32 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
             """)
     Optional<Skill> findUserSkill(long skillId, long userId);
 
-    @Query(nativeQuery = true, value = "INSERT INTO user_skill (skill_id, user_id) VALUES (:skillId, :userId)")
+    /**
+     * Gives the user every existing skill of {@code skillIds} they do not hold yet.
+     *
+     * @return number of skills actually assigned
+     */
+    @Query(nativeQuery = true, value = """
+            INSERT INTO user_skill (user_id, skill_id)
+            SELECT :userId, s.id FROM skill s
+            WHERE s.id IN (:skillIds)
+            ON CONFLICT (user_id, skill_id) DO NOTHING
+            """)
     @Modifying
-    void assignSkillToUser(long skillId, long userId);
+    int assignSkillsToUser(long userId, Collection<Long> skillIds);
 
+    /**
+     * Gives every participant of the goal each skill the goal teaches, skipping skills a participant already holds.
+     *
+     * @return number of user skills actually assigned
+     */
     @Query(nativeQuery = true, value = """
-            SELECT s.* FROM skill s
-            WHERE s.id IN (SELECT gs.skill_id FROM goal_skill gs
-            WHERE gs.goal_id = ?1)
+            INSERT INTO user_skill (user_id, skill_id)
+            SELECT ug.user_id, gs.skill_id FROM user_goal ug
+            JOIN goal_skill gs ON gs.goal_id = ug.goal_id
+            WHERE ug.goal_id = :goalId
+            ON CONFLICT (user_id, skill_id) DO NOTHING
             """)
-    List<Skill> findSkillsByGoalId(long goalId);
+    @Modifying
+    int assignGoalSkillsToParticipants(long goalId);
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package school.faang.user_service.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface SpecificationSliceExecutor<T> {
+
+    /**
+     * Page without the COUNT query of {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor#findAll(
+     * Specification, Pageable)}: one extra row is fetched to tell whether a next page exists.
+     */
+    Slice<T> findSlice(Specification<T> specification, Pageable pageable);
+}
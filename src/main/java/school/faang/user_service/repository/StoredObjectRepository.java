@@ -0,0 +1,65 @@
+package school.faang.user_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.entity.StoredObject;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StoredObjectRepository extends JpaRepository<StoredObject, String> {
+
+    // Waits for a concurrent insert of the same key, so only one caller gets 1 and uploads the object.
+    // Transactional on its own for streamed uploads, which register the object outside the caller's transaction.
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO stored_object (object_key, size) VALUES (:objectKey, :size)
+            ON CONFLICT (object_key) DO NOTHING
+            """)
+    int insertIfAbsent(String objectKey, long size);
+
+    // Waits for a collector holding the rows, so 0 affected rows for a known key means it was just collected.
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE stored_object SET updated_at = now()
+            WHERE object_key IN (:objectKeys)
+            """)
+    int touch(Collection<String> objectKeys);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE stored_object SET ref_count = ref_count + 1, updated_at = now()
+            WHERE object_key IN (:objectKeys)
+            """)
+    int retain(Collection<String> objectKeys);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE stored_object SET ref_count = ref_count - 1, updated_at = now()
+            WHERE object_key IN (:objectKeys) AND ref_count > 0
+            """)
+    int release(Collection<String> objectKeys);
+
+    // SKIP LOCKED lets a second collector take the next batch instead of deleting the same objects twice.
+    @Query(nativeQuery = true, value = """
+            SELECT object_key FROM stored_object
+            WHERE ref_count = 0 AND updated_at < :unreferencedSince
+            ORDER BY updated_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """)
+    List<String> lockUnreferenced(LocalDateTime unreferencedSince, int limit);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            DELETE FROM stored_object
+            WHERE object_key IN (:objectKeys) AND ref_count = 0
+            """)
+    int deleteUnreferenced(Collection<String> objectKeys);
+}
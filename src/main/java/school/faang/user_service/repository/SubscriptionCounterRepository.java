@@ -0,0 +1,73 @@
+package school.faang.user_service.repository;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+import school.faang.user_service.entity.SubscriptionCounter;
+
+import java.util.Optional;
+
+@Repository
+public interface SubscriptionCounterRepository extends CrudRepository<SubscriptionCounter, Long> {
+
+    @Query("select c.followersCount from SubscriptionCounter c where c.userId = :userId")
+    Optional<Integer> findFollowersCount(long userId);
+
+    @Query("select c.followeesCount from SubscriptionCounter c where c.userId = :userId")
+    Optional<Integer> findFolloweesCount(long userId);
+
+    // Rows are upserted in user_id order so two crossing follows cannot deadlock on each other's counters.
+    @Query(nativeQuery = true, value = """
+            insert into subscription_counter (user_id, followers_count, followees_count)
+            select v.user_id, v.followers_delta, v.followees_delta
+            from (values (:followeeId, :delta, 0), (:followerId, 0, :delta))
+                as v(user_id, followers_delta, followees_delta)
+            order by v.user_id
+            on conflict (user_id) do update
+            set followers_count = subscription_counter.followers_count + excluded.followers_count,
+                followees_count = subscription_counter.followees_count + excluded.followees_count
+            """)
+    @Modifying
+    void addSubscription(long followerId, long followeeId, int delta);
+
+    @Query(nativeQuery = true, value = """
+            select max(id) from (
+                select id from users where id > :afterId order by id limit :batchSize
+            ) as batch
+            """)
+    Long findBatchUpperBound(long afterId, int batchSize);
+
+    @Query(nativeQuery = true, value = """
+            select coalesce(sum(abs(coalesce(c.followers_count, 0) - actual.followers_count)
+                              + abs(coalesce(c.followees_count, 0) - actual.followees_count)), 0)
+            from (
+                select u.id as user_id,
+                       (select count(*) from subscription s where s.followee_id = u.id) as followers_count,
+                       (select count(*) from subscription s where s.follower_id = u.id) as followees_count
+                from users u
+                where u.id > :afterId and u.id <= :upToId
+            ) as actual
+            left join subscription_counter c on c.user_id = actual.user_id
+            """)
+    long sumDrift(long afterId, long upToId);
+
+    // Applies the drift as a delta against the counter value read in the same snapshot as the recount. A follow
+    // that commits in between is missing from both, and the delta is added to the row it already incremented.
+    @Query(nativeQuery = true, value = """
+            insert into subscription_counter (user_id, followers_count, followees_count)
+            select u.id,
+                   (select count(*) from subscription s where s.followee_id = u.id) - coalesce(c.followers_count, 0),
+                   (select count(*) from subscription s where s.follower_id = u.id) - coalesce(c.followees_count, 0)
+            from users u
+            left join subscription_counter c on c.user_id = u.id
+            where u.id > :afterId and u.id <= :upToId
+            order by u.id
+            on conflict (user_id) do update
+            set followers_count = subscription_counter.followers_count + excluded.followers_count,
+                followees_count = subscription_counter.followees_count + excluded.followees_count
+            where excluded.followers_count <> 0 or excluded.followees_count <> 0
+            """)
+    @Modifying
+    int reconcile(long afterId, long upToId);
+}
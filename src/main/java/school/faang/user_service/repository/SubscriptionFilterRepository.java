@@ -0,0 +1,33 @@
+package school.faang.user_service.repository;
+
+import org.springframework.data.domain.Pageable;
+import school.faang.user_service.dto.user.UserFilterDto;
+import school.faang.user_service.entity.Subscription;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.filter.userFilter.QueryableUserFilter;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface SubscriptionFilterRepository {
+
+    List<User> findFollowers(long followeeId, List<QueryableUserFilter> filters, UserFilterDto filterDto,
+                             Pageable pageable);
+
+    long countFollowers(long followeeId, List<QueryableUserFilter> filters, UserFilterDto filterDto);
+
+    List<Subscription> findFollowerSubscriptions(long followeeId, List<QueryableUserFilter> filters,
+                                                 UserFilterDto filterDto, Long cursor, int limit);
+
+    Stream<User> streamFollowers(long followeeId, List<QueryableUserFilter> filters, UserFilterDto filterDto);
+
+    List<User> findFollowees(long followerId, List<QueryableUserFilter> filters, UserFilterDto filterDto,
+                             Pageable pageable);
+
+    long countFollowees(long followerId, List<QueryableUserFilter> filters, UserFilterDto filterDto);
+
+    List<Subscription> findFolloweeSubscriptions(long followerId, List<QueryableUserFilter> filters,
+                                                 UserFilterDto filterDto, Long cursor, int limit);
+
+    Stream<User> streamFollowees(long followerId, List<QueryableUserFilter> filters, UserFilterDto filterDto);
+}
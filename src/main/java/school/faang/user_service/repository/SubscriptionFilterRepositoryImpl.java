@@ -0,0 +1,155 @@
+package school.faang.user_service.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import school.faang.user_service.dto.user.UserFilterDto;
+import school.faang.user_service.entity.Subscription;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.filter.userFilter.QueryableUserFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class SubscriptionFilterRepositoryImpl implements SubscriptionFilterRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<User> findFollowers(long followeeId, List<QueryableUserFilter> filters, UserFilterDto filterDto,
+                                    Pageable pageable) {
+        return findUsers(Side.FOLLOWERS, followeeId, filters, filterDto, pageable);
+    }
+
+    @Override
+    public long countFollowers(long followeeId, List<QueryableUserFilter> filters, UserFilterDto filterDto) {
+        return countUsers(Side.FOLLOWERS, followeeId, filters, filterDto);
+    }
+
+    @Override
+    public List<Subscription> findFollowerSubscriptions(long followeeId, List<QueryableUserFilter> filters,
+                                                        UserFilterDto filterDto, Long cursor, int limit) {
+        return findSubscriptions(Side.FOLLOWERS, followeeId, filters, filterDto, cursor, limit);
+    }
+
+    @Override
+    public Stream<User> streamFollowers(long followeeId, List<QueryableUserFilter> filters, UserFilterDto filterDto) {
+        return streamUsers(Side.FOLLOWERS, followeeId, filters, filterDto);
+    }
+
+    @Override
+    public List<User> findFollowees(long followerId, List<QueryableUserFilter> filters, UserFilterDto filterDto,
+                                    Pageable pageable) {
+        return findUsers(Side.FOLLOWEES, followerId, filters, filterDto, pageable);
+    }
+
+    @Override
+    public long countFollowees(long followerId, List<QueryableUserFilter> filters, UserFilterDto filterDto) {
+        return countUsers(Side.FOLLOWEES, followerId, filters, filterDto);
+    }
+
+    @Override
+    public List<Subscription> findFolloweeSubscriptions(long followerId, List<QueryableUserFilter> filters,
+                                                        UserFilterDto filterDto, Long cursor, int limit) {
+        return findSubscriptions(Side.FOLLOWEES, followerId, filters, filterDto, cursor, limit);
+    }
+
+    @Override
+    public Stream<User> streamFollowees(long followerId, List<QueryableUserFilter> filters, UserFilterDto filterDto) {
+        return streamUsers(Side.FOLLOWEES, followerId, filters, filterDto);
+    }
+
+    private List<User> findUsers(Side side, long userId, List<QueryableUserFilter> filters, UserFilterDto filterDto,
+                                 Pageable pageable) {
+        TypedQuery<User> query = entityManager.createQuery(usersQuery(side, userId, filters, filterDto));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query.getResultList();
+    }
+
+    private Stream<User> streamUsers(Side side, long userId, List<QueryableUserFilter> filters,
+                                     UserFilterDto filterDto) {
+        return entityManager.createQuery(usersQuery(side, userId, filters, filterDto))
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private CriteriaQuery<User> usersQuery(Side side, long userId, List<QueryableUserFilter> filters,
+                                           UserFilterDto filterDto) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<Subscription> subscription = query.from(Subscription.class);
+        Join<Subscription, User> user = subscription.join(side.target);
+        return query.select(user)
+                .where(toPredicates(side, userId, subscription, user, query, cb, filters, filterDto)
+                        .toArray(Predicate[]::new))
+                .orderBy(cb.asc(subscription.get("id")));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Subscription> findSubscriptions(Side side, long userId, List<QueryableUserFilter> filters,
+                                                 UserFilterDto filterDto, Long cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Subscription> query = cb.createQuery(Subscription.class);
+        Root<Subscription> subscription = query.from(Subscription.class);
+        Join<Subscription, User> user = (Join<Subscription, User>) subscription.<Subscription, User>fetch(side.target);
+
+        List<Predicate> predicates = toPredicates(side, userId, subscription, user, query, cb, filters, filterDto);
+        if (cursor != null) {
+            predicates.add(cb.greaterThan(subscription.get("id"), cursor));
+        }
+        query.select(subscription)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(subscription.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private long countUsers(Side side, long userId, List<QueryableUserFilter> filters, UserFilterDto filterDto) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Subscription> subscription = query.from(Subscription.class);
+        Join<Subscription, User> user = subscription.join(side.target);
+        query.select(cb.count(subscription))
+                .where(toPredicates(side, userId, subscription, user, query, cb, filters, filterDto)
+                        .toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> toPredicates(Side side, long userId, Root<Subscription> subscription,
+                                         From<?, User> user, CriteriaQuery<?> query, CriteriaBuilder cb,
+                                         List<QueryableUserFilter> filters, UserFilterDto filterDto) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(subscription.get(side.owner).get("id"), userId));
+        filters.forEach(filter -> predicates.add(filter.toPredicate(user, query, cb, filterDto)));
+        return predicates;
+    }
+
+    private enum Side {
+        FOLLOWERS("followee", "follower"),
+        FOLLOWEES("follower", "followee");
+
+        private final String owner;
+        private final String target;
+
+        Side(String owner, String target) {
+            this.owner = owner;
+            this.target = target;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package school.faang.user_service.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import school.faang.user_service.entity.UserDeactivation;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface UserDeactivationRepository extends JpaRepository<UserDeactivation, Long> {
+
+    // A finished job is restarted when the user is deactivated again; a running one is left where it is.
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            INSERT INTO user_deactivation (user_id, stage) VALUES (:userId, 'SOLO_GOALS')
+            ON CONFLICT (user_id) DO UPDATE SET stage = 'SOLO_GOALS', processed = 0, created_at = now(),
+                                                updated_at = now()
+            WHERE user_deactivation.stage = 'DONE'
+            """)
+    void enqueue(long userId);
+
+    @Query(nativeQuery = true, value = """
+            SELECT user_id FROM user_deactivation
+            WHERE stage <> 'DONE'
+            ORDER BY created_at
+            LIMIT :limit
+            """)
+    List<Long> findUnfinishedUserIds(int limit);
+
+    // SKIP LOCKED lets a second worker move on instead of running the same chunk twice.
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM user_deactivation
+            WHERE user_id = :userId AND stage <> 'DONE'
+            FOR UPDATE SKIP LOCKED
+            """)
+    Optional<UserDeactivation> lockUnfinished(long userId);
+}
@@ -1,12 +1,17 @@
 package school.faang.user_service.repository;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.projection.UserTransportSummary;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 @Repository
@@ -27,7 +32,23 @@ public interface UserRepository extends JpaRepository<User, Long> {
             """)
     Stream<User> findPremiumUsers();
 
+    @Query("SELECT u FROM User u LEFT JOIN FETCH u.country WHERE u.id = :id")
+    Optional<User> findWithCountryById(long id);
+
+    @Query("""
+            SELECT u.id AS id, u.username AS username, u.email AS email, u.phone AS phone, cp.preference AS preference
+            FROM User u LEFT JOIN u.contactPreference cp
+            WHERE u.id IN :ids
+            """)
+    List<UserTransportSummary> findTransportSummariesByIdIn(Collection<Long> ids);
+
+    long countByIdIn(Collection<Long> ids);
+
     @Modifying
     @Query("UPDATE User u SET u.banned = true WHERE u.id = :id")
     void banUserById(Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdForUpdate(long userId);
 }
\ No newline at end of file
@@ -1,9 +1,28 @@
 package school.faang.user_service.repository;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.UserSkillGuarantee;
 
+import java.util.Collection;
+
 @Repository
 public interface UserSkillGuaranteeRepository extends CrudRepository<UserSkillGuarantee, Long> {
-}
\ No newline at end of file
+
+    /**
+     * Guarantees every offered skill the user already has, unless this guarantor already vouched for it.
+     */
+    @Query(nativeQuery = true, value = """
+            INSERT INTO user_skill_guarantee (user_id, skill_id, guarantor_id)
+            SELECT us.user_id, us.skill_id, :guarantorId FROM user_skill us
+            WHERE us.user_id = :userId AND us.skill_id IN (:skillIds)
+            AND NOT EXISTS (
+                SELECT 1 FROM user_skill_guarantee usg
+                WHERE usg.user_id = us.user_id AND usg.skill_id = us.skill_id AND usg.guarantor_id = :guarantorId
+            )
+            """)
+    @Modifying
+    int addGuarantees(long userId, long guarantorId, Collection<Long> skillIds);
+}
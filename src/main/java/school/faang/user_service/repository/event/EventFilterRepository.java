@@ -0,0 +1,15 @@
+package school.faang.user_service.repository.event;
+
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.event.EventCursorDto;
+import school.faang.user_service.entity.event.Event;
+
+import java.util.List;
+
+public interface EventFilterRepository {
+
+    /**
+     * Keyset page ordered by (start_date, id). {@code cursor} is the position of the last event of the previous page.
+     */
+    List<Event> findPage(Specification<Event> specification, EventCursorDto cursor, int limit);
+}
@@ -0,0 +1,55 @@
+package school.faang.user_service.repository.event;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.event.EventCursorDto;
+import school.faang.user_service.entity.event.Event;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class EventFilterRepositoryImpl implements EventFilterRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Event> findPage(Specification<Event> specification, EventCursorDto cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Event> query = cb.createQuery(Event.class);
+        Root<Event> event = query.from(Event.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate filters = specification.toPredicate(event, query, cb);
+        if (filters != null) {
+            predicates.add(filters);
+        }
+        if (cursor != null) {
+            predicates.add(after(event, cb, cursor));
+        }
+        query.select(event)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.asc(event.get("startDate")), cb.asc(event.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    // (start_date, id) > cursor. The redundant start_date >= bound lets Postgres start the range scan
+    // of the (start_date, id) index at the cursor instead of filtering from the first row.
+    private Predicate after(Root<Event> event, CriteriaBuilder cb, EventCursorDto cursor) {
+        Path<LocalDateTime> startDate = event.get("startDate");
+        return cb.and(
+                cb.greaterThanOrEqualTo(startDate, cursor.getStartDate()),
+                cb.or(
+                        cb.greaterThan(startDate, cursor.getStartDate()),
+                        cb.greaterThan(event.get("id"), cursor.getId())));
+    }
+}
@@ -5,26 +5,39 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.projection.UserSummary;
 
 import java.util.List;
 
 @Repository
 public interface EventParticipationRepository extends JpaRepository<User, Long> {
 
+    /**
+     * @return 1 if the user was registered, 0 if they already were
+     */
     @Modifying
-    @Query(nativeQuery = true, value = "INSERT INTO user_event (event_id, user_id) VALUES (:eventId, :userId)")
-    void register(long eventId, long userId);
+    @Query(nativeQuery = true, value = """
+            INSERT INTO user_event (event_id, user_id) VALUES (:eventId, :userId)
+            ON CONFLICT (event_id, user_id) DO NOTHING
+            """)
+    int register(long eventId, long userId);
 
     @Modifying
     @Query(nativeQuery = true, value = "DELETE FROM user_event WHERE event_id = :eventId and user_id = :userId")
-    void unregister(long eventId, long userId);
+    int unregister(long eventId, long userId);
 
     @Query(nativeQuery = true, value = """
-            SELECT u.* FROM user u
-            JOIN user_event ue ON u.id = ue.user_id
-            WHERE ue.event_id = :eventId
+            SELECT EXISTS (SELECT 1 FROM user_event ue WHERE ue.event_id = :eventId AND ue.user_id = :userId)
+            """)
+    boolean existsRegistration(long eventId, long userId);
+
+    @Query("""
+            SELECT u.id AS id, u.username AS username, u.email AS email, u.phone AS phone,
+                   u.active AS active, u.country.id AS countryId
+            FROM User u JOIN u.participatedEvents e
+            WHERE e.id = :eventId
             """)
-    List<User> findAllParticipantsByEventId(long eventId);
+    List<UserSummary> findParticipantSummariesByEventId(long eventId);
 
     @Query(nativeQuery = true, value = """
             SELECT COUNT(ue.id) FROM user_event ue
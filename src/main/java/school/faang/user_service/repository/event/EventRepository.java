@@ -1,6 +1,7 @@
 package school.faang.user_service.repository.event;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.event.Event;
@@ -8,7 +9,7 @@ import school.faang.user_service.entity.event.Event;
 import java.util.List;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, EventFilterRepository {
 
     @Query(nativeQuery = true, value = """
             SELECT e.* FROM event e
@@ -22,4 +23,33 @@ public interface EventRepository extends JpaRepository<Event, Long> {
             WHERE ue.user_id = :userId
             """)
     List<Event> findParticipatedEventsByUserId(long userId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE event SET status = 2, updated_at = now()
+            WHERE id IN (SELECT e.id FROM event e WHERE e.user_id = :userId AND e.status = 0 LIMIT :limit)
+            """)
+    int cancelPlannedEventsOfOwner(long userId, int limit);
+
+    /**
+     * Takes a seat if the event has one left; a max_attendees of zero or less means the event is not capped.
+     * The row lock is held only until the registering transaction ends, so concurrent registrations queue
+     * on this event alone and can never push attendees_count past the cap.
+     *
+     * @return 1 if a seat was taken, 0 if the event is full or does not exist
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE event SET attendees_count = attendees_count + 1
+            WHERE id = :eventId
+            AND (max_attendees IS NULL OR max_attendees <= 0 OR attendees_count < max_attendees)
+            """)
+    int reserveSeat(long eventId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE event SET attendees_count = attendees_count - 1
+            WHERE id = :eventId AND attendees_count > 0
+            """)
+    int releaseSeat(long eventId);
 }
\ No newline at end of file
@@ -1,7 +1,12 @@
 package school.faang.user_service.repository.goal;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.entity.goal.Goal;
@@ -10,20 +15,27 @@ import java.util.List;
 import java.util.stream.Stream;
 
 @Repository
-public interface GoalRepository extends CrudRepository<Goal, Long> {
+public interface GoalRepository extends JpaRepository<Goal, Long>, JpaSpecificationExecutor<Goal> {
 
     @Query(nativeQuery = true, value = """
-            SELECT * FROM goal g
-            JOIN user_goal ug ON g.id = ug.goal_id
-            WHERE ug.user_id = ?1
+            INSERT INTO goal (title, description, parent_goal_id, status, created_at, updated_at)
+            VALUES (?1, ?2, ?3, 0, NOW(), NOW()) RETURNING id
             """)
-    Stream<Goal> findGoalsByUserId(long userId);
+    Long create(String title, String description, Long parent);
 
+    /**
+     * Adds the closure rows of a new goal: a copy of every path to its parent extended by one level, plus the goal
+     * itself at depth 0. Goals never change parent, so this is the only write the hierarchy needs.
+     */
+    @Modifying
     @Query(nativeQuery = true, value = """
-            INSERT INTO goal (title, description, parent_goal_id, status, created_at, updated_at)
-            VALUES (?1, ?2, ?3, 0, NOW(), NOW()) returning goal
+            INSERT INTO goal_closure (ancestor_id, descendant_id, depth)
+            SELECT gc.ancestor_id, :goalId, gc.depth + 1 FROM goal_closure gc
+            WHERE gc.descendant_id = :parentId
+            UNION ALL
+            SELECT :goalId, :goalId, 0
             """)
-    Goal create(String title, String description, Long parent);
+    void addToHierarchy(long goalId, Long parentId);
 
     @Query(nativeQuery = true, value = """
             SELECT COUNT(ug.goal_id) FROM user_goal ug
@@ -32,16 +44,16 @@ public interface GoalRepository extends CrudRepository<Goal, Long> {
             """)
     int countActiveGoalsPerUser(long userId);
 
+    /**
+     * Deletes the goal with all of its subtasks in one statement. Closure rows, user links, skills and invitations
+     * of the deleted goals are removed by their cascading foreign keys.
+     */
+    @Modifying(clearAutomatically = true)
     @Query(nativeQuery = true, value = """
-            WITH RECURSIVE subtasks AS (
-            SELECT * FROM goal WHERE id = :goalId
-            UNION
-            SELECT g.* FROM goal g
-            JOIN subtasks st ON st.id = g.parent_goal_id
-            )
-            SELECT * FROM subtasks WHERE id != :goalId
+            DELETE FROM goal
+            WHERE id IN (SELECT gc.descendant_id FROM goal_closure gc WHERE gc.ancestor_id = :goalId)
             """)
-    Stream<Goal> findByParent(long goalId);
+    int deleteSubtree(long goalId);
 
     @Query(nativeQuery = true, value = """
             SELECT u.* FROM users u
@@ -50,9 +62,58 @@ public interface GoalRepository extends CrudRepository<Goal, Long> {
             """)
     List<User> findUsersByGoalId(long goalId);
 
+    /**
+     * Deletes, with their subtasks, up to {@code limit} goals the user works on alone. A subtask somebody else works
+     * on is kept together with its own subtasks and becomes a top-level goal, since its parent is deleted in the same
+     * statement.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            WITH solo AS (SELECT ug.goal_id FROM user_goal ug
+                          WHERE ug.user_id = :userId
+                          AND NOT EXISTS (SELECT 1 FROM user_goal other
+                                          WHERE other.goal_id = ug.goal_id AND other.user_id <> :userId)
+                          LIMIT :limit),
+            doomed AS (SELECT gc.descendant_id AS id FROM goal_closure gc
+                       WHERE gc.ancestor_id IN (SELECT goal_id FROM solo)
+                       AND NOT EXISTS (SELECT 1 FROM goal_closure up
+                                       JOIN user_goal other ON other.goal_id = up.ancestor_id
+                                       WHERE up.descendant_id = gc.descendant_id AND up.depth <= gc.depth
+                                       AND other.user_id <> :userId)),
+            detached AS (UPDATE goal SET parent_goal_id = NULL, updated_at = now()
+                         WHERE parent_goal_id IN (SELECT id FROM doomed) AND id NOT IN (SELECT id FROM doomed))
+            DELETE FROM goal
+            WHERE id IN (SELECT id FROM doomed)
+            """)
+    int deleteSoloGoalsOfUser(long userId, int limit);
+
+    @Modifying
     @Query(nativeQuery = true, value = """
-            SELECT title FROM goal
+            DELETE FROM user_goal
+            WHERE id IN (SELECT ug.id FROM user_goal ug WHERE ug.user_id = :userId LIMIT :limit)
             """)
-    List<String> findAllGoalTitles();
+    int unlinkUserFromGoals(long userId, int limit);
+
+    /**
+     * Hands up to {@code limit} goals mentored by {@code mentorId} over to one of the mentor's mentees working on them.
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE goal g SET mentor_id = pick.mentee_id, updated_at = now()
+            FROM (SELECT ug.goal_id, min(ug.user_id) AS mentee_id FROM goal mg
+                  JOIN user_goal ug ON ug.goal_id = mg.id
+                  JOIN mentorship m ON m.mentee_id = ug.user_id AND m.mentor_id = :mentorId
+                  WHERE mg.mentor_id = :mentorId
+                  GROUP BY ug.goal_id
+                  LIMIT :limit) pick
+            WHERE g.id = pick.goal_id
+            """)
+    int handOverMentoredGoals(long mentorId, int limit);
+
+    boolean existsByTitle(String title);
+
+    @Query("SELECT g.title FROM Goal g")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamAllTitles();
 
 }
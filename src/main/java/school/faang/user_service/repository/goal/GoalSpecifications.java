@@ -0,0 +1,31 @@
+package school.faang.user_service.repository.goal;
+
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.entity.goal.Goal;
+import school.faang.user_service.entity.goal.GoalClosure;
+
+public final class GoalSpecifications {
+
+    private GoalSpecifications() {
+    }
+
+    /**
+     * Descendants of {@code goalId} at most {@code maxDepth} levels below it, read from the goal_closure table.
+     */
+    public static Specification<Goal> subtreeOf(long goalId, int maxDepth) {
+        return (goal, query, cb) -> {
+            Subquery<Long> descendants = query.subquery(Long.class);
+            Root<GoalClosure> closure = descendants.from(GoalClosure.class);
+            descendants.select(closure.get("descendantId"))
+                    .where(cb.equal(closure.get("ancestorId"), goalId),
+                            cb.between(closure.get("depth"), 1, maxDepth));
+            return goal.get("id").in(descendants);
+        };
+    }
+
+    public static Specification<Goal> ownedBy(long userId) {
+        return (goal, query, cb) -> cb.equal(goal.join("users").get("id"), userId);
+    }
+}
@@ -1,9 +1,37 @@
 package school.faang.user_service.repository.mentorship;
 
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.projection.UserSummary;
+
+import java.util.List;
 
 @Repository
 public interface MentorshipRepository extends CrudRepository<User, Long> {
+
+    @Query("""
+            SELECT mentee.id AS id, mentee.username AS username, mentee.email AS email, mentee.phone AS phone,
+                   mentee.active AS active, mentee.country.id AS countryId
+            FROM User mentor JOIN mentor.mentees mentee
+            WHERE mentor.id = :mentorId
+            """)
+    List<UserSummary> findMenteeSummaries(long mentorId);
+
+    @Query("""
+            SELECT mentor.id AS id, mentor.username AS username, mentor.email AS email, mentor.phone AS phone,
+                   mentor.active AS active, mentor.country.id AS countryId
+            FROM User mentee JOIN mentee.mentors mentor
+            WHERE mentee.id = :menteeId
+            """)
+    List<UserSummary> findMentorSummaries(long menteeId);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            DELETE FROM mentorship
+            WHERE id IN (SELECT m.id FROM mentorship m WHERE m.mentor_id = :mentorId LIMIT :limit)
+            """)
+    int deleteMenteesOf(long mentorId, int limit);
 }
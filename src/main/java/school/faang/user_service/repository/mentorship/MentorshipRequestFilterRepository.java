@@ -0,0 +1,13 @@
+package school.faang.user_service.repository.mentorship;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.entity.MentorshipRequest;
+import school.faang.user_service.repository.SpecificationSliceExecutor;
+
+import java.util.stream.Stream;
+
+public interface MentorshipRequestFilterRepository extends SpecificationSliceExecutor<MentorshipRequest> {
+
+    Stream<MentorshipRequest> stream(Specification<MentorshipRequest> specification, Sort sort);
+}
@@ -0,0 +1,26 @@
+package school.faang.user_service.repository.mentorship;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.entity.MentorshipRequest;
+import school.faang.user_service.repository.AbstractSpecificationSliceExecutor;
+
+import java.util.stream.Stream;
+
+public class MentorshipRequestFilterRepositoryImpl extends AbstractSpecificationSliceExecutor<MentorshipRequest>
+        implements MentorshipRequestFilterRepository {
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    public MentorshipRequestFilterRepositoryImpl(EntityManager entityManager) {
+        super(entityManager, MentorshipRequest.class);
+    }
+
+    @Override
+    public Stream<MentorshipRequest> stream(Specification<MentorshipRequest> specification, Sort sort) {
+        return createQuery(specification, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .getResultStream();
+    }
+}
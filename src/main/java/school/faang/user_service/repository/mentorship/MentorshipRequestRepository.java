@@ -1,6 +1,7 @@
 package school.faang.user_service.repository.mentorship;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,7 +10,8 @@ import school.faang.user_service.entity.MentorshipRequest;
 import java.util.Optional;
 
 @Repository
-public interface MentorshipRequestRepository extends JpaRepository<MentorshipRequest, Long> {
+public interface MentorshipRequestRepository extends JpaRepository<MentorshipRequest, Long>,
+        JpaSpecificationExecutor<MentorshipRequest>, MentorshipRequestFilterRepository {
 
     @Transactional
     @Query(nativeQuery = true, value = """
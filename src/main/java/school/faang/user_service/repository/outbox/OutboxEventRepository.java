@@ -0,0 +1,34 @@
+package school.faang.user_service.repository.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import school.faang.user_service.entity.outbox.OutboxEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // The transaction-scoped advisory lock gives one relay worker exclusive ownership of an aggregate,
+    // so its events are never published out of order by two workers; SKIP LOCKED lets other workers
+    // move on to the remaining aggregates instead of waiting.
+    @Query(nativeQuery = true, value = """
+            SELECT * FROM outbox_event
+            WHERE failed_at IS NULL
+            AND pg_try_advisory_xact_lock(hashtext(aggregate_type || ':' || aggregate_id))
+            ORDER BY id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """)
+    List<OutboxEvent> lockNextBatch(int batchSize);
+
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            UPDATE outbox_event SET failed_at = now()
+            WHERE id IN (:ids)
+            """)
+    int markFailed(Collection<Long> ids);
+}
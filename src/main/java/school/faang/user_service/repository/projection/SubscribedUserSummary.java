@@ -0,0 +1,6 @@
+package school.faang.user_service.repository.projection;
+
+public interface SubscribedUserSummary extends UserSummary {
+
+    Long getSubscriptionId();
+}
@@ -0,0 +1,21 @@
+package school.faang.user_service.repository.projection;
+
+/**
+ * Columns of {@code users} needed to build a {@link school.faang.user_service.dto.user.UserDto} for read-only
+ * listings. Selecting them directly keeps Hibernate from hydrating {@code User} with its eagerly fetched
+ * one-to-one associations.
+ */
+public interface UserSummary {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getPhone();
+
+    boolean isActive();
+
+    Long getCountryId();
+}
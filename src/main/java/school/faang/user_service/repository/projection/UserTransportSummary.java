@@ -0,0 +1,21 @@
+package school.faang.user_service.repository.projection;
+
+import school.faang.user_service.entity.contact.PreferredContact;
+
+/**
+ * Columns of {@code users} and {@code contact_preferences} needed to build a
+ * {@link school.faang.user_service.dto.user.UserTransportDto}. The preference keeps the entity enum; the mapper
+ * translates it to the one exposed by the API.
+ */
+public interface UserTransportSummary {
+
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+
+    String getPhone();
+
+    PreferredContact getPreference();
+}
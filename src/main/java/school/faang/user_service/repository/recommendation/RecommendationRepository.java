@@ -2,6 +2,7 @@ package school.faang.user_service.repository.recommendation;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
@@ -27,11 +28,23 @@ public interface RecommendationRepository extends CrudRepository<Recommendation,
     @Modifying
     void update(long authorId, long receiverId, String content);
 
+    @EntityGraph(attributePaths = {"author", "receiver"})
     Page<Recommendation> findAllByReceiverId(long receiverId, Pageable pageable);
-    List<Recommendation> findAllByReceiverId(long receiverId);
 
+    @EntityGraph(attributePaths = {"author", "receiver"})
     Page<Recommendation> findAllByAuthorId(long authorId, Pageable pageable);
-    List<Recommendation> findAllByAuthorId(long authorId);
+
+    /**
+     * Newest-first keyset page: rows below the cursor id, limited by the pageable size.
+     */
+    @EntityGraph(attributePaths = {"author", "receiver"})
+    List<Recommendation> findByReceiverIdAndIdLessThanOrderByIdDesc(long receiverId, long cursor, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"author", "receiver"})
+    List<Recommendation> findByAuthorIdAndIdLessThanOrderByIdDesc(long authorId, long cursor, Pageable pageable);
+
+    @Query("SELECT r.receiver.id FROM Recommendation r WHERE r.id = :id")
+    Optional<Long> findReceiverIdById(long id);
 
     Optional<Recommendation> findFirstByAuthorIdAndReceiverIdOrderByCreatedAtDesc(long authorId, long receiverId);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package school.faang.user_service.repository.recommendation;
+
+import school.faang.user_service.entity.recommendation.RecommendationRequest;
+import school.faang.user_service.repository.SpecificationSliceExecutor;
+
+public interface RecommendationRequestFilterRepository extends SpecificationSliceExecutor<RecommendationRequest> {
+}
@@ -0,0 +1,14 @@
+package school.faang.user_service.repository.recommendation;
+
+import jakarta.persistence.EntityManager;
+import school.faang.user_service.entity.recommendation.RecommendationRequest;
+import school.faang.user_service.repository.AbstractSpecificationSliceExecutor;
+
+public class RecommendationRequestFilterRepositoryImpl
+        extends AbstractSpecificationSliceExecutor<RecommendationRequest>
+        implements RecommendationRequestFilterRepository {
+
+    public RecommendationRequestFilterRepositoryImpl(EntityManager entityManager) {
+        super(entityManager, RecommendationRequest.class);
+    }
+}
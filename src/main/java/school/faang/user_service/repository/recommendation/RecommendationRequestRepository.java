@@ -1,7 +1,8 @@
 package school.faang.user_service.repository.recommendation;
 
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.entity.recommendation.RecommendationRequest;
@@ -9,7 +10,8 @@ import school.faang.user_service.entity.recommendation.RecommendationRequest;
 import java.util.Optional;
 
 @Repository
-public interface RecommendationRequestRepository extends CrudRepository<RecommendationRequest, Long> {
+public interface RecommendationRequestRepository extends JpaRepository<RecommendationRequest, Long>,
+        JpaSpecificationExecutor<RecommendationRequest>, RecommendationRequestFilterRepository {
 
     @Query(nativeQuery = true, value = """
             SELECT * FROM recommendation_request
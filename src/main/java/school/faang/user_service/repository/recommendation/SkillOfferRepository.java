@@ -1,10 +1,12 @@
 package school.faang.user_service.repository.recommendation;
 
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 import school.faang.user_service.entity.recommendation.SkillOffer;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -13,6 +15,19 @@ public interface SkillOfferRepository extends CrudRepository<SkillOffer, Long> {
     @Query(nativeQuery = true, value = "INSERT INTO skill_offer (skill_id, recommendation_id) VALUES (?1, ?2) returning id")
     Long create(long skillId, long recommendationId);
 
+    /**
+     * Writes all offers of a recommendation in one multi-row statement; unknown and repeated skill ids are skipped.
+     */
+    @Query(nativeQuery = true, value = """
+            INSERT INTO skill_offer (skill_id, recommendation_id)
+            SELECT s.id, :recommendationId FROM skill s
+            WHERE s.id IN (:skillIds)
+            """)
+    @Modifying
+    int createAll(long recommendationId, Collection<Long> skillIds);
+
+    @Query("DELETE FROM SkillOffer so WHERE so.recommendation.id = :recommendationId")
+    @Modifying
     void deleteAllByRecommendationId(long recommendationId);
 
     @Query(nativeQuery = true, value = """
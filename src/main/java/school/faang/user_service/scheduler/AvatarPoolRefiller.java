@@ -0,0 +1,69 @@
+package school.faang.user_service.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.cache.AvatarDiskCache;
+import school.faang.user_service.cache.AvatarKey;
+import school.faang.user_service.cache.AvatarPool;
+import school.faang.user_service.service.AvatarService;
+import school.faang.user_service.service.ContentStoreService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AvatarPoolRefiller {
+    private final AvatarService avatarService;
+    private final AvatarPool avatarPool;
+    private final AvatarDiskCache avatarDiskCache;
+    private final ContentStoreService contentStoreService;
+    // set while the avatars of a refill are still in the pipeline, so the next run does not queue the same gap twice
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    // Avatars already on disk are published first, so a restart refills the pool without calling DiceBear.
+    // The run only hands the avatars to the pipeline and returns, so it never holds the scheduler thread.
+    @Scheduled(fixedDelayString = "${services.avatar.pool.refill-interval}")
+    public void refill() {
+        contentStoreService.touch(avatarPool.objectKeys());
+        int missing = avatarPool.missing();
+        if (missing == 0 || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            CompletableFuture<?>[] published = Stream.concat(avatarDiskCache.keys().stream(),
+                            Stream.generate(avatarService::randomAvatarKey).limit(missing * 2L))
+                    .filter(key -> !avatarPool.contains(key))
+                    .distinct()
+                    .limit(missing)
+                    .map(this::publish)
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(published).whenComplete((ignored, e) -> {
+                refilling.set(false);
+                log.debug("Avatar pool refilled, {} avatars still missing", avatarPool.missing());
+            });
+        } catch (RuntimeException e) {
+            refilling.set(false);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<Void> publish(AvatarKey key) {
+        try {
+            return avatarService.prepare(key)
+                    .thenAccept(avatar -> avatarPool.add(key, avatar))
+                    .exceptionally(e -> {
+                        log.warn("Could not add avatar {} to the pool", key.id(), e);
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            log.debug("Avatar pipeline is busy, avatar {} is left for the next refill", key.id());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package school.faang.user_service.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.service.OutboxService;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+    private final OutboxService outboxService;
+    private final ThreadPoolExecutor threadPool;
+
+    @Value("${outbox.relay.batch-size}")
+    private int batchSize;
+
+    @Value("${outbox.relay.workers}")
+    private int workers;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.poll-interval}")
+    public void relay() {
+        CompletableFuture.allOf(IntStream.range(0, workers)
+                .mapToObj(worker -> CompletableFuture.runAsync(this::drain, threadPool))
+                .toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    private void drain() {
+        try {
+            while (outboxService.relayBatch(batchSize) == batchSize) {
+                log.debug("Outbox batch of {} relayed, polling again", batchSize);
+            }
+        } catch (RuntimeException e) {
+            log.error("Outbox relay failed, pending events will be retried", e);
+        }
+    }
+}
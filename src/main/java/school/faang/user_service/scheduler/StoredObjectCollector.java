@@ -0,0 +1,42 @@
+package school.faang.user_service.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.service.ContentStoreService;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoredObjectCollector {
+    private final ContentStoreService contentStoreService;
+
+    @Value("${services.s3.gc.grace-period}")
+    private Duration gracePeriod;
+
+    @Value("${services.s3.gc.batch-size}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${services.s3.gc.interval}")
+    public void collect() {
+        long collected = 0;
+        try {
+            int deleted;
+            do {
+                deleted = contentStoreService.collectGarbage(gracePeriod, batchSize);
+                collected += deleted;
+            } while (deleted == batchSize);
+        } catch (RuntimeException e) {
+            log.error("Stored object collection failed after {} objects, the rest is left for the next run",
+                    collected, e);
+            return;
+        }
+        if (collected > 0) {
+            log.info("Deleted {} unreferenced objects from S3", collected);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package school.faang.user_service.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.service.SubscriptionCounterService;
+import school.faang.user_service.service.SubscriptionCounterService.ReconciliationBatch;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class SubscriptionCounterReconciler {
+    private final SubscriptionCounterService subscriptionCounterService;
+    private final AtomicLong lastDrift = new AtomicLong();
+    private final Counter reconciledRows;
+
+    @Value("${subscription-counter.reconciliation.batch-size}")
+    private int batchSize;
+
+    public SubscriptionCounterReconciler(SubscriptionCounterService subscriptionCounterService,
+                                         MeterRegistry meterRegistry) {
+        this.subscriptionCounterService = subscriptionCounterService;
+        Gauge.builder("subscription.counter.drift", lastDrift, AtomicLong::get)
+                .description("Total follower/followee counter drift found by the last reconciliation pass")
+                .register(meterRegistry);
+        this.reconciledRows = Counter.builder("subscription.counter.reconciled")
+                .description("Subscription counter rows rewritten by reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${subscription-counter.reconciliation.cron}")
+    public void reconcile() {
+        long afterId = 0;
+        long drift = 0;
+        Optional<ReconciliationBatch> batch;
+        while ((batch = subscriptionCounterService.reconcileBatch(afterId, batchSize)).isPresent()) {
+            afterId = batch.get().lastUserId();
+            drift += batch.get().drift();
+            reconciledRows.increment(batch.get().reconciledRows());
+        }
+        lastDrift.set(drift);
+        if (drift > 0) {
+            log.warn("Subscription counters drifted by {}, reconciled up to user {}", drift, afterId);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package school.faang.user_service.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.service.UserDeactivationService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDeactivationWorker {
+    private final UserDeactivationService userDeactivationService;
+
+    @Value("${user.deactivation.batch-size}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${user.deactivation.poll-interval}")
+    public void run() {
+        userDeactivationService.findUnfinished(batchSize).forEach(this::drain);
+    }
+
+    private void drain(long userId) {
+        try {
+            while (userDeactivationService.processChunk(userId)) {
+                log.debug("Deactivation chunk of user {} committed, continuing", userId);
+            }
+        } catch (RuntimeException e) {
+            log.error("Deactivation of user {} failed, it will resume from the last committed chunk", userId, e);
+        }
+    }
+}
@@ -4,14 +4,34 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import school.faang.user_service.cache.AvatarDiskCache;
+import school.faang.user_service.cache.AvatarImages;
+import school.faang.user_service.cache.AvatarKey;
+import school.faang.user_service.cache.AvatarPool;
+import school.faang.user_service.cache.StoredAvatar;
+import school.faang.user_service.cache.UserCache;
 import school.faang.user_service.config.AvatarConfig;
+import school.faang.user_service.config.AvatarPipelineExecutors;
 import school.faang.user_service.entity.User;
-import school.faang.user_service.entity.UserProfilePic;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Random avatars. New users get an avatar from the {@link AvatarPool} of avatars already in S3; only when the pool is
+ * still empty is one generated for them, off the request thread: fetched, resized and stored on separate bounded
+ * executors, with the user row updated once both files are in S3.
+ */
 @Service
 @Slf4j
 @Setter
@@ -19,29 +39,124 @@ import java.util.concurrent.ThreadLocalRandom;
 public class AvatarService {
 
     private final AvatarConfig avatarConfig;
-    private final S3Service s3Service;
-    private final UtilsService utilsService;
+    private final ContentStoreService contentStoreService;
+    private final ProfilePicService profilePicService;
+    private final ImageResizeService imageResizeService;
     private final RestTemplate restTemplate;
+    private final UserCache userCache;
+    private final AvatarPipelineExecutors avatarPipelineExecutors;
+    private final AvatarPool avatarPool;
+    private final AvatarDiskCache avatarDiskCache;
 
-    public void setRandomAvatar(User user) {
+    public void assignRandomAvatar(User user) {
+        avatarPool.pick().ifPresentOrElse(
+                avatar -> profilePicService.replace(user, avatar.toProfilePic()),
+                () -> generateRandomAvatar(user.getId()));
+    }
+
+    /**
+     * Streams an uploaded picture to S3. Must be called outside a transaction; the caller points the user at the
+     * returned key afterwards, or hands it to {@link #discardUpload} if that fails. The thumbnail is left to the
+     * consumer of the profile picture event, which reports both keys back through the avatar endpoint.
+     *
+     * @return key of the uploaded original
+     */
+    public String uploadAvatar(MultipartFile file) {
+        String contentType = Optional.ofNullable(file.getContentType()).orElse(avatarConfig.getCONTENT_TYPE());
+        try (InputStream content = file.getInputStream()) {
+            return contentStoreService.storeStream(avatarConfig.getUPLOAD_KEY_PATTERN(), content, file.getSize(),
+                    contentType);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read uploaded avatar " + file.getOriginalFilename(), e);
+        }
+    }
+
+    public void discardUpload(String fileId) {
+        try {
+            contentStoreService.discard(fileId);
+        } catch (RuntimeException e) {
+            log.warn("Could not discard uploaded avatar {}, leaving it to garbage collection", fileId, e);
+        }
+    }
+
+    /**
+     * Starts generating a random avatar for the user. Inside a transaction the pipeline starts after commit,
+     * so the follow-up write always finds the user row.
+     */
+    public void generateRandomAvatar(long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    startPipeline(userId);
+                }
+            });
+        } else {
+            startPipeline(userId);
+        }
+    }
+
+    /**
+     * Makes sure both files of the avatar are in S3, generating them only if the disk cache does not have them.
+     *
+     * @throws RejectedExecutionException if the fetch stage is saturated
+     */
+    public CompletableFuture<StoredAvatar> prepare(AvatarKey key) {
+        return CompletableFuture.supplyAsync(() -> fetch(key), avatarPipelineExecutors.fetch())
+                .thenApplyAsync(images -> resize(key, images), avatarPipelineExecutors.resize())
+                .thenApplyAsync(this::upload, avatarPipelineExecutors.upload());
+    }
+
+    public AvatarKey randomAvatarKey() {
         int styleIndex = ThreadLocalRandom.current().nextInt(0, avatarConfig.getSTYLES().length);
         int seed = ThreadLocalRandom.current().nextInt(0, avatarConfig.getSEED_RANGE());
+        return new AvatarKey(avatarConfig.getSTYLES()[styleIndex].trim(), seed);
+    }
 
-        String avatarUrl = String.format(avatarConfig.getGENERATION_URL_PATTERN(),
-                avatarConfig.getSTYLES()[styleIndex], seed);
-        String fileName = String.format(avatarConfig.getAVATAR_ID_PATTERN(), user.getId(),
-                avatarConfig.getEXTENSION());
-        String smallFileName = String.format(avatarConfig.getSMALL_AVATAR_ID_PATTERN(), user.getId(),
-                avatarConfig.getEXTENSION());
+    private void startPipeline(long userId) {
+        try {
+            AvatarKey key = randomAvatarKey();
+            prepare(key)
+                    .thenAccept(avatar -> {
+                        if (profilePicService.replace(userId, avatar.toProfilePic())) {
+                            userCache.evict(userId);
+                        }
+                        avatarPool.add(key, avatar);
+                    })
+                    .whenComplete((ignored, e) -> {
+                        if (e != null) {
+                            log.error("Random avatar of user {} was not generated", userId, e);
+                        }
+                    });
+        } catch (RejectedExecutionException e) {
+            log.warn("Avatar pipeline is saturated, user {} is left without a random avatar", userId);
+        }
+    }
 
-        byte[] avatar = getImageByUrl(avatarUrl);
-        byte[] smallAvatar = utilsService.resizeImage(avatar, avatarConfig.getSMALL_FILE_WIDTH(),
-                avatarConfig.getSMALL_FILE_HEIGHT(), avatarConfig.getEXTENSION());
+    private AvatarImages fetch(AvatarKey key) {
+        return avatarDiskCache.read(key)
+                .orElseGet(() -> new AvatarImages(getImageByUrl(String.format(
+                        avatarConfig.getGENERATION_URL_PATTERN(), key.style(), key.seed())), null));
+    }
 
-        s3Service.uploadToS3(fileName, avatar, avatarConfig.getCONTENT_TYPE(), avatarConfig.getBUCKET_NAME());
-        s3Service.uploadToS3(smallFileName, smallAvatar, avatarConfig.getCONTENT_TYPE(), avatarConfig.getBUCKET_NAME());
+    private AvatarImages resize(AvatarKey key, AvatarImages images) {
+        if (images.isResized()) {
+            return images;
+        }
+        byte[] smallAvatar = imageResizeService.resize(images.avatar(), new ImageVariant("small",
+                avatarConfig.getSMALL_FILE_WIDTH(), avatarConfig.getSMALL_FILE_HEIGHT(), avatarConfig.getEXTENSION()));
+        AvatarImages resized = new AvatarImages(images.avatar(), smallAvatar);
+        avatarDiskCache.write(key, resized);
+        return resized;
+    }
 
-        user.setUserProfilePic(new UserProfilePic(fileName, smallFileName));
+    // Identical images map to the same object key, so only content that is not stored yet is uploaded.
+    private StoredAvatar upload(AvatarImages images) {
+        return new StoredAvatar(
+                contentStoreService.store(avatarConfig.getOBJECT_KEY_PATTERN(), images.avatar(),
+                        avatarConfig.getCONTENT_TYPE()),
+                contentStoreService.store(avatarConfig.getOBJECT_KEY_PATTERN(), images.smallAvatar(),
+                        avatarConfig.getCONTENT_TYPE()));
     }
 
     private byte[] getImageByUrl(String url) {
@@ -50,7 +165,7 @@ public class AvatarService {
         } catch (RestClientException e) {
             String errMessage = String.format("Could not get image from URL: %s", url);
             log.error(errMessage, e);
-            throw new RuntimeException();
+            throw new RuntimeException(errMessage, e);
         }
     }
 }
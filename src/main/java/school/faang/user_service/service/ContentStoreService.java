@@ -0,0 +1,118 @@
+package school.faang.user_service.service;
+
+import com.google.common.hash.Hashing;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.repository.StoredObjectRepository;
+
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Content-addressed S3 storage. An object is named after the SHA-256 of its bytes, so identical content is uploaded
+ * once and shared. References are counted in {@code stored_object}; objects that stay unreferenced for a grace
+ * period are deleted by {@link #collectGarbage}.
+ */
+@Service
+@RequiredArgsConstructor
+public class ContentStoreService {
+
+    private final S3Service s3Service;
+    private final StoredObjectRepository storedObjectRepository;
+
+    @Value("${services.s3.bucket-name}")
+    private String bucketName;
+
+    /**
+     * Uploads the bytes unless an object with the same content is already stored. The upload runs inside the
+     * transaction that registers the object, so a failed upload leaves no row behind.
+     *
+     * @param keyPattern object key with a single {@code %s} for the content hash
+     * @return key of the stored object
+     */
+    @Transactional
+    public String store(String keyPattern, byte[] bytes, String contentType) {
+        String objectKey = String.format(keyPattern, Hashing.sha256().hashBytes(bytes));
+        while (storedObjectRepository.insertIfAbsent(objectKey, bytes.length) == 0) {
+            // the touch also pushes the object out of the grace period before anyone references it
+            if (storedObjectRepository.touch(List.of(objectKey)) > 0) {
+                return objectKey;
+            }
+        }
+        s3Service.uploadToS3(objectKey, bytes, contentType, bucketName);
+        return objectKey;
+    }
+
+    /**
+     * Streams content that is too large to hash up front under a fresh random key. The object is registered
+     * unreferenced and committed before the upload starts, so if the caller never references it (or rolls back)
+     * it is collected like any other garbage. Calling it inside a transaction fails, since suspending the caller's
+     * transaction would still keep its connection and locks for the whole upload.
+     *
+     * @param keyPattern object key with a single {@code %s} for the random id
+     * @return key of the stored object
+     */
+    @Transactional(propagation = Propagation.NEVER)
+    public String storeStream(String keyPattern, InputStream content, long size, String contentType) {
+        String objectKey = String.format(keyPattern, UUID.randomUUID());
+        storedObjectRepository.insertIfAbsent(objectKey, size);
+        s3Service.uploadToS3(objectKey, content, contentType, bucketName);
+        return objectKey;
+    }
+
+    /**
+     * Deletes a streamed object right away if nothing references it, for callers whose own write failed after the
+     * upload. A failed S3 delete leaves the row for {@link #collectGarbage}.
+     */
+    @Transactional
+    public void discard(String objectKey) {
+        if (storedObjectRepository.deleteUnreferenced(List.of(objectKey)) > 0) {
+            s3Service.deleteFromS3(List.of(objectKey), bucketName);
+        }
+    }
+
+    @Transactional
+    public void touch(Collection<String> objectKeys) {
+        if (!objectKeys.isEmpty()) {
+            storedObjectRepository.touch(objectKeys);
+        }
+    }
+
+    @Transactional
+    public void retain(Collection<String> objectKeys) {
+        if (!objectKeys.isEmpty()) {
+            storedObjectRepository.retain(objectKeys);
+        }
+    }
+
+    @Transactional
+    public void release(Collection<String> objectKeys) {
+        if (!objectKeys.isEmpty()) {
+            storedObjectRepository.release(objectKeys);
+        }
+    }
+
+    /**
+     * Deletes up to {@code limit} objects nobody has referenced for the grace period. The rows stay locked until
+     * the S3 objects are gone, so a concurrent {@link #store} of the same content waits and uploads it again.
+     *
+     * @return number of objects deleted
+     */
+    @Transactional
+    public int collectGarbage(Duration gracePeriod, int limit) {
+        List<String> objectKeys = storedObjectRepository.lockUnreferenced(LocalDateTime.now().minus(gracePeriod),
+                limit);
+        if (objectKeys.isEmpty()) {
+            return 0;
+        }
+        s3Service.deleteFromS3(objectKeys, bucketName);
+        return storedObjectRepository.deleteUnreferenced(objectKeys);
+    }
+}
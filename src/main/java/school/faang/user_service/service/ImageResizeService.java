@@ -0,0 +1,236 @@
+package school.faang.user_service.service;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import school.faang.user_service.exception.DataValidationException;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.AlphaComposite;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders several sizes of an image from a single decode. Variants are drawn in parallel on a pool with one thread
+ * per core; a full queue runs the variant on the caller, which slows producers down instead of queueing unbounded
+ * CPU work. Target and halving images come from a small pool of scratch sets, so a steady stream of avatars
+ * allocates little besides the encoded bytes; scratch images of very large sources are dropped instead of pooled.
+ */
+@Slf4j
+@Service
+public class ImageResizeService {
+    private static final int MAX_SCRATCH_TARGETS = 8;
+    // 4 MP is 16 MB per ARGB buffer; anything larger is rare enough to allocate per call
+    private static final long MAX_POOLED_SCRATCH_PIXELS = 4_000_000;
+    // PNG and WebP keep transparency; everything else is flattened onto white
+    private static final Set<String> ALPHA_FORMATS = Set.of("png", "webp", "gif");
+
+    private final long maxPixels;
+    private final ThreadPoolExecutor resizeExecutor;
+    // Renders run on the pool threads and, when the queue is full, on callers; neither owns a scratch set for long.
+    private final BlockingQueue<Scratch> scratchPool;
+
+    public ImageResizeService(@Value("${services.image.resize.max-pixels}") long maxPixels,
+                              @Value("${services.image.resize.queue-size}") int queueSize) {
+        int threads = Runtime.getRuntime().availableProcessors();
+        this.maxPixels = maxPixels;
+        this.scratchPool = new ArrayBlockingQueue<>(threads);
+        this.resizeExecutor = new ThreadPoolExecutor(threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                new ThreadFactoryBuilder().setNameFormat("image-resize-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    public byte[] resize(byte[] source, ImageVariant variant) {
+        return render(decode(source), variant);
+    }
+
+    /**
+     * Decodes the source once and renders every writable variant; variants without an ImageIO writer on the
+     * classpath (WebP without a plugin) are left out of the result.
+     *
+     * @throws DataValidationException if the source is not a readable image or has more than the allowed pixels
+     */
+    public Map<ImageVariant, byte[]> resizeAll(byte[] source, Collection<ImageVariant> variants) {
+        BufferedImage image = decode(source);
+        Map<ImageVariant, CompletableFuture<byte[]>> rendered = new LinkedHashMap<>();
+        for (ImageVariant variant : variants) {
+            if (variant.isWritable()) {
+                rendered.put(variant, CompletableFuture.supplyAsync(() -> render(image, variant), resizeExecutor));
+            } else {
+                log.debug("No {} writer available, skipping the {} variant", variant.format(), variant.name());
+            }
+        }
+
+        Map<ImageVariant, byte[]> result = new LinkedHashMap<>();
+        try {
+            rendered.forEach((variant, future) -> result.put(variant, future.join()));
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resizeExecutor.shutdown();
+    }
+
+    // The header is read first, so an oversized image is rejected before any pixel buffer is allocated.
+    private BufferedImage decode(byte[] source) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(source))) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new DataValidationException("Unsupported image format");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    throw new DataValidationException(String.format(
+                            "Image has %d pixels, at most %d are allowed", pixels, maxPixels));
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not decode image", e);
+        }
+    }
+
+    private byte[] render(BufferedImage image, ImageVariant variant) {
+        double scale = Math.min((double) variant.width() / image.getWidth(),
+                (double) variant.height() / image.getHeight());
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        boolean alpha = ALPHA_FORMATS.contains(variant.format().toLowerCase());
+
+        Scratch scratch = Objects.requireNonNullElseGet(scratchPool.poll(), Scratch::new);
+        try {
+            BufferedImage target = scratch.target(width, height, alpha);
+            draw(halveDownTo(image, width, height, scratch), target);
+
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            try {
+                if (!ImageIO.write(target, variant.format(), output)) {
+                    throw new IllegalStateException("No " + variant.format() + " writer available");
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not encode the " + variant.name() + " variant", e);
+            }
+            return output.toByteArray();
+        } finally {
+            scratch.dropOversized();
+            scratchPool.offer(scratch);
+        }
+    }
+
+    // A single bilinear pass from far above the target size skips most source pixels and aliases; halving first
+    // keeps every pixel contributing, which is what Thumbnailator does as well. Steps alternate between two buffers
+    // sized by their first (largest) step, so later steps draw into a corner view of the buffer instead of a new one.
+    private BufferedImage halveDownTo(BufferedImage image, int width, int height, Scratch scratch) {
+        BufferedImage current = image;
+        boolean odd = true;
+        while (current.getWidth() / 2 >= width && current.getHeight() / 2 >= height) {
+            BufferedImage half = scratch.half(odd, current.getWidth() / 2, current.getHeight() / 2);
+            draw(current, half);
+            current = half;
+            odd = !odd;
+        }
+        return current;
+    }
+
+    // Every pixel of the target is overwritten, which is what makes reusing it safe.
+    private void draw(BufferedImage source, BufferedImage target) {
+        Graphics2D graphics = target.createGraphics();
+        try {
+            if (target.getColorModel().hasAlpha()) {
+                graphics.setComposite(AlphaComposite.Src);
+            } else {
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, target.getWidth(), target.getHeight());
+            }
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, target.getWidth(), target.getHeight(), null);
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    private record ScratchKey(int width, int height, boolean alpha) {
+    }
+
+    // Used by one render at a time: taken from the pool before drawing and returned after encoding.
+    private static final class Scratch {
+        private final Map<ScratchKey, BufferedImage> targets = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ScratchKey, BufferedImage> eldest) {
+                return size() > MAX_SCRATCH_TARGETS;
+            }
+        };
+        private BufferedImage oddHalf;
+        private BufferedImage evenHalf;
+
+        BufferedImage target(int width, int height, boolean alpha) {
+            return targets.computeIfAbsent(new ScratchKey(width, height, alpha),
+                    key -> new BufferedImage(width, height, alpha ? BufferedImage.TYPE_INT_ARGB
+                            : BufferedImage.TYPE_INT_RGB));
+        }
+
+        BufferedImage half(boolean odd, int width, int height) {
+            BufferedImage buffer = odd ? oddHalf : evenHalf;
+            if (buffer == null || buffer.getWidth() < width || buffer.getHeight() < height) {
+                buffer = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+                if (odd) {
+                    oddHalf = buffer;
+                } else {
+                    evenHalf = buffer;
+                }
+            }
+            return buffer.getWidth() == width && buffer.getHeight() == height
+                    ? buffer : buffer.getSubimage(0, 0, width, height);
+        }
+
+        void dropOversized() {
+            if (isOversized(oddHalf)) {
+                oddHalf = null;
+            }
+            if (isOversized(evenHalf)) {
+                evenHalf = null;
+            }
+            targets.values().removeIf(Scratch::isOversized);
+        }
+
+        private static boolean isOversized(BufferedImage image) {
+            return image != null && (long) image.getWidth() * image.getHeight() > MAX_POOLED_SCRATCH_PIXELS;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package school.faang.user_service.service;
+
+import javax.imageio.ImageIO;
+
+/**
+ * One rendition of an image: fitted into {@code width} x {@code height} with the aspect ratio kept, encoded as
+ * {@code format} (an ImageIO format name such as {@code jpeg}, {@code png} or {@code webp}).
+ */
+public record ImageVariant(String name, int width, int height, String format) {
+
+    // WebP, for one, only has a writer when a plugin such as TwelveMonkeys is on the classpath.
+    public boolean isWritable() {
+        return ImageIO.getImageWritersByFormatName(format).hasNext();
+    }
+}
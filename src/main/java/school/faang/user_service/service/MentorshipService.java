@@ -4,14 +4,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import school.faang.user_service.dto.user.UserDto;
-import school.faang.user_service.entity.User;
 import school.faang.user_service.exception.UserNotFoundException;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.repository.mentorship.MentorshipRepository;
+import school.faang.user_service.repository.projection.UserSummary;
 import school.faang.user_service.validator.MentorshipValidator;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -22,16 +21,12 @@ public class MentorshipService {
 
     @Transactional(readOnly = true)
     public List<UserDto> getMentees(long mentorId) {
-        Optional<User> mentorOptional = mentorshipRepository.findById(mentorId);
-        User mentor = mentorOptional.orElseThrow(() -> new UserNotFoundException(mentorId));
-        return userMapper.toDtoList(mentor.getMentees());
+        return toDtoList(mentorId, mentorshipRepository.findMenteeSummaries(mentorId));
     }
 
     @Transactional(readOnly = true)
     public List<UserDto> getMentors(long menteeId) {
-        Optional<User> menteeOptional = mentorshipRepository.findById(menteeId);
-        User mentee = menteeOptional.orElseThrow(() -> new UserNotFoundException(menteeId));
-        return userMapper.toDtoList(mentee.getMentors());
+        return toDtoList(menteeId, mentorshipRepository.findMentorSummaries(menteeId));
     }
 
     @Transactional
@@ -49,4 +44,13 @@ public class MentorshipService {
                 .orElseThrow(() -> new UserNotFoundException(menteeId))
                 .getMentors().removeIf(mentor -> mentor.getId() == mentorId);
     }
+
+    private List<UserDto> toDtoList(long userId, List<UserSummary> summaries) {
+        if (summaries.isEmpty() && !mentorshipRepository.existsById(userId)) {
+            throw new UserNotFoundException(userId);
+        }
+        return summaries.stream()
+                .map(userMapper::toDto)
+                .toList();
+    }
 }
\ No newline at end of file
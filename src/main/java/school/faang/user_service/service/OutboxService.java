@@ -0,0 +1,75 @@
+package school.faang.user_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.entity.outbox.AggregateType;
+import school.faang.user_service.entity.outbox.OutboxEvent;
+import school.faang.user_service.publisher.EventPublisher;
+import school.faang.user_service.repository.outbox.OutboxEventRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+public class OutboxService {
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, EventPublisher<?>> publishersByChannel;
+
+    public OutboxService(OutboxEventRepository outboxEventRepository, List<EventPublisher<?>> publishers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.publishersByChannel = publishers.stream()
+                .collect(Collectors.toMap(EventPublisher::getChannel, Function.identity(), (first, second) -> first));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public <T> void enqueue(EventPublisher<T> publisher, AggregateType aggregateType, long aggregateId, T event) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .aggregateType(aggregateType)
+                .aggregateId(aggregateId)
+                .channel(publisher.getChannel())
+                .payload(new String(publisher.serialize(event), StandardCharsets.UTF_8))
+                .build());
+    }
+
+    /**
+     * Publishes the next batch of pending events. Events are deleted only after Redis accepted them, so a failed
+     * publish or commit is retried (at-least-once). Events of a channel without a publisher are marked failed and
+     * are not picked up again.
+     *
+     * @return number of events published and deleted
+     */
+    @Transactional
+    public int relayBatch(int batchSize) {
+        List<OutboxEvent> events = outboxEventRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<OutboxEvent>> eventsByChannel = events.stream()
+                .collect(Collectors.groupingBy(OutboxEvent::getChannel, LinkedHashMap::new, Collectors.toList()));
+        int relayed = 0;
+        for (Map.Entry<String, List<OutboxEvent>> entry : eventsByChannel.entrySet()) {
+            List<OutboxEvent> channelEvents = entry.getValue();
+            EventPublisher<?> publisher = publishersByChannel.get(entry.getKey());
+            if (publisher == null) {
+                log.error("No publisher for outbox channel {}, {} events marked failed", entry.getKey(),
+                        channelEvents.size());
+                outboxEventRepository.markFailed(channelEvents.stream().map(OutboxEvent::getId).toList());
+                continue;
+            }
+            publisher.publishSerialized(channelEvents.stream()
+                    .map(event -> event.getPayload().getBytes(StandardCharsets.UTF_8))
+                    .toList());
+            outboxEventRepository.deleteAllInBatch(channelEvents);
+            relayed += channelEvents.size();
+        }
+        return relayed;
+    }
+}
@@ -0,0 +1,57 @@
+package school.faang.user_service.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.UserProfilePic;
+import school.faang.user_service.repository.UserRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Changes profile pictures and keeps the reference counts of the stored objects they point at in step.
+ * Keys that are not in the content store (pictures uploaded elsewhere) are simply not counted.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProfilePicService {
+
+    private final UserRepository userRepository;
+    private final ContentStoreService contentStoreService;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void replace(User user, UserProfilePic profilePic) {
+        contentStoreService.release(objectKeys(user.getUserProfilePic()));
+        user.setUserProfilePic(profilePic);
+        contentStoreService.retain(objectKeys(profilePic));
+    }
+
+    /**
+     * Used by the avatar pipeline outside any request. The user row is locked, so two concurrent replacements
+     * cannot release the same picture twice.
+     *
+     * @return false if the user no longer exists
+     */
+    @Transactional
+    public boolean replace(long userId, UserProfilePic profilePic) {
+        return userRepository.findByIdForUpdate(userId)
+                .map(user -> {
+                    replace(user, profilePic);
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    private List<String> objectKeys(UserProfilePic profilePic) {
+        if (profilePic == null) {
+            return List.of();
+        }
+        return Stream.of(profilePic.getFileId(), profilePic.getSmallFileId())
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
@@ -1,23 +1,27 @@
 package school.faang.user_service.service;
 
-import com.amazonaws.services.kms.model.NotFoundException;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.cache.RecommendationFeedCache;
+import school.faang.user_service.dto.CursorPageDto;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recomendation.RecommendationDto;
 import school.faang.user_service.dto.recomendation.SkillOfferDto;
-import school.faang.user_service.entity.Skill;
-import school.faang.user_service.entity.UserSkillGuarantee;
 import school.faang.user_service.entity.recommendation.Recommendation;
 import school.faang.user_service.mapper.RecommendationMapper;
-import school.faang.user_service.repository.SkillRepository;
 import school.faang.user_service.repository.UserSkillGuaranteeRepository;
 import school.faang.user_service.repository.recommendation.RecommendationRepository;
 import school.faang.user_service.repository.recommendation.SkillOfferRepository;
 import school.faang.user_service.validator.RecommendationValidator;
 
 import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
 @Component
 @AllArgsConstructor
@@ -25,10 +29,10 @@ import java.util.List;
 public class RecommendationService {
     private final RecommendationRepository recommendationRepository;
     private final SkillOfferRepository skillOfferRepository;
-    private final SkillRepository skillRepository;
     private final UserSkillGuaranteeRepository userSkillGuaranteeRepository;
     private final RecommendationValidator recommendationValidator;
     private final RecommendationMapper recommendationMapper;
+    private final RecommendationFeedCache recommendationFeedCache;
 
     @Transactional
     public RecommendationDto create(RecommendationDto recommendationDto) {
@@ -40,92 +44,121 @@ public class RecommendationService {
         long IdRecommendation =
                 recommendationRepository.create(recommendationDto.getAuthorId(), recommendationDto.getReceiverId(), recommendationDto.getContent());
         saveSkillOffer(recommendationDto.getSkillOffers(), IdRecommendation);
-        Recommendation recommendation = recommendationRepository.findById(IdRecommendation).orElse(null);
         saveGuaranteeUserSkill(recommendationDto);
+        recommendationFeedCache.evict(recommendationDto.getReceiverId());
+        Recommendation recommendation = recommendationRepository.findById(IdRecommendation).orElse(null);
         return recommendationMapper.toDto(recommendation);
     }
 
     @Transactional
     public RecommendationDto update(RecommendationDto updated) {
-        existsById(updated.getId());
+        recommendationValidator.validateId(updated.getId());
+        long previousReceiverId = recommendationRepository.findReceiverIdById(updated.getId())
+                .orElseThrow(() -> notFound(updated.getId()));
         recommendationValidator.validateRecommendationDto(updated);
         var previousRecommendation = recommendationRepository
                 .findFirstByAuthorIdAndReceiverIdOrderByCreatedAtDesc(updated.getAuthorId(), updated.getReceiverId());
         recommendationValidator.validateRecommendationDate(previousRecommendation);
         recommendationRepository.update(updated.getAuthorId(), updated.getReceiverId(), updated.getContent());
         skillOfferRepository.deleteAllByRecommendationId(updated.getId());
-        saveSkillOffer(updated.getSkillOffers(), updated.getReceiverId());
-        Recommendation updatedEntity = recommendationRepository.findById(updated.getId()).orElse(null);
+        saveSkillOffer(updated.getSkillOffers(), updated.getId());
         saveGuaranteeUserSkill(updated);
+        Recommendation updatedEntity = recommendationRepository.findById(updated.getId()).orElse(null);
+        // the update statement is keyed by the dto's receiver, which a client may send wrong, so the feeds of the
+        // receivers stored before and after the update are dropped as well
+        LongStream.of(previousReceiverId,
+                        updatedEntity == null ? previousReceiverId : updatedEntity.getReceiver().getId(),
+                        updated.getReceiverId())
+                .distinct()
+                .forEach(recommendationFeedCache::evict);
         return recommendationMapper.toDto(updatedEntity);
     }
 
     @Transactional
     public void delete(Long id) {
-        existsById(id);
+        recommendationValidator.validateId(id);
+        long receiverId = recommendationRepository.findReceiverIdById(id).orElseThrow(() -> notFound(id));
         recommendationRepository.deleteById(id);
+        recommendationFeedCache.evict(receiverId);
     }
 
     @Transactional(readOnly = true)
-    public List<RecommendationDto> getAllUserRecommendations(long receiverId) {
+    public PageDto<RecommendationDto> getAllUserRecommendations(long receiverId, Pageable pageable) {
         recommendationValidator.validateId(receiverId);
-        List<Recommendation> allUserRecommendation = recommendationRepository.findAllByReceiverId(receiverId);
-        if (allUserRecommendation != null) {
-            recommendationValidator.checkRecommendationList(allUserRecommendation, receiverId);
-        } else {
-            throw new NotFoundException("Recommendation not found");
-        }
-        return recommendationMapper.recommendationToRecommendationDto(allUserRecommendation);
+        recommendationValidator.validatePageRequest(pageable);
+        return toPageDto(recommendationRepository.findAllByReceiverId(receiverId, pageable));
     }
 
     @Transactional(readOnly = true)
-    public List<RecommendationDto> getAllGivenRecommendations(long authorId) {
+    public PageDto<RecommendationDto> getAllGivenRecommendations(long authorId, Pageable pageable) {
         recommendationValidator.validateId(authorId);
-        List<Recommendation> allUserRecommendation = recommendationRepository.findAllByReceiverId(authorId);
-        if (allUserRecommendation != null) {
-            recommendationValidator.checkRecommendationList(allUserRecommendation, authorId);
-        } else {
-            throw new NotFoundException("Recommendation not found");
-        }
-        return recommendationMapper.recommendationToRecommendationDto(allUserRecommendation);
+        recommendationValidator.validatePageRequest(pageable);
+        return toPageDto(recommendationRepository.findAllByAuthorId(authorId, pageable));
     }
 
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecommendationDto> getReceivedFeed(long receiverId, Long cursor, int size) {
+        recommendationValidator.validateId(receiverId);
+        recommendationValidator.validatePageSize(size);
 
-    private void existsById(Long id) {
-        recommendationValidator.validateId(id);
-        if (!recommendationRepository.existsById(id)) {
-            String msg = "Entity not found by id:%d";
-            log.error(String.format(msg, id));
-            throw new IllegalArgumentException(String.format(msg, id));
-        }
+        Supplier<CursorPageDto<RecommendationDto>> loader = () -> toCursorPage(recommendationRepository
+                .findByReceiverIdAndIdLessThanOrderByIdDesc(receiverId, fromCursor(cursor), PageRequest.of(0, size)), size);
+        return recommendationFeedCache.isCacheable(cursor, size)
+                ? recommendationFeedCache.getFirstPage(receiverId, loader)
+                : loader.get();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecommendationDto> getGivenFeed(long authorId, Long cursor, int size) {
+        recommendationValidator.validateId(authorId);
+        recommendationValidator.validatePageSize(size);
+
+        return toCursorPage(recommendationRepository
+                .findByAuthorIdAndIdLessThanOrderByIdDesc(authorId, fromCursor(cursor), PageRequest.of(0, size)), size);
+    }
+
+    private PageDto<RecommendationDto> toPageDto(Page<Recommendation> page) {
+        return new PageDto<>(recommendationMapper.recommendationToRecommendationDto(page.getContent()),
+                page.getNumber(), page.getSize(), page.hasNext(), page.getTotalElements());
+    }
+
+    private CursorPageDto<RecommendationDto> toCursorPage(List<Recommendation> recommendations, int size) {
+        Long nextCursor = recommendations.size() < size ? null : recommendations.get(recommendations.size() - 1).getId();
+        return new CursorPageDto<>(recommendationMapper.recommendationToRecommendationDto(recommendations), nextCursor);
+    }
+
+    private long fromCursor(Long cursor) {
+        return cursor == null ? Long.MAX_VALUE : cursor;
+    }
+
+    private IllegalArgumentException notFound(long id) {
+        String msg = String.format("Entity not found by id:%d", id);
+        log.error(msg);
+        return new IllegalArgumentException(msg);
     }
 
     private void saveSkillOffer(List<SkillOfferDto> skillOffers, long recommendationId) {
-        if (skillOffers != null) {
-            skillOffers.forEach(skillOffer -> skillOfferRepository.create(skillOffer.getSkillId(), recommendationId));
+        List<Long> skillIds = offeredSkillIds(skillOffers);
+        if (!skillIds.isEmpty()) {
+            skillOfferRepository.createAll(recommendationId, skillIds);
         }
     }
 
     public void saveGuaranteeUserSkill(RecommendationDto recommendationDto) {
-        Recommendation recommendation = recommendationMapper.toEntity(recommendationDto);
-        List<Skill> userSkills = skillRepository.findAllByUserId(recommendation.getReceiver().getId());
-        if (recommendation.getSkillOffers() != null && !recommendation.getSkillOffers().isEmpty()) {
-            userSkills.stream()
-                    .forEach(skill -> {
-                        recommendationDto.getSkillOffers().stream()
-                                .forEach(skillOffer -> {
-                                    if (skillOffer.getSkillId() == skill.getId() &&
-                                            !skill.getGuarantees().contains(recommendation.getAuthor())) {
-                                        UserSkillGuarantee userSkillGuarantee =
-                                                UserSkillGuarantee.builder()
-                                                        .user(recommendation.getReceiver())
-                                                        .guarantor(recommendation.getReceiver())
-                                                        .skill(skill).build();
-                                        userSkillGuaranteeRepository.save(userSkillGuarantee);
-                                    }
-                                });
-                    });
+        List<Long> skillIds = offeredSkillIds(recommendationDto.getSkillOffers());
+        if (!skillIds.isEmpty()) {
+            userSkillGuaranteeRepository.addGuarantees(recommendationDto.getReceiverId(),
+                    recommendationDto.getAuthorId(), skillIds);
         }
     }
 
+    private List<Long> offeredSkillIds(List<SkillOfferDto> skillOffers) {
+        if (skillOffers == null) {
+            return List.of();
+        }
+        return skillOffers.stream()
+                .map(SkillOfferDto::getSkillId)
+                .distinct()
+                .toList();
+    }
 }
@@ -1,27 +1,102 @@
 package school.faang.user_service.service;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
 public class S3Service {
 
     private final AmazonS3 s3Client;
+    private final UploadBufferPool uploadBufferPool;
 
-    @Async("threadPool")
     public void uploadToS3(String fileName, byte[] imageBytes, String contentType, String bucketName) {
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(imageBytes);
+        putObject(fileName, imageBytes, imageBytes.length, contentType, bucketName);
+    }
+
+    /**
+     * Streams the content to S3 one pooled buffer at a time, so an upload holds at most one part in heap whatever
+     * the file size. Content that fits in one buffer is a single PUT, anything larger a multipart upload.
+     */
+    public void uploadToS3(String fileName, InputStream content, String contentType, String bucketName) {
+        byte[] buffer = uploadBufferPool.acquire();
+        try {
+            int read = content.readNBytes(buffer, 0, buffer.length);
+            if (read < buffer.length) {
+                putObject(fileName, buffer, read, contentType, bucketName);
+            } else {
+                multipartUpload(fileName, content, buffer, contentType, bucketName);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read content of " + fileName, e);
+        } finally {
+            uploadBufferPool.release(buffer);
+        }
+    }
+
+    // A multi-object delete takes at most 1000 keys.
+    public void deleteFromS3(Collection<String> fileNames, String bucketName) {
+        Lists.partition(List.copyOf(fileNames), 1000).forEach(batch -> s3Client.deleteObjects(
+                new DeleteObjectsRequest(bucketName).withKeys(batch.toArray(String[]::new)).withQuiet(true)));
+    }
+
+    private void putObject(String fileName, byte[] bytes, int length, String contentType, String bucketName) {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(bytes, 0, length);
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, fileName, inputStream,
+                metadata(length, contentType));
+        s3Client.putObject(putObjectRequest);
+    }
+
+    // The buffer arrives filled with the first part; a failed upload is aborted so S3 does not keep its parts.
+    private void multipartUpload(String fileName, InputStream content, byte[] buffer, String contentType,
+                                 String bucketName) throws IOException {
         ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(imageBytes.length);
         metadata.setContentType(contentType);
-        PutObjectRequest putObjectRequest = new PutObjectRequest(bucketName, fileName, inputStream, metadata);
-        s3Client.putObject(putObjectRequest);
+        String uploadId = s3Client.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(bucketName, fileName, metadata)).getUploadId();
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            int read = buffer.length;
+            while (read > 0) {
+                partETags.add(s3Client.uploadPart(new UploadPartRequest()
+                        .withBucketName(bucketName)
+                        .withKey(fileName)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partETags.size() + 1)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, read))
+                        .withPartSize(read)).getPartETag());
+                read = content.readNBytes(buffer, 0, buffer.length);
+            }
+            s3Client.completeMultipartUpload(
+                    new CompleteMultipartUploadRequest(bucketName, fileName, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, fileName, uploadId));
+            throw e;
+        }
+    }
+
+    private ObjectMetadata metadata(long contentLength, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        return metadata;
     }
 }
@@ -0,0 +1,29 @@
+package school.faang.user_service.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
+
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class SubscriptionCounterService {
+    private final SubscriptionCounterRepository subscriptionCounterRepository;
+
+    @Transactional
+    public Optional<ReconciliationBatch> reconcileBatch(long afterId, int batchSize) {
+        Long upToId = subscriptionCounterRepository.findBatchUpperBound(afterId, batchSize);
+        if (upToId == null) {
+            return Optional.empty();
+        }
+
+        long drift = subscriptionCounterRepository.sumDrift(afterId, upToId);
+        int reconciled = drift == 0 ? 0 : subscriptionCounterRepository.reconcile(afterId, upToId);
+        return Optional.of(new ReconciliationBatch(upToId, drift, reconciled));
+    }
+
+    public record ReconciliationBatch(long lastUserId, long drift, int reconciledRows) {
+    }
+}
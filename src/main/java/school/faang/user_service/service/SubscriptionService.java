@@ -1,35 +1,53 @@
 package school.faang.user_service.service;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import school.faang.user_service.dto.CursorPageDto;
 import school.faang.user_service.dto.user.UserDto;
 import school.faang.user_service.dto.user.UserFilterDto;
 import org.springframework.transaction.annotation.Transactional;
 import school.faang.user_service.dto.event.FollowerEventDto;
+import school.faang.user_service.entity.Subscription;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.outbox.AggregateType;
+import school.faang.user_service.filter.userFilter.QueryableUserFilter;
 import school.faang.user_service.filter.userFilter.UserFilter;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.publisher.FollowerEventPublisher;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
 import school.faang.user_service.repository.SubscriptionRepository;
+import school.faang.user_service.repository.projection.SubscribedUserSummary;
 import school.faang.user_service.validator.SubscriptionServiceValidator;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class SubscriptionService {
     private final SubscriptionRepository subscriptionRepository;
+    private final SubscriptionCounterRepository subscriptionCounterRepository;
     private final List<UserFilter> userFilters;
     private final UserMapper userMapper;
     private final SubscriptionServiceValidator subscriptionServiceValidator;
     private final FollowerEventPublisher followerEventPublisher;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
 
     @Transactional
     public void followUser(long followerId, long followeeId) {
         subscriptionServiceValidator.validateFollowUnfollowUser(followerId, followeeId);
 
         subscriptionRepository.followUser(followerId, followeeId);
+        subscriptionCounterRepository.addSubscription(followerId, followeeId, 1);
 
         sendToRedisPublisher(followerId, followeeId);
     }
@@ -38,41 +56,194 @@ public class SubscriptionService {
     public void unfollowUser(long followerId, long followeeId) {
         subscriptionServiceValidator.validateFollowUnfollowUser(followerId, followeeId);
 
-        subscriptionRepository.unfollowUser(followerId, followeeId);
+        if (subscriptionRepository.unfollowUser(followerId, followeeId) > 0) {
+            subscriptionCounterRepository.addSubscription(followerId, followeeId, -1);
+        }
     }
 
+    @Transactional(readOnly = true)
     public List<UserDto> getFollowers(long followeeId, UserFilterDto filterDto) {
+        return getFollowers(followeeId, filterDto, Pageable.unpaged());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserDto> getFollowers(long followeeId, UserFilterDto filterDto, Pageable pageable) {
         subscriptionServiceValidator.validateGetFollowers(followeeId, filterDto);
 
-        List<User> followers = subscriptionRepository.findByFolloweeId(followeeId).toList();
+        return userMapper.toDtoList(findUsers(filterDto, pageable, (queryFilters, page) ->
+                subscriptionRepository.findFollowers(followeeId, queryFilters, filterDto, page)));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserDto> getFollowers(long followeeId, UserFilterDto filterDto, Long cursor, int size) {
+        subscriptionServiceValidator.validateGetFollowers(followeeId, filterDto);
+        subscriptionServiceValidator.validatePageSize(size);
 
-        return userMapper.toDtoList(userFilters.stream()
-                .filter(filter -> filter.isApplicable(filterDto))
-                .flatMap(filter -> filter.apply(followers, filterDto))
-                .toList());
+        ApplicableFilters applicableFilters = applicableFilters(filterDto);
+        List<Subscription> subscriptions = subscriptionRepository.findFollowerSubscriptions(
+                followeeId, applicableFilters.queryable(), filterDto, cursor, size);
+        return toCursorPage(subscriptions, Subscription::getFollower, applicableFilters.inMemory(), filterDto, size);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamFollowers(long followeeId, UserFilterDto filterDto, Consumer<UserDto> consumer) {
+        subscriptionServiceValidator.validateGetFollowers(followeeId, filterDto);
+
+        ApplicableFilters applicableFilters = applicableFilters(filterDto);
+        try (Stream<User> followers = subscriptionRepository.streamFollowers(
+                followeeId, applicableFilters.queryable(), filterDto)) {
+            streamUsers(followers, applicableFilters.inMemory(), filterDto, consumer);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserDto> getFollowerSummaries(long followeeId, Long cursor, int size) {
+        subscriptionServiceValidator.validateExistsById(followeeId);
+        subscriptionServiceValidator.validatePageSize(size);
+
+        return toCursorPage(subscriptionRepository.findFollowerSummaries(
+                followeeId, cursor == null ? 0 : cursor, PageRequest.of(0, size)), size);
     }
 
     public Integer getFollowersCount(long followeeId) {
         subscriptionServiceValidator.validateExistsById(followeeId);
 
-        return subscriptionRepository.findFollowersAmountByFolloweeId(followeeId);
+        return subscriptionCounterRepository.findFollowersCount(followeeId).orElse(0);
     }
 
-    public List<UserDto> getFollowing(long followeeId, UserFilterDto filterDto) {
-        subscriptionServiceValidator.validateGetFollowing(followeeId, filterDto);
+    @Transactional(readOnly = true)
+    public long getFollowersCount(long followeeId, UserFilterDto filterDto) {
+        subscriptionServiceValidator.validateGetFollowers(followeeId, filterDto);
 
-        List<User> followings = subscriptionRepository.findByFolloweeId(followeeId).toList();
+        return countUsers(filterDto,
+                queryFilters -> subscriptionRepository.countFollowers(followeeId, queryFilters, filterDto),
+                (queryFilters, page) -> subscriptionRepository.findFollowers(followeeId, queryFilters, filterDto, page));
+    }
 
-        return userMapper.toDtoList(userFilters.stream()
-                .filter(filter -> filter.isApplicable(filterDto))
-                .flatMap(filter -> filter.apply(followings, filterDto))
-                .toList());
+    @Transactional(readOnly = true)
+    public List<UserDto> getFollowing(long followerId, UserFilterDto filterDto) {
+        return getFollowing(followerId, filterDto, Pageable.unpaged());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserDto> getFollowing(long followerId, UserFilterDto filterDto, Pageable pageable) {
+        subscriptionServiceValidator.validateGetFollowing(followerId, filterDto);
+
+        return userMapper.toDtoList(findUsers(filterDto, pageable, (queryFilters, page) ->
+                subscriptionRepository.findFollowees(followerId, queryFilters, filterDto, page)));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<UserDto> getFollowing(long followerId, UserFilterDto filterDto, Long cursor, int size) {
+        subscriptionServiceValidator.validateGetFollowing(followerId, filterDto);
+        subscriptionServiceValidator.validatePageSize(size);
+
+        ApplicableFilters applicableFilters = applicableFilters(filterDto);
+        List<Subscription> subscriptions = subscriptionRepository.findFolloweeSubscriptions(
+                followerId, applicableFilters.queryable(), filterDto, cursor, size);
+        return toCursorPage(subscriptions, Subscription::getFollowee, applicableFilters.inMemory(), filterDto, size);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamFollowing(long followerId, UserFilterDto filterDto, Consumer<UserDto> consumer) {
+        subscriptionServiceValidator.validateGetFollowing(followerId, filterDto);
+
+        ApplicableFilters applicableFilters = applicableFilters(filterDto);
+        try (Stream<User> followees = subscriptionRepository.streamFollowees(
+                followerId, applicableFilters.queryable(), filterDto)) {
+            streamUsers(followees, applicableFilters.inMemory(), filterDto, consumer);
+        }
     }
 
     public Integer getFollowingCount(long followerId) {
         subscriptionServiceValidator.validateExistsById(followerId);
 
-        return subscriptionRepository.findFolloweesAmountByFollowerId(followerId);
+        return subscriptionCounterRepository.findFolloweesCount(followerId).orElse(0);
+    }
+
+    @Transactional(readOnly = true)
+    public long getFollowingCount(long followerId, UserFilterDto filterDto) {
+        subscriptionServiceValidator.validateGetFollowing(followerId, filterDto);
+
+        return countUsers(filterDto,
+                queryFilters -> subscriptionRepository.countFollowees(followerId, queryFilters, filterDto),
+                (queryFilters, page) -> subscriptionRepository.findFollowees(followerId, queryFilters, filterDto, page));
+    }
+
+    private List<User> findUsers(UserFilterDto filterDto, Pageable pageable,
+                                 BiFunction<List<QueryableUserFilter>, Pageable, List<User>> query) {
+        ApplicableFilters applicableFilters = applicableFilters(filterDto);
+        List<UserFilter> inMemoryFilters = applicableFilters.inMemory();
+        if (inMemoryFilters.isEmpty()) {
+            return query.apply(applicableFilters.queryable(), pageable);
+        }
+
+        List<User> users = applyInMemory(query.apply(applicableFilters.queryable(), Pageable.unpaged()),
+                inMemoryFilters, filterDto);
+        if (pageable.isUnpaged()) {
+            return users;
+        }
+        return users.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+    }
+
+    private long countUsers(UserFilterDto filterDto, Function<List<QueryableUserFilter>, Long> countQuery,
+                            BiFunction<List<QueryableUserFilter>, Pageable, List<User>> query) {
+        ApplicableFilters applicableFilters = applicableFilters(filterDto);
+        List<UserFilter> inMemoryFilters = applicableFilters.inMemory();
+        if (inMemoryFilters.isEmpty()) {
+            return countQuery.apply(applicableFilters.queryable());
+        }
+        return applyInMemory(query.apply(applicableFilters.queryable(), Pageable.unpaged()),
+                inMemoryFilters, filterDto).size();
+    }
+
+    // The cursor follows the last scanned subscription rather than the last returned user,
+    // so in-memory filters may shrink a page without stalling the scan.
+    private CursorPageDto<UserDto> toCursorPage(List<Subscription> subscriptions, Function<Subscription, User> side,
+                                                List<UserFilter> inMemoryFilters, UserFilterDto filterDto, int size) {
+        List<User> users = applyInMemory(subscriptions.stream().map(side).toList(), inMemoryFilters, filterDto);
+        Long nextCursor = subscriptions.size() < size ? null : subscriptions.get(subscriptions.size() - 1).getId();
+        return new CursorPageDto<>(userMapper.toDtoList(users), nextCursor);
+    }
+
+    private CursorPageDto<UserDto> toCursorPage(List<SubscribedUserSummary> summaries, int size) {
+        Long nextCursor = summaries.size() < size ? null : summaries.get(summaries.size() - 1).getSubscriptionId();
+        return new CursorPageDto<>(summaries.stream().map(userMapper::toDto).toList(), nextCursor);
+    }
+
+    private void streamUsers(Stream<User> users, List<UserFilter> inMemoryFilters, UserFilterDto filterDto,
+                             Consumer<UserDto> consumer) {
+        users.forEach(user -> {
+            if (applyInMemory(List.of(user), inMemoryFilters, filterDto).size() == 1) {
+                consumer.accept(userMapper.toDto(user));
+            }
+            entityManager.detach(user);
+        });
+    }
+
+    private ApplicableFilters applicableFilters(UserFilterDto filterDto) {
+        List<QueryableUserFilter> queryable = new ArrayList<>();
+        List<UserFilter> inMemory = new ArrayList<>();
+        userFilters.stream()
+                .filter(filter -> filter.isApplicable(filterDto))
+                .forEach(filter -> {
+                    if (filter instanceof QueryableUserFilter queryableFilter) {
+                        queryable.add(queryableFilter);
+                    } else {
+                        inMemory.add(filter);
+                    }
+                });
+        return new ApplicableFilters(queryable, inMemory);
+    }
+
+    private List<User> applyInMemory(List<User> users, List<UserFilter> inMemoryFilters, UserFilterDto filterDto) {
+        for (UserFilter filter : inMemoryFilters) {
+            users = filter.apply(users, filterDto).toList();
+        }
+        return users;
     }
 
     private void sendToRedisPublisher(Long followerId, Long followeeId) {
@@ -81,6 +252,9 @@ public class SubscriptionService {
                 .visitorId(followerId)
                 .visitedId(followeeId).build();
 
-        followerEventPublisher.publish(followerEventDto);
+        outboxService.enqueue(followerEventPublisher, AggregateType.USER, followerId, followerEventDto);
+    }
+
+    private record ApplicableFilters(List<QueryableUserFilter> queryable, List<UserFilter> inMemory) {
     }
 }
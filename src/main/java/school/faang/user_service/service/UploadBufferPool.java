@@ -0,0 +1,57 @@
+package school.faang.user_service.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import school.faang.user_service.exception.UploadCapacityExceededException;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Part-sized buffers for streaming uploads. A borrowed buffer holds semaphore permits for its bytes, so uploads in
+ * flight never hold more than the configured cap however many run at once. Returned buffers are kept for reuse;
+ * there can never be more of them than fit under the cap.
+ */
+@Component
+public class UploadBufferPool {
+    private final int bufferSize;
+    private final Semaphore inFlightBytes;
+    private final Duration acquireTimeout;
+    private final Queue<byte[]> idle = new ConcurrentLinkedQueue<>();
+
+    public UploadBufferPool(@Value("${services.s3.upload.part-size}") DataSize partSize,
+                            @Value("${services.s3.upload.max-in-flight}") DataSize maxInFlight,
+                            @Value("${services.s3.upload.acquire-timeout}") Duration acquireTimeout) {
+        if (maxInFlight.compareTo(partSize) < 0) {
+            throw new IllegalArgumentException("Upload cap " + maxInFlight + " is smaller than one part " + partSize);
+        }
+        this.bufferSize = Math.toIntExact(partSize.toBytes());
+        this.inFlightBytes = new Semaphore(Math.toIntExact(maxInFlight.toBytes()), true);
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    /**
+     * @throws UploadCapacityExceededException if no buffer frees up within the timeout
+     */
+    public byte[] acquire() {
+        try {
+            if (!inFlightBytes.tryAcquire(bufferSize, acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new UploadCapacityExceededException("Too many uploads in progress, try again later");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UploadCapacityExceededException("Interrupted while waiting for an upload buffer");
+        }
+        byte[] buffer = idle.poll();
+        return buffer != null ? buffer : new byte[bufferSize];
+    }
+
+    public void release(byte[] buffer) {
+        idle.offer(buffer);
+        inFlightBytes.release(bufferSize);
+    }
+}
@@ -0,0 +1,97 @@
+package school.faang.user_service.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.dto.user.UserDeactivationDto;
+import school.faang.user_service.entity.DeactivationStage;
+import school.faang.user_service.entity.UserDeactivation;
+import school.faang.user_service.repository.UserDeactivationRepository;
+import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.goal.GoalRepository;
+import school.faang.user_service.repository.mentorship.MentorshipRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Cleans up after a deactivated user in small set-based chunks. Every chunk runs in its own transaction together
+ * with the update of the job row, so a crashed worker resumes from the last committed chunk.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDeactivationService {
+    private final UserDeactivationRepository userDeactivationRepository;
+    private final GoalRepository goalRepository;
+    private final EventRepository eventRepository;
+    private final MentorshipRepository mentorshipRepository;
+
+    @Value("${user.deactivation.chunk-size}")
+    private int chunkSize;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void schedule(long userId) {
+        userDeactivationRepository.enqueue(userId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findUnfinished(int limit) {
+        return userDeactivationRepository.findUnfinishedUserIds(limit);
+    }
+
+    @Transactional(readOnly = true)
+    public UserDeactivationDto getProgress(long userId) {
+        UserDeactivation deactivation = userDeactivationRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException("there is no deactivation of user with id: " + userId));
+        return UserDeactivationDto.builder()
+                .userId(deactivation.getUserId())
+                .stage(deactivation.getStage())
+                .processed(deactivation.getProcessed())
+                .finished(deactivation.getStage() == DeactivationStage.DONE)
+                .updatedAt(deactivation.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Runs the next chunk of the user's deactivation.
+     *
+     * @return {@code true} while the job has work left and was not taken by another worker
+     */
+    @Transactional
+    public boolean processChunk(long userId) {
+        Optional<UserDeactivation> locked = userDeactivationRepository.lockUnfinished(userId);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        UserDeactivation deactivation = locked.get();
+        int affected = runStage(deactivation.getStage(), userId);
+        deactivation.setProcessed(deactivation.getProcessed() + affected);
+        if (affected < chunkSize) {
+            deactivation.setStage(deactivation.getStage().next());
+            log.debug("Deactivation of user {} moved to stage {}", userId, deactivation.getStage());
+        }
+        userDeactivationRepository.save(deactivation);
+
+        if (deactivation.getStage() == DeactivationStage.DONE) {
+            log.info("Deactivation of user {} finished, {} rows processed", userId, deactivation.getProcessed());
+            return false;
+        }
+        return true;
+    }
+
+    private int runStage(DeactivationStage stage, long userId) {
+        return switch (stage) {
+            case SOLO_GOALS -> goalRepository.deleteSoloGoalsOfUser(userId, chunkSize);
+            case GOAL_LINKS -> goalRepository.unlinkUserFromGoals(userId, chunkSize);
+            case PLANNED_EVENTS -> eventRepository.cancelPlannedEventsOfOwner(userId, chunkSize);
+            case MENTORED_GOALS -> goalRepository.handOverMentoredGoals(userId, chunkSize);
+            case MENTORSHIPS -> mentorshipRepository.deleteMenteesOf(userId, chunkSize);
+            case DONE -> 0;
+        };
+    }
+}
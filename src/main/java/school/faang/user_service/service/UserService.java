@@ -4,20 +4,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.web.multipart.MultipartFile;
+import school.faang.user_service.cache.UserCache;
 import school.faang.user_service.dto.BanEvent;
+import school.faang.user_service.dto.CursorPageDto;
 import school.faang.user_service.dto.UserProfilePicDto;
 import school.faang.user_service.dto.event.ProfilePicEvent;
+import school.faang.user_service.dto.user.UserDeactivationDto;
 import school.faang.user_service.dto.user.UserDto;
+import school.faang.user_service.dto.user.UserFilterDto;
 import school.faang.user_service.dto.user.UserTransportDto;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.entity.UserProfilePic;
-import school.faang.user_service.entity.event.Event;
-import school.faang.user_service.entity.event.EventStatus;
-import school.faang.user_service.entity.goal.Goal;
+import school.faang.user_service.entity.outbox.AggregateType;
 import school.faang.user_service.event.ProfileViewEvent;
 import school.faang.user_service.exception.UserNotFoundException;
 import school.faang.user_service.handler.EntityHandler;
@@ -25,15 +29,17 @@ import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.publisher.ProfileViewEventPublisher;
 import school.faang.user_service.publisher.ProfilePicEventPublisher;
 import school.faang.user_service.repository.UserRepository;
-import school.faang.user_service.repository.event.EventRepository;
-import school.faang.user_service.repository.goal.GoalRepository;
 import school.faang.user_service.validator.UserValidator;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 @Slf4j
 @Service
@@ -41,74 +47,118 @@ import java.util.stream.Stream;
 public class UserService {
 
     private final UserMapper userMapper;
+    private final UserCache userCache;
     private final AvatarService avatarService;
+    private final ProfilePicService profilePicService;
     private final EntityHandler entityHandler;
     private final UserValidator userValidator;
     private final UserRepository userRepository;
-    private final GoalRepository goalRepository;
-    private final EventRepository eventRepository;
-    private final MentorshipService mentorshipService;
+    private final UserDeactivationService userDeactivationService;
+    private final SubscriptionService subscriptionService;
+    private final OutboxService outboxService;
     private final ObjectMapper objectMapper;
     private final ProfilePicEventPublisher profilePicEventPublisher;
     private final ProfileViewEventPublisher profileViewEventPublisher;
+    private final ThreadPoolExecutor threadPool;
+    private final TransactionOperations transactionOperations;
+
+    @Value("${user.bulk-lookup.chunk-size}")
+    private int lookupChunkSize;
 
-    @Transactional(readOnly = true)
     public UserDto getUser(long userId, long authorId) {
-        User user = entityHandler.getOrThrowException(User.class, userId, () -> userRepository.findById(userId));
-        profileViewEventPublisher.publish(new ProfileViewEvent(authorId, userId, LocalDateTime.now()));
+        UserDto userDto = userCache.get(userId, () -> userMapper.toCachedDto(entityHandler.getOrThrowException(
+                User.class, userId, () -> userRepository.findWithCountryById(userId))));
         publishViewEventProfile(userId, authorId);
-        return userMapper.toDto(user);
+        return userDto;
     }
 
-    @Transactional
+    /**
+     * An uploaded avatar is streamed to S3 before the transaction starts, so no connection or row lock is held for
+     * the length of the upload; the transaction only saves the user, references the object and enqueues the event.
+     */
     public UserDto createUser(UserDto userDto, MultipartFile userAvatar) {
-        User user = userMapper.toEntity(userDto);
-        user.setActive(true);
-        user = userRepository.save(user);
-        if (userAvatar == null) {
-            avatarService.setRandomAvatar(user);
-        } else {
-            profilePicEventPublisher.publish(new ProfilePicEvent(user.getId(), userAvatar.getOriginalFilename()));
-        }
-        return userMapper.toDto(userRepository.save(user));
+        String fileId = userAvatar == null ? null : avatarService.uploadAvatar(userAvatar);
+        return discardUploadOnFailure(fileId, () -> transactionOperations.execute(status -> {
+            User user = userMapper.toEntity(userDto);
+            user.setActive(true);
+            user = userRepository.save(user);
+            if (fileId == null) {
+                avatarService.assignRandomAvatar(user);
+            } else {
+                useUploadedAvatar(user, fileId);
+            }
+            userCache.evict(user.getId());
+            return userMapper.toDto(user);
+        }));
     }
 
+    @Transactional
     public void uploadAvatar(long userId, UserProfilePicDto userProfilePicDto) {
         User user = userRepository.findById(userId).get();
 
         UserProfilePic userProfilePic = new UserProfilePic();
         userProfilePic.setFileId(userProfilePicDto.getFileId());
         userProfilePic.setSmallFileId(userProfilePicDto.getSmallFileId());
-        user.setUserProfilePic(userProfilePic);
+        profilePicService.replace(user, userProfilePic);
 
         userRepository.save(user);
+        userCache.evict(userId);
     }
 
-    @Transactional
+    // Uploads before the transaction, like createUser.
     public void updateUserAvatar(long userId, MultipartFile multipartFile) {
-        User user = entityHandler.getOrThrowException(User.class, userId, () -> userRepository.findById(userId));
-        if (multipartFile == null) {
-            avatarService.setRandomAvatar(user);
-        } else {
-            profilePicEventPublisher.publish(new ProfilePicEvent(userId, multipartFile.getOriginalFilename()));
-        }
-        userRepository.save(user);
+        String fileId = multipartFile == null ? null : avatarService.uploadAvatar(multipartFile);
+        discardUploadOnFailure(fileId, () -> transactionOperations.execute(status -> {
+            User user = entityHandler.getOrThrowException(User.class, userId, () -> userRepository.findById(userId));
+            if (fileId == null) {
+                avatarService.assignRandomAvatar(user);
+            } else {
+                useUploadedAvatar(user, fileId);
+            }
+            userRepository.save(user);
+            userCache.evict(userId);
+            return user;
+        }));
     }
 
-    @Transactional(readOnly = true)
     public List<UserTransportDto> getUsersByIds(List<Long> ids) {
-        Stream<User> userStream = userRepository.findAllById(ids).stream();
-        return userStream.map(userMapper::toTransportDto).toList();
+        return lookupUsersByIds(ids).stream()
+                .flatMap(chunk -> chunk.join().stream())
+                .toList();
+    }
+
+    public void streamUsersByIds(List<Long> ids, Consumer<UserTransportDto> consumer) {
+        lookupUsersByIds(ids).forEach(chunk -> chunk.join().forEach(consumer));
+    }
+
+    private List<CompletableFuture<List<UserTransportDto>>> lookupUsersByIds(List<Long> ids) {
+        List<Long> distinctIds = ids.stream().distinct().toList();
+        return IntStream.iterate(0, from -> from < distinctIds.size(), from -> from + lookupChunkSize)
+                .mapToObj(from -> distinctIds.subList(from, Math.min(from + lookupChunkSize, distinctIds.size())))
+                .map(chunk -> CompletableFuture.supplyAsync(
+                        () -> userRepository.findTransportSummariesByIdIn(chunk).stream()
+                                .map(userMapper::toTransportDto)
+                                .toList(), threadPool))
+                .toList();
     }
 
+    /**
+     * Marks the user inactive right away; goals, events and mentorships are cleaned up in the background by
+     * {@link UserDeactivationService}.
+     */
     @Transactional
     public UserDto deactivateUser(long userId) {
         User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException(userId));
-        stopUserGoalActivities(user);
-        stopPlannedEventActivities(user);
         user.setActive(false);
-        stopMentorship(user);
-        return userMapper.toDto(userRepository.save(user));
+        user = userRepository.save(user);
+        userDeactivationService.schedule(userId);
+        userCache.evict(userId);
+        return userMapper.toDto(user);
+    }
+
+    @Transactional(readOnly = true)
+    public UserDeactivationDto getDeactivationProgress(long userId) {
+        return userDeactivationService.getProgress(userId);
     }
 
     @Transactional(readOnly = true)
@@ -117,9 +167,13 @@ public class UserService {
     }
 
     @Transactional(readOnly = true)
-    public List<UserDto> getUserFollowers(long userId) {
-        User user = entityHandler.getOrThrowException(User.class, userId, () -> userRepository.findById(userId));
-        return user.getFollowers().stream().map(userMapper::toDto).toList();
+    public CursorPageDto<UserDto> getUserFollowers(long userId, Long cursor, int size) {
+        return subscriptionService.getFollowerSummaries(userId, cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamUserFollowers(long userId, Consumer<UserDto> consumer) {
+        subscriptionService.streamFollowers(userId, new UserFilterDto(), consumer);
     }
 
     @Transactional(readOnly = true)
@@ -130,6 +184,7 @@ public class UserService {
     @Transactional
     public void banedUser(long userId) {
         userRepository.banUserById(userId);
+        userCache.evict(userId);
     }
 
     @Transactional
@@ -142,35 +197,6 @@ public class UserService {
         }
     }
 
-    private void stopUserGoalActivities(User user) {
-        List<Goal> goalsToDelete = user.getGoals().stream()
-                .peek(goal -> goal.getUsers().remove(user))
-                .filter(goal -> goal.getUsers().isEmpty()).toList();
-        goalRepository.deleteAll(goalsToDelete);
-    }
-
-    private void stopPlannedEventActivities(User user) {
-        List<Event> cancelledEvents = user.getOwnedEvents().stream()
-                .filter(event -> event.getStatus() == EventStatus.PLANNED)
-                .peek(event -> event.setStatus(EventStatus.CANCELED)).toList();
-        eventRepository.saveAll(cancelledEvents);
-        user.getOwnedEvents().removeIf(event -> event.getStatus() == EventStatus.CANCELED);
-        userRepository.save(user);
-    }
-
-    private void stopMentorship(User user) {
-        user.getMentees().forEach(mentee -> {
-            mentorshipService.deleteMentor(mentee.getId(), user.getId());
-            setGoalsMentorAsMentee(mentee, user);
-        });
-    }
-
-    private void setGoalsMentorAsMentee(User mentee, User mentor) {
-        mentee.getGoals().stream()
-                .filter(goal -> goal.getMentor().equals(mentor))
-                .forEach(goal -> goal.setMentor(mentee));
-    }
-
     @Transactional
     public void deleteAvatar(long userId) {
         Optional<User> userOptional = userRepository.findById(userId);
@@ -180,12 +206,10 @@ public class UserService {
         }
 
         User user = userOptional.get();
-        UserProfilePic userProfilePic = user.getUserProfilePic();
-        userProfilePic.setSmallFileId(null);
-        userProfilePic.setFileId(null);
-        user.setUserProfilePic(userProfilePic);
+        profilePicService.replace(user, null);
 
         userRepository.save(user);
+        userCache.evict(userId);
     }
 
     @Transactional(readOnly = true)
@@ -199,6 +223,23 @@ public class UserService {
         return new UserProfilePicDto(userProfilePic.getFileId(), userProfilePic.getSmallFileId());
     }
 
+    private void useUploadedAvatar(User user, String fileId) {
+        profilePicService.replace(user, new UserProfilePic(fileId, null));
+        outboxService.enqueue(profilePicEventPublisher, AggregateType.USER, user.getId(),
+                new ProfilePicEvent(user.getId(), fileId));
+    }
+
+    private <T> T discardUploadOnFailure(String fileId, Supplier<T> step) {
+        try {
+            return step.get();
+        } catch (RuntimeException e) {
+            if (fileId != null) {
+                avatarService.discardUpload(fileId);
+            }
+            throw e;
+        }
+    }
+
     private void publishViewEventProfile(long userId, long authorId) {
         profileViewEventPublisher.publish(ProfileViewEvent.builder()
                 .viewedId(userId)
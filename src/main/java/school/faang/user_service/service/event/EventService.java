@@ -2,8 +2,11 @@ package school.faang.user_service.service.event;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.dto.event.EventCursorDto;
+import school.faang.user_service.dto.event.EventPageDto;
 import school.faang.user_service.dto.event.ReadEvetDto;
 import school.faang.user_service.dto.event.WriteEventDto;
 import school.faang.user_service.entity.event.Event;
@@ -13,10 +16,10 @@ import school.faang.user_service.filter.event.EventFilterDto;
 import school.faang.user_service.mapper.event.EventToReadEventDtoMapper;
 import school.faang.user_service.mapper.event.WriteEventDtoToEventMapper;
 import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.validator.PageRequestValidator;
 import school.faang.user_service.validator.WriteEventValidator;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -27,6 +30,7 @@ public class EventService {
     private final WriteEventDtoToEventMapper writeEventDtoToEventMapper;
     private final EventToReadEventDtoMapper eventToReadEventDtoMapper;
     private final WriteEventValidator validator;
+    private final PageRequestValidator pageRequestValidator;
     private final List<EventFieldFilter> eventFieldFilters;
 
     @Transactional
@@ -37,13 +41,17 @@ public class EventService {
         return eventToReadEventDtoMapper.map(event);
     }
 
-    public List<ReadEvetDto> findAllByFilter(EventFilterDto eventFilterDto) {
-        Stream<Event> eventStream = eventRepository.findAll().stream();
-        return eventFieldFilters.stream()
+    public EventPageDto findAllByFilter(EventFilterDto eventFilterDto, EventCursorDto cursor, int size) {
+        pageRequestValidator.validatePageSize(size);
+        Specification<Event> specification = eventFieldFilters.stream()
                 .filter(eventFieldFilter -> eventFieldFilter.isApplicable(eventFilterDto))
-                .flatMap(eventFieldFilter -> eventFieldFilter.apply(eventStream, eventFilterDto))
-                .map(eventToReadEventDtoMapper::map)
-                .toList();
+                .map(eventFieldFilter -> eventFieldFilter.toSpecification(eventFilterDto))
+                .reduce(Specification.where(null), Specification::and);
+
+        List<Event> events = eventRepository.findPage(specification, cursor, size);
+        Event last = events.size() < size ? null : events.get(events.size() - 1);
+        EventCursorDto nextCursor = last == null ? null : new EventCursorDto(last.getStartDate(), last.getId());
+        return new EventPageDto(events.stream().map(eventToReadEventDtoMapper::map).toList(), nextCursor);
     }
 
     public ReadEvetDto findById(Long id) {
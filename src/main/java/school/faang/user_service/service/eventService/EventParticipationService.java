@@ -2,10 +2,11 @@ package school.faang.user_service.service.eventService;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import school.faang.user_service.dto.user.UserDto;
-import school.faang.user_service.entity.User;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.repository.event.EventParticipationRepository;
+import school.faang.user_service.repository.event.EventRepository;
 import school.faang.user_service.validator.EventParticipantValidator;
 
 import java.util.List;
@@ -15,22 +16,31 @@ import java.util.List;
 public class EventParticipationService {
 
     private final EventParticipationRepository eventParticipationRepository;
+    private final EventRepository eventRepository;
     private final UserMapper userMapper;
     private final EventParticipantValidator eventParticipantValidator;
 
+    // The seat is taken last so the event row stays locked for as short as possible; a full event rolls back
+    // the registration row together with the failed reservation.
+    @Transactional
     public void registerParticipant(long eventId, long userId) {
         eventParticipantValidator.checkNoRegistrationAtEvent(eventId, userId);
-        eventParticipationRepository.register(eventId, userId);
+        if (eventParticipationRepository.register(eventId, userId) == 0) {
+            return;
+        }
+        eventParticipantValidator.checkSeatReserved(eventId, eventRepository.reserveSeat(eventId));
     }
 
+    @Transactional
     public void unregisterParticipant(long eventId, long userId) {
         eventParticipantValidator.checkRegistrationAtEvent(eventId, userId);
-        eventParticipationRepository.unregister(eventId, userId);
+        if (eventParticipationRepository.unregister(eventId, userId) > 0) {
+            eventRepository.releaseSeat(eventId);
+        }
     }
 
     public List<UserDto> getParticipant(long id) {
-        List<User> eventUsers = eventParticipationRepository.findAllParticipantsByEventId(id);
-        return eventUsers.stream()
+        return eventParticipationRepository.findParticipantSummariesByEventId(id).stream()
                 .map(userMapper::toDto)
                 .toList();
     }
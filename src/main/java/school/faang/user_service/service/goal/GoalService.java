@@ -2,37 +2,55 @@ package school.faang.user_service.service.goal;
 
 import com.amazonaws.services.kms.model.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.cache.GoalTitleBloomFilter;
 import school.faang.user_service.dto.GoalDto;
 import school.faang.user_service.dto.GoalFilterDto;
 import school.faang.user_service.filter.GoalFilters;
 import school.faang.user_service.entity.goal.Goal;
+import school.faang.user_service.event.GoalTitleSavedEvent;
 import school.faang.user_service.mapper.GoalMapper;
 import school.faang.user_service.repository.goal.GoalRepository;
+import school.faang.user_service.repository.goal.GoalSpecifications;
 import school.faang.user_service.validator.GoalServiceValidate;
 
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
 public class GoalService {
+    private static final String TITLE_UNIQUE_CONSTRAINT = "uq_goal_title";
+
     private final GoalRepository goalRepository;
     private final SkillService skillService;
     private final GoalMapper goalMapper;
     private final List<GoalFilters> goalFilters;
     private final GoalServiceValidate goalServiceValidate;
+    private final GoalTitleBloomFilter goalTitleBloomFilter;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public GoalDto createGoal(Long userId, GoalDto goalDto) {
-        List<String> allGoalTitles = goalRepository.findAllGoalTitles();
         int countActiveUser = goalRepository.countActiveGoalsPerUser(userId);
 
         goalServiceValidate.checkLimitCountUser(countActiveUser);
-        goalServiceValidate.checkDuplicateTitleGoal(goalDto, allGoalTitles);
-
-        goalRepository.create(goalDto.getTitle(), goalDto.getDescription(), goalDto.getParentId());
+        goalServiceValidate.checkDuplicateTitleGoal(isTitleTaken(goalDto.getTitle()));
+
+        Long goalId;
+        try {
+            goalId = goalRepository.create(goalDto.getTitle(), goalDto.getDescription(), goalDto.getParentId());
+        } catch (DataIntegrityViolationException e) {
+            goalServiceValidate.checkDuplicateTitleGoal(isTitleConstraint(e));
+            throw e;
+        }
+        goalRepository.addToHierarchy(goalId, goalDto.getParentId());
+        eventPublisher.publishEvent(new GoalTitleSavedEvent(goalDto.getTitle()));
         skillService.create(goalMapper.toGoal(goalDto).getSkillsToAchieve(), userId);
         return goalDto;
     }
@@ -45,43 +63,63 @@ public class GoalService {
 
         goalServiceValidate.checkStatusGoal(goal);
         goalServiceValidate.existByTitle(updateGoal.getSkillsToAchieve());
+        if (!Objects.equals(goal.getTitle(), updateGoal.getTitle())) {
+            goalServiceValidate.checkDuplicateTitleGoal(isTitleTaken(updateGoal.getTitle()));
+        }
 
         goal.setStatus(updateGoal.getStatus());
         goal.setTitle(updateGoal.getTitle());
         goal.setSkillsToAchieve(updateGoal.getSkillsToAchieve());
         goal.setDescription(updateGoal.getDescription());
 
-        goalRepository.save(goal);
-        skillService.addSkillToUsers(goalRepository.findUsersByGoalId(goalId), goalId);
+        try {
+            goalRepository.saveAndFlush(goal);
+        } catch (DataIntegrityViolationException e) {
+            goalServiceValidate.checkDuplicateTitleGoal(isTitleConstraint(e));
+            throw e;
+        }
+        eventPublisher.publishEvent(new GoalTitleSavedEvent(goal.getTitle()));
+        skillService.addSkillToUsers(goalId);
         return goalMapper.toGoalDto(goal);
     }
 
     @Transactional
     public void deleteGoal(long goalId) {
-        Stream<Goal> goal = goalRepository.findByParent(goalId);
-        goalServiceValidate.checkExistenceGoal(goal);
+        goalServiceValidate.checkExistenceGoal(goalRepository.existsById(goalId));
 
-        goalRepository.deleteById(goalId);
+        goalRepository.deleteSubtree(goalId);
     }
 
-    @Transactional
-    public List<GoalDto> getSubtasksByGoalId(long goalId, GoalFilterDto filterGoals) {
-        Stream<Goal> goal = goalRepository.findByParent(goalId);
-        return filters(goal, filterGoals);
+    /**
+     * Subtasks of the goal down to {@code maxDepth} levels below it, or the whole subtree when no depth is given.
+     */
+    @Transactional(readOnly = true)
+    public List<GoalDto> getSubtasksByGoalId(long goalId, Integer maxDepth, GoalFilterDto filterGoals) {
+        int depth = maxDepth == null ? Integer.MAX_VALUE : maxDepth;
+        return find(GoalSpecifications.subtreeOf(goalId, depth), filterGoals);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<GoalDto> getGoalsByUser(long userId, GoalFilterDto filterGoals) {
-        Stream<Goal> goal = goalRepository.findGoalsByUserId(userId);
-        return filters(goal, filterGoals);
+        return find(GoalSpecifications.ownedBy(userId), filterGoals);
+    }
+
+    private boolean isTitleTaken(String title) {
+        return goalTitleBloomFilter.mightContain(title) && goalRepository.existsByTitle(title);
+    }
+
+    private boolean isTitleConstraint(DataIntegrityViolationException e) {
+        String message = e.getMostSpecificCause().getMessage();
+        return message != null && message.contains(TITLE_UNIQUE_CONSTRAINT);
     }
 
-    private List<GoalDto> filters(Stream<Goal> goal, GoalFilterDto filterGoals) {
-        goalFilters.stream()
+    private List<GoalDto> find(Specification<Goal> scope, GoalFilterDto filterGoals) {
+        Specification<Goal> specification = goalFilters.stream()
                 .filter(filter -> filter.isApplicable(filterGoals))
-                .forEach(filter -> filter.apply(goal, filterGoals));
+                .map(filter -> filter.toSpecification(filterGoals))
+                .reduce(scope, Specification::and);
 
-        return goal
+        return goalRepository.findAll(specification, Sort.by("id")).stream()
                 .map(goalMapper::toGoalDto)
                 .toList();
     }
@@ -4,10 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import school.faang.user_service.entity.Skill;
-import school.faang.user_service.entity.User;
 import school.faang.user_service.repository.SkillRepository;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -21,18 +22,27 @@ public class SkillService {
                 .allMatch(skillRepository::existsByTitle);
     }
 
+    /**
+     * @return number of skills the user did not hold before
+     */
     @Transactional
-    public void create(List<Skill> skills, Long userId) {
-        skills.stream()
+    public int create(List<Skill> skills, Long userId) {
+        Set<Long> skillIds = skills.stream()
                 .map(Skill::getId)
-                .forEach(skillId ->
-                        skillRepository.assignSkillToUser(skillId, userId));
+                .collect(Collectors.toSet());
+        if (skillIds.isEmpty()) {
+            return 0;
+        }
+        return skillRepository.assignSkillsToUser(userId, skillIds);
     }
 
+    /**
+     * Hands the skills of the goal to all of its participants with a single statement.
+     *
+     * @return number of user skills that were added
+     */
     @Transactional
-    public void addSkillToUsers(List<User> users, Long goalId) {
-        users.forEach(user ->
-                user.getSkills()
-                        .addAll(skillRepository.findSkillsByGoalId(goalId)));
+    public int addSkillToUsers(long goalId) {
+        return skillRepository.assignGoalSkillsToParticipants(goalId);
     }
 }
\ No newline at end of file
@@ -1,8 +1,14 @@
 package school.faang.user_service.service.mentorship;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.event.MentorshipAcceptedEvent;
 import school.faang.user_service.dto.mentorship.MentorshipRequestDto;
 import school.faang.user_service.dto.mentorship.MentorshipRequestFilterDto;
@@ -10,6 +16,7 @@ import school.faang.user_service.dto.mentorship.RejectionDto;
 import school.faang.user_service.entity.MentorshipRequest;
 import school.faang.user_service.entity.RequestStatus;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.outbox.AggregateType;
 import school.faang.user_service.event.MentorshipRequestEvent;
 import school.faang.user_service.event.MentorshipStartEvent;
 import school.faang.user_service.event.MentorshipOfferedEvent;
@@ -18,10 +25,11 @@ import school.faang.user_service.mapper.mentorship.MentorshipRequestEventMapper;
 import school.faang.user_service.mapper.mentorship.MentorshipOfferedEventMapper;
 import school.faang.user_service.mapper.mentorship.MentorshipRequestMapper;
 import school.faang.user_service.publisher.MentorshipAcceptedEventPublisher;
+import school.faang.user_service.publisher.MentorshipOfferedEventPublisher;
 import school.faang.user_service.publisher.MentorshipRequestEventPublisher;
 import school.faang.user_service.publisher.MentorshipStartEventPublisher;
-import school.faang.user_service.publishier.MentorshipOfferedEventPublisher;
 import school.faang.user_service.repository.mentorship.MentorshipRequestRepository;
+import school.faang.user_service.service.OutboxService;
 import school.faang.user_service.validator.MentorshipRequestValidator;
 
 import java.time.LocalDateTime;
@@ -39,6 +47,8 @@ public class MentorshipRequestService {
     private final List<MentorshipRequestFilter> mentorshipRequestFilterList;
     private final MentorshipRequestEventPublisher mentorshipRequestEventPublisher;
     private final MentorshipAcceptedEventPublisher mentorshipAcceptedEventPublisher;
+    private final OutboxService outboxService;
+    private final EntityManager entityManager;
 
     @Transactional
     public MentorshipRequestDto requestMentorship(MentorshipRequestDto mentorshipRequestDto) {
@@ -50,21 +60,34 @@ public class MentorshipRequestService {
         MentorshipRequest mentorshipRequest = mentorshipRequestRepository.create(requesterId, receiverId, description);
 
         MentorshipRequestEvent mentorshipRequestEvent = mentorshipRequestEventMapper.toEvent(mentorshipRequest);
-        mentorshipRequestEventPublisher.publish(mentorshipRequestEvent);
+        outboxService.enqueue(mentorshipRequestEventPublisher, AggregateType.MENTORSHIP_REQUEST,
+                mentorshipRequest.getId(), mentorshipRequestEvent);
         return mentorshipRequestMapper.toDto(mentorshipRequest);
     }
 
     @Transactional(readOnly = true)
-    public List<MentorshipRequestDto> getRequests(MentorshipRequestFilterDto filtersDto) {
-        Stream<MentorshipRequest> allMatchedMentorshipRequests = mentorshipRequestRepository.findAll().stream();
-        List<MentorshipRequestFilter> applicableMentorshipRequestFilters =
-                mentorshipRequestFilterList.stream().filter(filter -> filter.isApplicable(filtersDto)).toList();
+    public PageDto<MentorshipRequestDto> getRequests(MentorshipRequestFilterDto filtersDto, Pageable pageable,
+                                                     boolean withTotal) {
+        mentorshipRequestValidator.validatePageRequest(pageable);
+        Specification<MentorshipRequest> specification = toSpecification(filtersDto);
+
+        Slice<MentorshipRequest> requests = mentorshipRequestRepository.findSlice(specification, pageable);
+        Long totalElements = withTotal ? mentorshipRequestRepository.count(specification) : null;
+        return new PageDto<>(mentorshipRequestMapper.toDtoList(requests.getContent()), requests.getNumber(),
+                requests.getSize(), requests.hasNext(), totalElements);
+    }
 
-        for (MentorshipRequestFilter mentorshipRequestFilter : applicableMentorshipRequestFilters) {
-            allMatchedMentorshipRequests = mentorshipRequestFilter.filter(allMatchedMentorshipRequests, filtersDto);
+    @Transactional(readOnly = true)
+    public void exportRequests(MentorshipRequestFilterDto filtersDto, Sort sort,
+                               Consumer<MentorshipRequestDto> consumer) {
+        mentorshipRequestValidator.validateSort(sort);
+
+        try (Stream<MentorshipRequest> requests = mentorshipRequestRepository.stream(toSpecification(filtersDto), sort)) {
+            requests.forEach(mentorshipRequest -> {
+                consumer.accept(mentorshipRequestMapper.toDto(mentorshipRequest));
+                entityManager.detach(mentorshipRequest);
+            });
         }
-
-        return mentorshipRequestMapper.toDtoList(allMatchedMentorshipRequests.toList());
     }
 
     @Transactional
@@ -78,7 +101,8 @@ public class MentorshipRequestService {
             mentorshipRequest.setStatus(RequestStatus.ACCEPTED);
         });
 
-        mentorshipAcceptedEventPublisher.publish(new MentorshipAcceptedEvent(
+        outboxService.enqueue(mentorshipAcceptedEventPublisher, AggregateType.MENTORSHIP_REQUEST,
+                processedMentorshipRequest.getId(), new MentorshipAcceptedEvent(
                         processedMentorshipRequest.getRequester().getId(),
                         processedMentorshipRequest.getReceiver().getId(),
                         processedMentorshipRequest.getId())
@@ -107,4 +131,11 @@ public class MentorshipRequestService {
         mentorshipRequest.setUpdatedAt(LocalDateTime.now());
         return mentorshipRequestRepository.save(mentorshipRequest);
     }
+
+    private Specification<MentorshipRequest> toSpecification(MentorshipRequestFilterDto filtersDto) {
+        return mentorshipRequestFilterList.stream()
+                .filter(filter -> filter.isApplicable(filtersDto))
+                .map(filter -> filter.toSpecification(filtersDto))
+                .reduce(Specification.where(null), Specification::and);
+    }
 }
@@ -1,7 +1,12 @@
 package school.faang.user_service.service.recommendation;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recommendation.RecommendationRequestDto;
 import school.faang.user_service.dto.recommendation.RejectionDto;
 import school.faang.user_service.dto.recommendation.RequestFilterDto;
@@ -14,8 +19,6 @@ import school.faang.user_service.validator.recommendation.RecommendationRequestD
 import school.faang.user_service.validator.recommendation.RecommendationRequestIdValidator;
 
 import java.util.List;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 import static school.faang.user_service.entity.RequestStatus.PENDING;
 
@@ -44,23 +47,27 @@ public class RecommendationRequestService {
 
         recommendationRequestDto.getSkills().forEach(skill -> skillRequestRepository.create(Id, skill.getId()));
 
-        return recommendationRequestMapper.toDto(recommendationRequest, userRepository);
+        return recommendationRequestMapper.toDto(recommendationRequest);
     }
 
-    public List<RecommendationRequestDto> getRequests(RequestFilterDto filter) {
-        Stream<RecommendationRequest> recommendations = StreamSupport.stream(recommendationRequestRepository.findAll().spliterator(), false);
-
-        requestFilters.stream()
+    @Transactional(readOnly = true)
+    public PageDto<RecommendationRequestDto> getRequests(RequestFilterDto filter, Pageable pageable, boolean withTotal) {
+        recommendationRequestDtoValidator.validatePageRequest(pageable);
+        Specification<RecommendationRequest> specification = requestFilters.stream()
                 .filter(requestFilter -> requestFilter.isApplicable(filter))
-                .forEach(requestFilter -> requestFilter.apply(recommendations, filter));
+                .map(requestFilter -> requestFilter.toSpecification(filter))
+                .reduce(Specification.where(null), Specification::and);
 
-        return recommendations.map(recommendation -> recommendationRequestMapper.toDto(recommendation, userRepository)).toList();
+        Slice<RecommendationRequest> requests = recommendationRequestRepository.findSlice(specification, pageable);
+        Long totalElements = withTotal ? recommendationRequestRepository.count(specification) : null;
+        return new PageDto<>(recommendationRequestMapper.toDtoList(requests.getContent()), requests.getNumber(),
+                requests.getSize(), requests.hasNext(), totalElements);
     }
 
     public RecommendationRequestDto getRequest(Long id) {
         recommendationRequestIdValidator.validateId(id);
 
-        return recommendationRequestMapper.toDto(recommendationRequestRepository.findById(id).get(), userRepository);
+        return recommendationRequestMapper.toDto(recommendationRequestRepository.findById(id).get());
     }
 
     public RecommendationRequestDto rejectRequest(Long id, RejectionDto rejection) {
@@ -74,6 +81,6 @@ public class RecommendationRequestService {
         }
         recommendationRequest.setRejectionReason(rejection.getReason());
 
-        return recommendationRequestMapper.toDto(recommendationRequest, userRepository);
+        return recommendationRequestMapper.toDto(recommendationRequest);
     }
 }
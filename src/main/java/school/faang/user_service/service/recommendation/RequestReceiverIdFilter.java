@@ -1,19 +1,20 @@
 package school.faang.user_service.service.recommendation;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.recommendation.RequestFilterDto;
 import school.faang.user_service.entity.recommendation.RecommendationRequest;
 
-import java.util.stream.Stream;
-
-public class RequestReceiverIdFilter implements RequestFilter{
+@Component
+public class RequestReceiverIdFilter implements RequestFilter {
     @Override
     public boolean isApplicable(RequestFilterDto filter) {
         return filter.getReceiverId() != null;
     }
 
     @Override
-    public void apply(Stream<RecommendationRequest> recommendationRequests, RequestFilterDto filter) {
-        recommendationRequests
-                .filter(recommendationRequest -> recommendationRequest.getReceiver().getId() == filter.getReceiverId());
+    public Specification<RecommendationRequest> toSpecification(RequestFilterDto filter) {
+        return (recommendationRequest, query, cb) ->
+                cb.equal(recommendationRequest.get("receiver").get("id"), filter.getReceiverId());
     }
 }
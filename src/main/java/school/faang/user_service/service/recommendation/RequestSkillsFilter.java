@@ -1,19 +1,39 @@
 package school.faang.user_service.service.recommendation;
 
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
 import school.faang.user_service.dto.recommendation.RequestFilterDto;
 import school.faang.user_service.entity.recommendation.RecommendationRequest;
+import school.faang.user_service.entity.recommendation.SkillRequest;
 
-import java.util.stream.Stream;
+import java.util.HashSet;
+import java.util.Set;
 
-public class RequestSkillsFilter implements RequestFilter{
+@Component
+public class RequestSkillsFilter implements RequestFilter {
     @Override
     public boolean isApplicable(RequestFilterDto filter) {
-        return filter.getSkills() != null;
+        return filter.getSkillIds() != null && !filter.getSkillIds().isEmpty();
     }
 
+    /**
+     * Matches requests asking for every given skill. The correlated subquery over skill_request keeps one row per
+     * request, unlike a join that would repeat it for each matching skill.
+     */
     @Override
-    public void apply(Stream<RecommendationRequest> recommendationRequests, RequestFilterDto filter) {
-        recommendationRequests
-                .filter(recommendationRequest -> recommendationRequest.getSkills() == filter.getSkills());
+    public Specification<RecommendationRequest> toSpecification(RequestFilterDto filter) {
+        Set<Long> skillIds = new HashSet<>(filter.getSkillIds());
+
+        return (recommendationRequest, query, cb) -> {
+            Subquery<Long> requestedSkills = query.subquery(Long.class);
+            Root<SkillRequest> skillRequest = requestedSkills.from(SkillRequest.class);
+            requestedSkills.select(cb.countDistinct(skillRequest.get("skill").get("id")))
+                    .where(cb.equal(skillRequest.get("request"), recommendationRequest),
+                            skillRequest.get("skill").get("id").in(skillIds));
+
+            return cb.equal(requestedSkills, (long) skillIds.size());
+        };
     }
 }
@@ -2,7 +2,6 @@ package school.faang.user_service.validator;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
-import school.faang.user_service.dto.GoalDto;
 import school.faang.user_service.entity.Skill;
 import school.faang.user_service.entity.goal.Goal;
 import school.faang.user_service.entity.goal.GoalStatus;
@@ -10,7 +9,6 @@ import school.faang.user_service.service.goal.SkillService;
 
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -18,8 +16,8 @@ public class GoalServiceValidate {
     private final SkillService skillService;
     private final static int MAX_NUMBERS_GOAL_USER = 3;
 
-    public void checkDuplicateTitleGoal(GoalDto goal, List<String> allGoalTitles) {
-        if (allGoalTitles.contains(goal.getTitle())) {
+    public void checkDuplicateTitleGoal(boolean titleTaken) {
+        if (titleTaken) {
             throw new IllegalArgumentException("A goal with the same name already exists");
         }
     }
@@ -30,8 +28,10 @@ public class GoalServiceValidate {
         }
     }
 
-    public void checkExistenceGoal(Stream<Goal> goal) {
-        goal.findFirst().orElseThrow(() -> new NoSuchElementException("A goal with this ID does not exist"));
+    public void checkExistenceGoal(boolean exists) {
+        if (!exists) {
+            throw new NoSuchElementException("A goal with this ID does not exist");
+        }
     }
 
     public void checkStatusGoal(Goal goal) {
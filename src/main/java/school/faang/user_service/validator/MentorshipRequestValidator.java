@@ -3,6 +3,8 @@ package school.faang.user_service.validator;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.MentorshipRequest;
 import school.faang.user_service.entity.RequestStatus;
@@ -12,6 +14,7 @@ import school.faang.user_service.repository.mentorship.MentorshipRequestReposito
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Component
@@ -19,9 +22,11 @@ import java.util.Optional;
 public class MentorshipRequestValidator {
     @Getter
     private final int MENTORSHIP_REQUEST_FREQUENCY_IN_DAYS = 90;
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt", "updatedAt", "status");
 
     private final UserRepository userRepository;
     private final MentorshipRequestRepository mentorshipRequestRepository;
+    private final PageRequestValidator pageRequestValidator;
 
     public void validateMentorshipRequestParticipantsExistence(long requesterId, long receiverId) {
         if (!userRepository.existsById(requesterId)) {
@@ -84,4 +89,12 @@ public class MentorshipRequestValidator {
         validateMentorshipRequestParticipantsExistence(requesterId, receiverId);
         validateMentorshipRequestFrequency(requesterId, receiverId, mentorshipCreationDate);
     }
+
+    public void validatePageRequest(Pageable pageable) {
+        pageRequestValidator.validatePageRequest(pageable, SORTABLE_PROPERTIES);
+    }
+
+    public void validateSort(Sort sort) {
+        pageRequestValidator.validateSort(sort, SORTABLE_PROPERTIES);
+    }
 }
@@ -0,0 +1,44 @@
+package school.faang.user_service.validator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import school.faang.user_service.exception.DataValidationException;
+
+import java.util.Set;
+
+/**
+ * Limits shared by every paged listing: the page size is capped, and only whitelisted properties may be sorted by,
+ * so a client cannot order by an unindexed column or a credential.
+ */
+@Slf4j
+@Component
+public class PageRequestValidator {
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    public void validatePageRequest(Pageable pageable, Set<String> sortableProperties) {
+        validatePageSize(pageable.getPageSize());
+        validateSort(pageable.getSort(), sortableProperties);
+    }
+
+    public void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            String errorMessage = String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE);
+            log.error(errorMessage);
+            throw new DataValidationException(errorMessage);
+        }
+    }
+
+    public void validateSort(Sort sort, Set<String> sortableProperties) {
+        sort.stream()
+                .map(Sort.Order::getProperty)
+                .filter(property -> !sortableProperties.contains(property))
+                .findFirst()
+                .ifPresent(property -> {
+                    String errorMessage = String.format("Cannot sort by %s", property);
+                    log.error(errorMessage);
+                    throw new DataValidationException(errorMessage);
+                });
+    }
+}
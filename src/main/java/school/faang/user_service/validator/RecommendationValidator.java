@@ -1,6 +1,8 @@
 package school.faang.user_service.validator;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.webjars.NotFoundException;
 import school.faang.user_service.dto.recomendation.RecommendationDto;
@@ -10,10 +12,14 @@ import school.faang.user_service.exception.DataValidationException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RecommendationValidator {
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt", "updatedAt");
+    private final PageRequestValidator pageRequestValidator;
     private final int MIN_COUNT_MONTH = 6;
     private final String CONTENT_IS_BLANK = "Content is blank";
     private final String CONTENT_IS_NULL = "Content is null";
@@ -57,6 +63,14 @@ public class RecommendationValidator {
         }
     }
 
+    public void validatePageRequest(Pageable pageable) {
+        pageRequestValidator.validatePageRequest(pageable, SORTABLE_PROPERTIES);
+    }
+
+    public void validatePageSize(int size) {
+        pageRequestValidator.validatePageSize(size);
+    }
+
    public void validateId(long id) {
         if (id <= 0) {
             log.error(ID_MESSAGE);
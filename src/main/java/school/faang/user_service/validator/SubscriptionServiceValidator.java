@@ -10,6 +10,7 @@ import school.faang.user_service.repository.SubscriptionRepository;
 @RequiredArgsConstructor
 public class SubscriptionServiceValidator {
     private final SubscriptionRepository subscriptionRepository;
+    private final PageRequestValidator pageRequestValidator;
 
     public void validateFollowUnfollowUser(long followerId, long followeeId) {
         validateExistsById(followerId);
@@ -34,6 +35,10 @@ public class SubscriptionServiceValidator {
         }
     }
 
+    public void validatePageSize(int size) {
+        pageRequestValidator.validatePageSize(size);
+    }
+
     private void validateUserFilterDtoByNull(UserFilterDto filterDto) {
         if (filterDto == null) {
             throw new IllegalArgumentException("UserFilterDto cannot be null");
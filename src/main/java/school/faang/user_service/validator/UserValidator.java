@@ -3,11 +3,12 @@ package school.faang.user_service.validator;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import school.faang.user_service.entity.User;
 import school.faang.user_service.repository.UserRepository;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 @Component
 @Slf4j
@@ -15,9 +16,16 @@ import java.util.List;
 public class UserValidator {
     private final UserRepository userRepository;
 
+    @Value("${user.bulk-lookup.chunk-size}")
+    private int chunkSize;
+
     public boolean doAllUsersExist(List<Long> userIds) {
-        List<User> allById = userRepository.findAllById(userIds);
-        return allById.size() == userIds.size();
+        List<Long> distinctIds = userIds.stream().distinct().toList();
+        long existing = IntStream.iterate(0, from -> from < distinctIds.size(), from -> from + chunkSize)
+                .mapToLong(from -> userRepository.countByIdIn(
+                        distinctIds.subList(from, Math.min(from + chunkSize, distinctIds.size()))))
+                .sum();
+        return existing == distinctIds.size();
     }
 
     public void validateUserExistence(long userId) {
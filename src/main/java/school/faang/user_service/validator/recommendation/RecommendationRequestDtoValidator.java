@@ -2,22 +2,28 @@ package school.faang.user_service.validator.recommendation;
 
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import school.faang.user_service.entity.recommendation.SkillRequest;
 import school.faang.user_service.repository.SkillRepository;
 import school.faang.user_service.repository.recommendation.RecommendationRepository;
 import school.faang.user_service.repository.recommendation.RecommendationRequestRepository;
+import school.faang.user_service.validator.PageRequestValidator;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Set;
 
 @Component
 @RequiredArgsConstructor
 public class RecommendationRequestDtoValidator {
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt", "updatedAt", "status");
+
     private final RecommendationRepository recommendationRepository;
     private final RecommendationRequestRepository recommendationRequestRepository;
     private final SkillRepository skillRepository;
+    private final PageRequestValidator pageRequestValidator;
 
     public void validateMessage(String message) {
         if (message.isEmpty()) {
@@ -47,4 +53,8 @@ public class RecommendationRequestDtoValidator {
             throw new IllegalArgumentException("Not all requested skill exists");
         }
     }
-}
+
+    public void validatePageRequest(Pageable pageable) {
+        pageRequestValidator.validatePageRequest(pageable, SORTABLE_PROPERTIES);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+CREATE TABLE subscription_counter (
+    user_id bigint PRIMARY KEY,
+    followers_count int NOT NULL DEFAULT 0,
+    followees_count int NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_subscription_counter_user_id FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+INSERT INTO subscription_counter (user_id, followers_count, followees_count)
+SELECT u.id,
+       (SELECT count(*) FROM subscription s WHERE s.followee_id = u.id),
+       (SELECT count(*) FROM subscription s WHERE s.follower_id = u.id)
+FROM users u;
@@ -0,0 +1,40 @@
+-- subscription: follower/followee pages are keyset-scanned by id, counts and existence checks filter on both ends
+CREATE INDEX IF NOT EXISTS idx_subscription_followee_id ON subscription (followee_id, id) INCLUDE (follower_id);
+CREATE INDEX IF NOT EXISTS idx_subscription_follower_id ON subscription (follower_id, id) INCLUDE (followee_id);
+CREATE INDEX IF NOT EXISTS idx_subscription_follower_followee ON subscription (follower_id, followee_id);
+
+-- many-to-many join tables are read from both sides
+CREATE INDEX IF NOT EXISTS idx_user_skill_user_id ON user_skill (user_id, skill_id);
+CREATE INDEX IF NOT EXISTS idx_user_skill_skill_id ON user_skill (skill_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_user_event_event_id ON user_event (event_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_user_event_user_id ON user_event (user_id, event_id);
+CREATE INDEX IF NOT EXISTS idx_user_goal_user_id ON user_goal (user_id, goal_id);
+CREATE INDEX IF NOT EXISTS idx_user_goal_goal_id ON user_goal (goal_id, user_id);
+CREATE INDEX IF NOT EXISTS idx_goal_skill_goal_id ON goal_skill (goal_id);
+CREATE INDEX IF NOT EXISTS idx_event_skill_event_id ON event_skill (event_id);
+
+-- goal hierarchy is walked by parent
+CREATE INDEX IF NOT EXISTS idx_goal_parent_goal_id ON goal (parent_goal_id);
+
+-- latest request / recommendation between two users, plus per-side listings
+CREATE INDEX IF NOT EXISTS idx_mentorship_request_requester_receiver
+    ON mentorship_request (requester_id, receiver_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_mentorship_request_receiver ON mentorship_request (receiver_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_recommendation_author_receiver
+    ON recommendation (author_id, receiver_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_recommendation_receiver ON recommendation (receiver_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_recommendation_request_requester_receiver
+    ON recommendation_request (requester_id, receiver_id, status, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_recommendation_request_receiver ON recommendation_request (receiver_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_skill_offer_recommendation_id ON skill_offer (recommendation_id);
+CREATE INDEX IF NOT EXISTS idx_skill_offer_skill_id ON skill_offer (skill_id);
+CREATE INDEX IF NOT EXISTS idx_skill_request_request_id ON skill_request (request_id);
+
+-- remaining owner lookups
+CREATE INDEX IF NOT EXISTS idx_event_user_id ON event (user_id);
+CREATE INDEX IF NOT EXISTS idx_contact_user_id ON contact (user_id);
+CREATE INDEX IF NOT EXISTS idx_mentorship_mentor_id ON mentorship (mentor_id);
+CREATE INDEX IF NOT EXISTS idx_mentorship_mentee_id ON mentorship (mentee_id);
+CREATE INDEX IF NOT EXISTS idx_user_premium_user_id ON user_premium (user_id);
+CREATE INDEX IF NOT EXISTS idx_user_premium_end_date ON user_premium (end_date);
+CREATE INDEX IF NOT EXISTS idx_user_skill_guarantee_user_skill ON user_skill_guarantee (user_id, skill_id);
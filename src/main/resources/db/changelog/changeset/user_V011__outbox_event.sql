@@ -0,0 +1,8 @@
+CREATE TABLE outbox_event (
+    id bigint PRIMARY KEY GENERATED ALWAYS AS IDENTITY UNIQUE,
+    aggregate_type varchar(64) NOT NULL,
+    aggregate_id bigint NOT NULL,
+    channel varchar(128) NOT NULL,
+    payload text NOT NULL,
+    created_at timestamptz DEFAULT current_timestamp
+);
@@ -0,0 +1,6 @@
+-- event listings are keyset-paged by (start_date, id)
+CREATE INDEX IF NOT EXISTS idx_event_start_date_id ON event (start_date, id);
+
+-- title search is a substring match, served by a trigram index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_event_title_trgm ON event USING gin (title gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- request listings are sorted by creation date, alone or per requester
+CREATE INDEX IF NOT EXISTS idx_mentorship_request_requester ON mentorship_request (requester_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_mentorship_request_created_at ON mentorship_request (created_at DESC, id DESC);
+
+-- description search is a case-insensitive substring match
+CREATE INDEX IF NOT EXISTS idx_mentorship_request_description_trgm
+    ON mentorship_request USING gin (lower(description) gin_trgm_ops);
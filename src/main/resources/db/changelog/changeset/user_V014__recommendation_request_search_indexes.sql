@@ -0,0 +1,6 @@
+-- request listings are sorted by creation date, alone or per requester
+CREATE INDEX IF NOT EXISTS idx_recommendation_request_requester ON recommendation_request (requester_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_recommendation_request_created_at ON recommendation_request (created_at DESC, id DESC);
+
+-- skill filter probes skill_request by skill for each candidate request
+CREATE INDEX IF NOT EXISTS idx_skill_request_request_skill ON skill_request (request_id, skill_id);
@@ -0,0 +1,6 @@
+-- cursor feeds walk a user's recommendations by descending id
+CREATE INDEX IF NOT EXISTS idx_recommendation_receiver_id_desc ON recommendation (receiver_id, id DESC);
+CREATE INDEX IF NOT EXISTS idx_recommendation_author_id_desc ON recommendation (author_id, id DESC);
+
+-- paged "given" listing sorted by creation date
+CREATE INDEX IF NOT EXISTS idx_recommendation_author_created_at ON recommendation (author_id, created_at DESC);
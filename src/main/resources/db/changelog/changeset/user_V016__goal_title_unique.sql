@@ -0,0 +1,6 @@
+-- goal titles were only unique by convention; suffix older duplicates with their id before enforcing it
+UPDATE goal g
+SET title = left(g.title, 64 - length(' #' || g.id)) || ' #' || g.id
+WHERE g.id NOT IN (SELECT min(d.id) FROM goal d GROUP BY d.title);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_goal_title ON goal (title);
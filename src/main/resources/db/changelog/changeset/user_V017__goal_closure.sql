@@ -0,0 +1,36 @@
+-- every ancestor/descendant pair of the goal tree, including each goal with itself at depth 0
+CREATE TABLE goal_closure (
+    ancestor_id bigint NOT NULL,
+    descendant_id bigint NOT NULL,
+    depth int NOT NULL,
+
+    PRIMARY KEY (ancestor_id, descendant_id),
+    CONSTRAINT fk_goal_closure_ancestor FOREIGN KEY (ancestor_id) REFERENCES goal (id) ON DELETE CASCADE,
+    CONSTRAINT fk_goal_closure_descendant FOREIGN KEY (descendant_id) REFERENCES goal (id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_goal_closure_ancestor_depth ON goal_closure (ancestor_id, depth);
+CREATE INDEX idx_goal_closure_descendant ON goal_closure (descendant_id);
+
+-- backfill; the depth guard and ON CONFLICT keep a corrupt parent cycle from looping forever
+INSERT INTO goal_closure (ancestor_id, descendant_id, depth)
+WITH RECURSIVE paths AS (
+    SELECT g.id AS ancestor_id, g.id AS descendant_id, 0 AS depth FROM goal g
+    UNION ALL
+    SELECT p.ancestor_id, g.id, p.depth + 1 FROM paths p
+    JOIN goal g ON g.parent_goal_id = p.descendant_id
+    WHERE p.depth < 1000
+)
+SELECT ancestor_id, descendant_id, depth FROM paths
+ON CONFLICT DO NOTHING;
+
+-- a subtree is removed with a single DELETE on goal; rows pointing at its goals go with it
+ALTER TABLE user_goal
+    DROP CONSTRAINT fk_goal_user_id,
+    ADD CONSTRAINT fk_goal_user_id FOREIGN KEY (goal_id) REFERENCES goal (id) ON DELETE CASCADE;
+ALTER TABLE goal_skill
+    DROP CONSTRAINT fk_goal_skill_id,
+    ADD CONSTRAINT fk_goal_skill_id FOREIGN KEY (goal_id) REFERENCES goal (id) ON DELETE CASCADE;
+ALTER TABLE goal_invitation
+    DROP CONSTRAINT fk_goal_id,
+    ADD CONSTRAINT fk_goal_id FOREIGN KEY (goal_id) REFERENCES goal (id) ON DELETE CASCADE;
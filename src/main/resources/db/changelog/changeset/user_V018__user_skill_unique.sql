@@ -0,0 +1,6 @@
+-- a user holds a skill once; drop older duplicates so bulk assignments can rely on ON CONFLICT
+DELETE FROM user_skill us
+WHERE us.id NOT IN (SELECT min(d.id) FROM user_skill d GROUP BY d.user_id, d.skill_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_user_skill ON user_skill (user_id, skill_id);
+DROP INDEX IF EXISTS idx_user_skill_user_id;
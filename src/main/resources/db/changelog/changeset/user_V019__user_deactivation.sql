@@ -0,0 +1,15 @@
+-- background clean-up of deactivated users; one row per user, advanced chunk by chunk through the stages
+CREATE TABLE user_deactivation (
+    user_id bigint PRIMARY KEY,
+    stage varchar(32) NOT NULL,
+    processed bigint DEFAULT 0 NOT NULL,
+    created_at timestamptz DEFAULT current_timestamp,
+    updated_at timestamptz DEFAULT current_timestamp,
+
+    CONSTRAINT fk_user_deactivation_user_id FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_deactivation_unfinished ON user_deactivation (created_at) WHERE stage <> 'DONE';
+
+-- goals mentored by the deactivated user are handed over to their mentees
+CREATE INDEX IF NOT EXISTS idx_goal_mentor_id ON goal (mentor_id) WHERE mentor_id IS NOT NULL;
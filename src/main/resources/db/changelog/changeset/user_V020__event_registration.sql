@@ -0,0 +1,14 @@
+-- a user registers for an event once; drop older duplicates so registration can rely on ON CONFLICT
+DELETE FROM user_event ue
+WHERE ue.id NOT IN (SELECT min(d.id) FROM user_event d GROUP BY d.event_id, d.user_id);
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_user_event ON user_event (event_id, user_id);
+DROP INDEX IF EXISTS idx_user_event_event_id;
+
+-- registered attendees, kept next to max_attendees so a seat is taken with one conditional row update
+ALTER TABLE event ADD COLUMN attendees_count int DEFAULT 0 NOT NULL;
+
+UPDATE event e
+SET attendees_count = c.attendees
+FROM (SELECT ue.event_id, count(*) AS attendees FROM user_event ue GROUP BY ue.event_id) c
+WHERE e.id = c.event_id;
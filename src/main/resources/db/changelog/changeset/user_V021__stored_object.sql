@@ -0,0 +1,13 @@
+-- content-addressed S3 objects (profile pictures), shared by every user whose picture has the same bytes
+CREATE TABLE stored_object (
+    object_key varchar(128) PRIMARY KEY,
+    size bigint NOT NULL,
+    ref_count int DEFAULT 0 NOT NULL,
+    created_at timestamptz DEFAULT current_timestamp,
+    updated_at timestamptz DEFAULT current_timestamp,
+
+    CONSTRAINT chk_stored_object_ref_count CHECK (ref_count >= 0)
+);
+
+-- garbage collection only ever looks at unreferenced objects
+CREATE INDEX IF NOT EXISTS idx_stored_object_unreferenced ON stored_object (updated_at) WHERE ref_count = 0;
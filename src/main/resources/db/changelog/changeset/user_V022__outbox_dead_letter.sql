@@ -0,0 +1,4 @@
+-- events nobody can publish are parked instead of blocking the relay; pending ones are still read in id order
+ALTER TABLE outbox_event ADD COLUMN failed_at timestamptz;
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_pending ON outbox_event (id) WHERE failed_at IS NULL;
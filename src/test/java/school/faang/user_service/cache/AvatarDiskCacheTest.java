@@ -0,0 +1,85 @@
+package school.faang.user_service.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AvatarDiskCacheTest {
+
+    @TempDir
+    private Path directory;
+
+    private AvatarDiskCache diskCache;
+    private AvatarImages images;
+
+    @BeforeEach
+    void setUp() {
+        diskCache = new AvatarDiskCache(directory, DataSize.ofBytes(250));
+        diskCache.load();
+        images = new AvatarImages(new byte[]{1, 2, 3}, new byte[]{4});
+    }
+
+    @Test
+    @DisplayName("Written avatar is read back byte for byte")
+    void testWriteAndRead() {
+        AvatarKey key = new AvatarKey("bottts", 7);
+
+        diskCache.write(key, images);
+
+        AvatarImages read = diskCache.read(key).orElseThrow();
+        assertArrayEquals(images.avatar(), read.avatar());
+        assertArrayEquals(images.smallAvatar(), read.smallAvatar());
+        assertEquals(List.of(key), diskCache.keys());
+    }
+
+    @Test
+    @DisplayName("Unknown avatar is a miss")
+    void testReadMiss() {
+        assertEquals(Optional.empty(), diskCache.read(new AvatarKey("bottts", 7)));
+    }
+
+    @Test
+    @DisplayName("Least recently used avatars are deleted once the size budget is exceeded")
+    void testEvictOverBudget() {
+        AvatarImages large = new AvatarImages(new byte[100], new byte[10]);
+        AvatarKey first = new AvatarKey("bottts", 1);
+        AvatarKey second = new AvatarKey("bottts", 2);
+        AvatarKey third = new AvatarKey("bottts", 3);
+
+        diskCache.write(first, large);
+        diskCache.write(second, large);
+        diskCache.read(first);
+        diskCache.write(third, large);
+
+        assertTrue(diskCache.read(first).isPresent());
+        assertFalse(diskCache.read(second).isPresent());
+        assertTrue(diskCache.read(third).isPresent());
+        assertFalse(Files.exists(directory.resolve(second.id() + ".img")));
+    }
+
+    @Test
+    @DisplayName("Load picks up complete avatars left by a previous run and skips half-written ones")
+    void testLoad() throws Exception {
+        AvatarKey complete = new AvatarKey("bottts", 1);
+        diskCache.write(complete, images);
+        Files.write(directory.resolve(new AvatarKey("bottts", 2).id() + ".img"), new byte[]{1});
+
+        AvatarDiskCache restarted = new AvatarDiskCache(directory, DataSize.ofBytes(250));
+        restarted.load();
+
+        assertEquals(List.of(complete), restarted.keys());
+        assertTrue(restarted.read(complete).isPresent());
+    }
+}
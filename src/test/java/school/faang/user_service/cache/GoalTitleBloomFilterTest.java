@@ -0,0 +1,71 @@
+package school.faang.user_service.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.event.GoalTitleSavedEvent;
+import school.faang.user_service.repository.goal.GoalRepository;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GoalTitleBloomFilterTest {
+
+    @Mock
+    private GoalRepository goalRepository;
+
+    private GoalTitleBloomFilter titleFilter;
+
+    @BeforeEach
+    void setUp() {
+        titleFilter = new GoalTitleBloomFilter(goalRepository, true, 1000, 0.001);
+    }
+
+    @Test
+    @DisplayName("Before the first rebuild every title has to be checked in the database")
+    void testMightContainBeforeRebuild() {
+        assertTrue(titleFilter.mightContain("anything"));
+    }
+
+    @Test
+    @DisplayName("Rebuild loads existing titles and rules out unseen ones")
+    void testRebuild() {
+        when(goalRepository.streamAllTitles()).thenReturn(Stream.of("Learn Java", "Run a marathon"));
+
+        titleFilter.rebuild();
+
+        assertTrue(titleFilter.mightContain("Learn Java"));
+        assertTrue(titleFilter.mightContain("Run a marathon"));
+        assertFalse(titleFilter.mightContain("Learn Kotlin"));
+    }
+
+    @Test
+    @DisplayName("Saved titles are added after the rebuild")
+    void testOnGoalTitleSaved() {
+        when(goalRepository.streamAllTitles()).thenReturn(Stream.empty());
+        titleFilter.rebuild();
+
+        titleFilter.onGoalTitleSaved(new GoalTitleSavedEvent("Learn Kotlin"));
+
+        assertTrue(titleFilter.mightContain("Learn Kotlin"));
+    }
+
+    @Test
+    @DisplayName("Disabled filter never reads titles and defers to the database")
+    void testDisabled() {
+        GoalTitleBloomFilter disabled = new GoalTitleBloomFilter(goalRepository, false, 1000, 0.001);
+
+        disabled.rebuild();
+
+        assertTrue(disabled.mightContain("Learn Kotlin"));
+        verifyNoInteractions(goalRepository);
+    }
+}
@@ -0,0 +1,117 @@
+package school.faang.user_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import school.faang.user_service.dto.CursorPageDto;
+import school.faang.user_service.dto.recomendation.RecommendationDto;
+import school.faang.user_service.dto.recomendation.SkillOfferDto;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationFeedCacheTest {
+
+    private static final String KEY = "recommendation:feed:2";
+    private static final Duration TTL = Duration.ofMinutes(5);
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(10);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private RecommendationFeedCache feedCache;
+    private CursorPageDto<RecommendationDto> firstPage;
+
+    @BeforeEach
+    void setUp() {
+        feedCache = new RecommendationFeedCache(redisTemplate, objectMapper, true, 20, TTL, TOMBSTONE_TTL);
+        firstPage = new CursorPageDto<>(List.of(RecommendationDto.builder()
+                .id(7L)
+                .authorId(1L)
+                .receiverId(2L)
+                .content("content")
+                .skillOffers(List.of(SkillOfferDto.builder().id(3L).skillId(4L).build()))
+                .build()), 7L);
+    }
+
+    @Test
+    @DisplayName("Only the first page of the default size is cacheable")
+    void testIsCacheable() {
+        assertTrue(feedCache.isCacheable(null, 20));
+        assertFalse(feedCache.isCacheable(7L, 20));
+        assertFalse(feedCache.isCacheable(null, 50));
+        assertFalse(new RecommendationFeedCache(redisTemplate, objectMapper, false, 20, TTL, TOMBSTONE_TTL).isCacheable(null, 20));
+    }
+
+    @Test
+    @DisplayName("Miss loads the page and writes it to Redis")
+    void testGetFirstPageLoadsAndWrites() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        assertEquals(firstPage, feedCache.getFirstPage(2L, () -> firstPage));
+        verify(valueOperations).setIfAbsent(KEY, objectMapper.writeValueAsString(firstPage), TTL);
+    }
+
+    @Test
+    @DisplayName("Tombstone left by an eviction is a miss")
+    void testGetFirstPageWhenTombstoned() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn("evicted");
+
+        assertEquals(firstPage, feedCache.getFirstPage(2L, () -> firstPage));
+    }
+
+    @Test
+    @DisplayName("Hit is served without calling the loader")
+    void testGetFirstPageFromRedis() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(firstPage));
+
+        assertEquals(firstPage, feedCache.getFirstPage(2L, () -> {
+            throw new IllegalStateException("loader must not be called");
+        }));
+    }
+
+    @Test
+    @DisplayName("Redis failure falls back to the loader")
+    void testGetFirstPageWhenRedisFails() {
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis is down"));
+
+        assertEquals(firstPage, feedCache.getFirstPage(2L, () -> firstPage));
+    }
+
+    @Test
+    @DisplayName("Evict outside a transaction replaces the page with a tombstone right away")
+    void testEvict() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        feedCache.evict(2L);
+
+        verify(valueOperations).set(KEY, "evicted", TOMBSTONE_TTL);
+    }
+
+    @Test
+    @DisplayName("Evict is a no-op when the cache is disabled")
+    void testEvictWhenDisabled() {
+        new RecommendationFeedCache(redisTemplate, objectMapper, false, 20, TTL, TOMBSTONE_TTL).evict(2L);
+
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -0,0 +1,127 @@
+package school.faang.user_service.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import school.faang.user_service.dto.user.UserDto;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    private static final String KEY = "user:dto:1";
+    private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+    private static final Duration TOMBSTONE_TTL = Duration.ofSeconds(10);
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UserCache userCache;
+    private UserDto userDto;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(redisTemplate, objectMapper, new ChannelTopic("invalidation"),
+                new SimpleMeterRegistry(), 100, Duration.ofMinutes(1), REDIS_TTL, TOMBSTONE_TTL);
+        userDto = UserDto.builder().id(1L).username("username").country(2L).build();
+    }
+
+    @Test
+    @DisplayName("Miss on both tiers loads the user once and writes it through to Redis")
+    void testGetLoadsAndWritesThrough() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals(userDto, userCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return userDto;
+        }));
+        assertEquals(userDto, userCache.get(1L, () -> {
+            loads.incrementAndGet();
+            return userDto;
+        }));
+
+        assertEquals(1, loads.get());
+        verify(valueOperations).setIfAbsent(KEY, objectMapper.writeValueAsString(userDto), REDIS_TTL);
+    }
+
+    @Test
+    @DisplayName("Redis hit is served without calling the loader")
+    void testGetFromRedis() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn(objectMapper.writeValueAsString(userDto));
+
+        assertEquals(userDto, userCache.get(1L, () -> {
+            throw new IllegalStateException("loader must not be called");
+        }));
+    }
+
+    @Test
+    @DisplayName("Redis failure falls back to the loader")
+    void testGetWhenRedisFails() {
+        when(redisTemplate.opsForValue()).thenThrow(new IllegalStateException("redis is down"));
+
+        assertEquals(userDto, userCache.get(1L, () -> userDto));
+    }
+
+    @Test
+    @DisplayName("Evict drops both tiers, leaves a tombstone and notifies other nodes")
+    void testEvict() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        userCache.get(1L, () -> userDto);
+
+        userCache.evict(1L);
+        userCache.get(1L, () -> userDto);
+
+        verify(valueOperations).set(KEY, "evicted", TOMBSTONE_TTL);
+        verify(redisTemplate).convertAndSend("invalidation", "1");
+        verify(valueOperations, times(2)).get(anyString());
+    }
+
+    @Test
+    @DisplayName("Tombstone is a miss, and the loaded user does not replace it")
+    void testGetWhenTombstoned() throws Exception {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(KEY)).thenReturn("evicted");
+
+        assertEquals(userDto, userCache.get(1L, () -> userDto));
+
+        verify(valueOperations).setIfAbsent(KEY, objectMapper.writeValueAsString(userDto), REDIS_TTL);
+        verify(valueOperations, never()).set(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("User loaded while it was evicted is not kept in the local cache")
+    void testGetDoesNotKeepUserEvictedDuringLoad() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        userCache.get(1L, () -> {
+            userCache.evictLocal(1L);
+            return userDto;
+        });
+        userCache.get(1L, () -> userDto);
+
+        verify(valueOperations, times(2)).get(KEY);
+    }
+}
@@ -67,8 +67,8 @@ public class GoalControllerTest {
     public void testGetSubtasksByGoalIdWhenValid() {
         GoalFilterDto filters = new GoalFilterDto();
 
-        goalController.getSubtasksByGoalId(goalId, filters);
-        verify(goalService, times(1)).getSubtasksByGoalId(goalId, filters);
+        goalController.getSubtasksByGoalId(goalId, 2, filters);
+        verify(goalService, times(1)).getSubtasksByGoalId(goalId, 2, filters);
     }
 
     @DisplayName("Успешное получение целей по фильтру")
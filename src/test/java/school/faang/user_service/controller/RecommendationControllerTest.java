@@ -6,6 +6,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import school.faang.user_service.dto.CursorPageDto;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recomendation.RecommendationDto;
 import school.faang.user_service.dto.recomendation.SkillOfferDto;
 import school.faang.user_service.service.RecommendationService;
@@ -70,20 +74,32 @@ public class RecommendationControllerTest {
 
     @Test
     void getAllUserRecommendationTest() {
-        when(service.getAllUserRecommendations(receiverId)).thenReturn(recommendationDtos);
-        List<RecommendationDto> result = controller.getAllUserRecommendations(receiverId);
-        verify(service).getAllUserRecommendations(receiverId);
+        Pageable pageable = PageRequest.of(0, 20);
+        PageDto<RecommendationDto> page = new PageDto<>(recommendationDtos, 0, 20, false, 1L);
+        when(service.getAllUserRecommendations(receiverId, pageable)).thenReturn(page);
+        PageDto<RecommendationDto> result = controller.getAllUserRecommendations(receiverId, pageable);
+        verify(service).getAllUserRecommendations(receiverId, pageable);
         assertNotNull(result);
-        assertEquals(recommendationDtos, result);
+        assertEquals(page, result);
     }
 
     @Test
     void getAllGivenRecommendationsTest() {
-        when(service.getAllUserRecommendations(authorId)).thenReturn(recommendationDtos);
-        List<RecommendationDto> result = controller.getAllUserRecommendations(authorId);
-        verify(service).getAllUserRecommendations(authorId);
+        Pageable pageable = PageRequest.of(0, 20);
+        PageDto<RecommendationDto> page = new PageDto<>(recommendationDtos, 0, 20, false, 1L);
+        when(service.getAllGivenRecommendations(authorId, pageable)).thenReturn(page);
+        PageDto<RecommendationDto> result = controller.getAllGivenRecommendations(authorId, pageable);
+        verify(service).getAllGivenRecommendations(authorId, pageable);
         assertNotNull(result);
-        assertEquals(recommendationDtos, result);
+        assertEquals(page, result);
+    }
+
+    @Test
+    void getReceivedFeedTest() {
+        CursorPageDto<RecommendationDto> page = new CursorPageDto<>(recommendationDtos, null);
+        when(service.getReceivedFeed(receiverId, null, 20)).thenReturn(page);
+        CursorPageDto<RecommendationDto> result = controller.getReceivedFeed(receiverId, null, 20);
+        assertEquals(page, result);
     }
 
     @Test
@@ -42,10 +42,10 @@ public class SubscriptionControllerTest {
     @DisplayName("Test get followers returns UserDto list")
     public void testGetFollowersReturnedUsersDto() {
         UserFilterDto userFilterDto = new UserFilterDto();
-        subscriptionController.getFollowers(1L, userFilterDto);
+        subscriptionController.getFollowers(1L, userFilterDto, 5L, 100);
 
         verify(subscriptionService, Mockito.times(1))
-                .getFollowers(1L, userFilterDto);
+                .getFollowers(1L, userFilterDto, 5L, 100);
     }
 
     @Test
@@ -61,10 +61,10 @@ public class SubscriptionControllerTest {
     @DisplayName("Test get following returns UserDto list")
     public void testGetFollowingReturnedUsersDto() {
         UserFilterDto userFilterDto = new UserFilterDto();
-        subscriptionController.getFollowing(1L, userFilterDto);
+        subscriptionController.getFollowing(1L, userFilterDto, 5L, 100);
 
         verify(subscriptionService, Mockito.times(1))
-                .getFollowing(1L, userFilterDto);
+                .getFollowing(1L, userFilterDto, 5L, 100);
     }
 
     @Test
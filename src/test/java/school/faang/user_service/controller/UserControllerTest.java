@@ -15,6 +15,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMultipartHttpServletRequestBuilder;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import school.faang.user_service.dto.user.UserDto;
+import school.faang.user_service.handler.NdjsonResponseHandler;
 import school.faang.user_service.service.UserService;
 
 import java.util.List;
@@ -35,6 +36,8 @@ class UserControllerTest {
     private UserService userService;
     @Mock
     private ObjectMapper objectMapper;
+    @Mock
+    private NdjsonResponseHandler ndjsonResponseHandler;
     private MockMvc mockMvc;
 
     private long userId;
@@ -98,9 +101,11 @@ class UserControllerTest {
     @Test
     @DisplayName("testing getUserFollowers method")
     void testGetUserFollowers() throws Exception {
-        mockMvc.perform(get("/api/v1/user/{userId}/followers", userId))
+        mockMvc.perform(get("/api/v1/user/{userId}/followers", userId)
+                        .param("cursor", "5")
+                        .param("size", "20"))
                 .andExpect(status().isOk());
-        verify(userService, times(1)).getUserFollowers(userId);
+        verify(userService, times(1)).getUserFollowers(userId, 5L, 20);
     }
 
     @Test
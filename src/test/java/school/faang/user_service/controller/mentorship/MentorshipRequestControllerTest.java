@@ -6,9 +6,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import school.faang.user_service.dto.mentorship.MentorshipRequestDto;
 import school.faang.user_service.dto.mentorship.MentorshipRequestFilterDto;
 import school.faang.user_service.dto.mentorship.RejectionDto;
+import school.faang.user_service.handler.NdjsonResponseHandler;
 import school.faang.user_service.service.mentorship.MentorshipRequestService;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -19,6 +22,8 @@ import static org.mockito.Mockito.verify;
 class MentorshipRequestControllerTest {
     @Mock
     private MentorshipRequestService mentorshipRequestService;
+    @Mock
+    private NdjsonResponseHandler ndjsonResponseHandler;
 
     @InjectMocks
     private MentorshipRequestController mentorshipRequestController;
@@ -39,9 +44,11 @@ class MentorshipRequestControllerTest {
     public void testGetRequestsServiceGetRequestsExecution() {
         MentorshipRequestFilterDto mentorshipRequestFilterDto = new MentorshipRequestFilterDto();
 
-        mentorshipRequestController.getRequests(mentorshipRequestFilterDto);
+        Pageable pageable = PageRequest.of(0, 50);
+
+        mentorshipRequestController.getRequests(mentorshipRequestFilterDto, pageable, false);
         verify(mentorshipRequestService, times(1))
-                .getRequests(mentorshipRequestFilterDto);
+                .getRequests(mentorshipRequestFilterDto, pageable, false);
     }
 
     @Test
@@ -6,6 +6,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recommendation.RecommendationRequestDto;
 import school.faang.user_service.dto.recommendation.RejectionDto;
 import school.faang.user_service.dto.recommendation.RequestFilterDto;
@@ -15,6 +18,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,12 +65,15 @@ class RecommendationRequestControllerTest {
     @Test
     @DisplayName("Testing that getRecommendationRequests calls all of his methods and do return")
     public void testGetRecommendationRequests() {
-        when(recommendationRequestService.getRequests(any())).thenReturn(recommendtionRequestDtoList);
+        Pageable pageable = PageRequest.of(0, 50);
+        PageDto<RecommendationRequestDto> page = new PageDto<>(recommendtionRequestDtoList, 0, 50, false, null);
+        when(recommendationRequestService.getRequests(any(), any(), anyBoolean())).thenReturn(page);
 
-        List<RecommendationRequestDto> result = recommendationRequestController.getRecommendationRequests(filter);
+        PageDto<RecommendationRequestDto> result =
+                recommendationRequestController.getRecommendationRequests(filter, pageable, false);
 
-        assertEquals(recommendtionRequestDtoList, result);
-        verify(recommendationRequestService).getRequests(filter);
+        assertEquals(page, result);
+        verify(recommendationRequestService).getRequests(filter, pageable, false);
     }
 
     @Test
@@ -1,5 +1,9 @@
 package school.faang.user_service.filter.userFilter;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -91,4 +96,22 @@ public class UserExperienceMinFilterTest {
         assertEquals(0, filteredUsers.size());
         assertEquals(filteredUsers, userExperienceMinFilter.apply(users, userFilterDto).toList());
     }
+
+    @Test
+    @DisplayName("Test toPredicate compares experience in the query")
+    @SuppressWarnings("unchecked")
+    public void testToPredicate_ComparesExperience() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        userFilterDto.setExperienceMin(5);
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        From<User, User> user = mock(From.class);
+        Path<Integer> experience = mock(Path.class);
+        Predicate predicate = mock(Predicate.class);
+
+        when(user.<Integer>get("experience")).thenReturn(experience);
+        when(cb.greaterThanOrEqualTo(experience, 5)).thenReturn(predicate);
+
+        assertInstanceOf(QueryableUserFilter.class, userExperienceMinFilter);
+        assertEquals(predicate, userExperienceMinFilter.toPredicate(user, null, cb, userFilterDto));
+    }
 }
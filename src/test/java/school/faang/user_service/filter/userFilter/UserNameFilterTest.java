@@ -1,5 +1,10 @@
 package school.faang.user_service.filter.userFilter;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +18,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -91,4 +97,26 @@ public class UserNameFilterTest {
         assertEquals(0, filteredUsers.size());
         assertEquals(filteredUsers, userNameFilter.apply(users, userFilterDto).toList());
     }
+
+    @Test
+    @DisplayName("Test toPredicate builds anchored regex predicate")
+    @SuppressWarnings("unchecked")
+    public void testToPredicate_BuildsAnchoredRegex() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        userFilterDto.setNamePattern(".*test.*");
+        CriteriaBuilder cb = mock(CriteriaBuilder.class);
+        From<User, User> user = mock(From.class);
+        Path<String> username = mock(Path.class);
+        Expression<String> pattern = mock(Expression.class);
+        Expression<Boolean> regex = mock(Expression.class);
+        Predicate predicate = mock(Predicate.class);
+
+        when(user.<String>get("username")).thenReturn(username);
+        when(cb.literal("^(?:.*test.*)$")).thenReturn(pattern);
+        when(cb.function("textregexeq", Boolean.class, username, pattern)).thenReturn(regex);
+        when(cb.isTrue(regex)).thenReturn(predicate);
+
+        assertInstanceOf(QueryableUserFilter.class, userNameFilter);
+        assertEquals(predicate, userNameFilter.toPredicate(user, null, cb, userFilterDto));
+    }
 }
@@ -0,0 +1,87 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import school.faang.user_service.dto.event.FollowerEventDto;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventPublisherTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private RedisConnection redisConnection;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FollowerEventPublisher publisher;
+    private FollowerEventDto event;
+
+    @BeforeEach
+    void setUp() {
+        publisher = new FollowerEventPublisher(redisTemplate, new ChannelTopic("follower_channel"), objectMapper,
+                meterRegistry);
+        event = FollowerEventDto.builder().visitorId(1L).visitedId(2L).build();
+    }
+
+    @Test
+    @DisplayName("Events are sent as raw JSON bytes when compression is disabled")
+    void testPublishRawJson() throws Exception {
+        mockExecute();
+
+        publisher.publish(event);
+
+        verify(redisConnection).publish("follower_channel".getBytes(), objectMapper.writeValueAsBytes(event));
+    }
+
+    @Test
+    @DisplayName("Payloads above the threshold are gzipped")
+    void testPublishCompressed() throws Exception {
+        mockExecute();
+        publisher.setCompressionThreshold(0);
+        ArgumentCaptor<byte[]> message = ArgumentCaptor.forClass(byte[].class);
+
+        publisher.publish(event);
+
+        verify(redisConnection).publish(eq("follower_channel".getBytes()), message.capture());
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(message.getValue()))) {
+            assertArrayEquals(objectMapper.writeValueAsBytes(event), gzip.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Redis failures are rethrown to the caller")
+    void testPublishFailure() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenThrow(new IllegalStateException("redis is down"));
+
+        assertThrows(IllegalStateException.class, () -> publisher.publish(event));
+        assertEquals(1, meterRegistry.get("redis.publish.failures").tag("channel", "follower_channel").counter().count());
+    }
+
+    private void mockExecute() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation ->
+                invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection));
+    }
+}
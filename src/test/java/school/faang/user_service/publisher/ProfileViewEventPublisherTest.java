@@ -0,0 +1,124 @@
+package school.faang.user_service.publisher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import school.faang.user_service.event.ProfileViewEvent;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileViewEventPublisherTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private RedisConnection redisConnection;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ChannelTopic topic = new ChannelTopic("profile_view_channel");
+
+    @Test
+    @DisplayName("Repeated views within the window are published once in a single pipeline")
+    void testPublishDeduplicatesAndPipelines() throws Exception {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection);
+            return List.of();
+        });
+        ProfileViewEventPublisher publisher = publisher(100, BackpressurePolicy.DROP);
+
+        publisher.publish(new ProfileViewEvent(1L, 2L, LocalDateTime.now()));
+        publisher.publish(new ProfileViewEvent(1L, 2L, LocalDateTime.now()));
+        publisher.publish(new ProfileViewEvent(3L, 2L, LocalDateTime.now()));
+        publisher.start();
+        publisher.stop();
+
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(redisConnection, times(2)).publish(any(byte[].class), any(byte[].class));
+    }
+
+    @Test
+    @DisplayName("Concurrent views of the same profile get through deduplication once")
+    void testConcurrentDuplicatesArePublishedOnce() throws Exception {
+        // a single slot: a second event that slipped past deduplication would be counted as dropped
+        ProfileViewEventPublisher publisher = publisher(1, BackpressurePolicy.DROP);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> published = IntStream.range(0, threads)
+                    .mapToObj(thread -> executor.submit(() -> {
+                        start.await();
+                        publisher.publish(new ProfileViewEvent(1L, 2L, LocalDateTime.now()));
+                        return null;
+                    }))
+                    .toList();
+            start.countDown();
+            for (Future<?> future : published) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(0, publisher.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("DROP policy rejects events once the buffer is full")
+    void testDropPolicy() {
+        ProfileViewEventPublisher publisher = publisher(1, BackpressurePolicy.DROP);
+
+        publisher.publish(new ProfileViewEvent(1L, 2L, LocalDateTime.now()));
+        publisher.publish(new ProfileViewEvent(3L, 2L, LocalDateTime.now()));
+
+        assertEquals(1, publisher.getDroppedEvents());
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST policy keeps the newest event")
+    void testDropOldestPolicy() throws Exception {
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(redisConnection);
+            return List.of();
+        });
+        ProfileViewEventPublisher publisher = publisher(1, BackpressurePolicy.DROP_OLDEST);
+        ProfileViewEvent newest = new ProfileViewEvent(3L, 2L, LocalDateTime.now());
+
+        publisher.publish(new ProfileViewEvent(1L, 2L, LocalDateTime.now()));
+        publisher.publish(newest);
+        publisher.start();
+        publisher.stop();
+
+        assertEquals(1, publisher.getDroppedEvents());
+        verify(redisConnection).publish("profile_view_channel".getBytes(),
+                objectMapper.writeValueAsBytes(newest));
+    }
+
+    private ProfileViewEventPublisher publisher(int bufferSize, BackpressurePolicy backpressurePolicy) {
+        return new ProfileViewEventPublisher(redisTemplate, objectMapper, topic, new SimpleMeterRegistry(),
+                bufferSize, 10, backpressurePolicy, Duration.ofMinutes(1));
+    }
+}
@@ -0,0 +1,170 @@
+package school.faang.user_service.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import school.faang.user_service.dto.user.UserDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.mapper.UserMapper;
+import school.faang.user_service.mapper.UserMapperImpl;
+import school.faang.user_service.repository.mentorship.MentorshipRepository;
+import school.faang.user_service.repository.projection.SubscribedUserSummary;
+import school.faang.user_service.service.MentorshipService;
+import school.faang.user_service.service.eventService.EventParticipationService;
+import school.faang.user_service.validator.EventParticipantValidator;
+import school.faang.user_service.validator.MentorshipValidator;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({MentorshipService.class, MentorshipValidator.class, EventParticipationService.class,
+        EventParticipantValidator.class, UserMapperImpl.class})
+class ReadProjectionStatementCountTest {
+    private static final int RELATED_USERS = 20;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    private static final String SEED = """
+            INSERT INTO users (username, password, email, country_id)
+            SELECT 'stat_user_' || g, 'password', 'stat_user_' || g || '@example.com', 1
+            FROM generate_series(0, %1$d) g;
+
+            INSERT INTO mentorship (mentor_id, mentee_id)
+            SELECT owner.id, other.id FROM users owner, users other
+            WHERE owner.username = 'stat_user_0' AND other.username LIKE 'stat_user_%%' AND other.id <> owner.id;
+
+            INSERT INTO subscription (follower_id, followee_id)
+            SELECT other.id, owner.id FROM users owner, users other
+            WHERE owner.username = 'stat_user_0' AND other.username LIKE 'stat_user_%%' AND other.id <> owner.id;
+
+            INSERT INTO event (title, description, start_date, end_date, location, user_id, type)
+            SELECT 'stat event', 'description', now(), now() + interval '1 hour', 'online', id, 0
+            FROM users WHERE username = 'stat_user_0';
+
+            INSERT INTO user_event (user_id, event_id)
+            SELECT u.id, e.id FROM users u, event e
+            WHERE u.username LIKE 'stat_user_%%' AND u.username <> 'stat_user_0' AND e.title = 'stat event';
+            """.formatted(RELATED_USERS);
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class JpaSliceConfiguration {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private MentorshipService mentorshipService;
+    @Autowired
+    private EventParticipationService eventParticipationService;
+    @Autowired
+    private MentorshipRepository mentorshipRepository;
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+    @Autowired
+    private UserMapper userMapper;
+
+    private long ownerId;
+    private long eventId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute(SEED);
+        ownerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'stat_user_0'", Long.class);
+        eventId = jdbcTemplate.queryForObject("SELECT id FROM event WHERE title = 'stat event'", Long.class);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Mentees are listed with a single statement")
+    void testGetMenteesStatementCount() {
+        List<UserDto> mentees = countStatements(1, () -> mentorshipService.getMentees(ownerId));
+
+        assertEquals(RELATED_USERS, mentees.size());
+    }
+
+    @Test
+    @DisplayName("An empty mentor list costs one extra existence check")
+    void testGetMentorsStatementCount() {
+        List<UserDto> mentors = countStatements(2, () -> mentorshipService.getMentors(ownerId));
+
+        assertTrue(mentors.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Event participants are listed with a single statement")
+    void testGetParticipantStatementCount() {
+        List<UserDto> participants = countStatements(1, () -> eventParticipationService.getParticipant(eventId));
+
+        assertEquals(RELATED_USERS, participants.size());
+    }
+
+    @Test
+    @DisplayName("A follower page is read with a single statement")
+    void testFollowerSummariesStatementCount() {
+        List<SubscribedUserSummary> followers = countStatements(1,
+                () -> subscriptionRepository.findFollowerSummaries(ownerId, 0, PageRequest.of(0, RELATED_USERS)));
+
+        assertEquals(RELATED_USERS, followers.size());
+    }
+
+    @Test
+    @DisplayName("Hydrating the mentees as entities issues a statement per eager association of every row")
+    void testEntityHydrationStatementCount() {
+        Statistics statistics = statistics();
+
+        mentorshipRepository.findById(ownerId).orElseThrow().getMentees().forEach(userMapper::toDto);
+
+        assertTrue(statistics.getPrepareStatementCount() > RELATED_USERS,
+                () -> "expected N+1 statements, got " + statistics.getPrepareStatementCount());
+    }
+
+    private <T> T countStatements(long maxStatements, Supplier<T> read) {
+        Statistics statistics = statistics();
+        T result = read.get();
+        assertTrue(statistics.getPrepareStatementCount() <= maxStatements,
+                () -> "expected at most " + maxStatements + " statements, got "
+                        + statistics.getPrepareStatementCount());
+        return result;
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+}
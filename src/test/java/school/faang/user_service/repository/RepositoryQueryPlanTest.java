@@ -0,0 +1,300 @@
+package school.faang.user_service.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import school.faang.user_service.dto.event.EventCursorDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.filter.event.EventFilterDto;
+import school.faang.user_service.filter.event.EventTitleFieldFilter;
+import school.faang.user_service.repository.event.EventParticipationRepository;
+import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.goal.GoalRepository;
+import school.faang.user_service.repository.goal.GoalSpecifications;
+import school.faang.user_service.repository.mentorship.MentorshipRequestRepository;
+import school.faang.user_service.repository.recommendation.RecommendationRepository;
+import school.faang.user_service.repository.recommendation.RecommendationRequestRepository;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Runs the hot repository queries against a seeded database and checks the plan Postgres picks for the SQL
+ * Hibernate actually sent. The statements are captured by a {@link StatementInspector} and explained as generic
+ * prepared-statement plans, which do not depend on the bound values.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "school.faang.user_service.repository.RepositoryQueryPlanTest$CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class RepositoryQueryPlanTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    private static final String SEED = """
+            INSERT INTO users (username, password, email, country_id, city, experience)
+            SELECT 'seed_user_' || g, 'password', 'seed_user_' || g || '@example.com', 1, 'City ' || g % 100, g % 20
+            FROM generate_series(1, 20000) g;
+
+            INSERT INTO skill (title)
+            SELECT 'seed_skill_' || g FROM generate_series(1, 500) g;
+
+            INSERT INTO goal (title, description, parent_goal_id, status)
+            SELECT 'goal ' || g, 'description', CASE WHEN g > 1000 THEN 1 + floor(random() * 1000)::bigint END, g % 2
+            FROM generate_series(1, 50000) g;
+
+            INSERT INTO goal_closure (ancestor_id, descendant_id, depth)
+            SELECT id, id, 0 FROM goal
+            UNION ALL
+            SELECT parent_goal_id, id, 1 FROM goal WHERE parent_goal_id IS NOT NULL;
+
+            INSERT INTO event (title, description, start_date, end_date, location, user_id, type)
+            SELECT 'event ' || g, 'description', now(), now() + interval '1 hour', 'online',
+                   1 + floor(random() * m.max_id)::bigint, 0
+            FROM generate_series(1, 10000) g, (SELECT max(id) AS max_id FROM users) m;
+
+            INSERT INTO subscription (follower_id, followee_id)
+            SELECT 1 + floor(random() * m.max_id)::bigint, 1 + floor(random() * m.max_id)::bigint
+            FROM generate_series(1, 200000), (SELECT max(id) AS max_id FROM users) m;
+
+            INSERT INTO user_skill (user_id, skill_id)
+            SELECT 1 + floor(random() * m.max_id)::bigint, 1 + floor(random() * 500)::bigint
+            FROM generate_series(1, 60000), (SELECT max(id) AS max_id FROM users) m
+            ON CONFLICT DO NOTHING;
+
+            INSERT INTO user_goal (user_id, goal_id)
+            SELECT 1 + floor(random() * m.max_id)::bigint, 1 + floor(random() * 50000)::bigint
+            FROM generate_series(1, 60000), (SELECT max(id) AS max_id FROM users) m;
+
+            INSERT INTO user_event (user_id, event_id)
+            SELECT 1 + floor(random() * m.max_id)::bigint, 1 + floor(random() * 10000)::bigint
+            FROM generate_series(1, 100000), (SELECT max(id) AS max_id FROM users) m
+            ON CONFLICT DO NOTHING;
+
+            INSERT INTO mentorship_request (description, requester_id, receiver_id, created_at)
+            SELECT 'description', 1 + floor(random() * m.max_id)::bigint, 1 + floor(random() * m.max_id)::bigint,
+                   now() - random() * interval '365 days'
+            FROM generate_series(1, 100000), (SELECT max(id) AS max_id FROM users) m;
+
+            INSERT INTO recommendation (content, author_id, receiver_id, created_at)
+            SELECT 'content', 1 + floor(random() * m.max_id)::bigint, 1 + floor(random() * m.max_id)::bigint,
+                   now() - random() * interval '365 days'
+            FROM generate_series(1, 100000), (SELECT max(id) AS max_id FROM users) m;
+
+            INSERT INTO recommendation_request (message, requester_id, receiver_id, status, created_at)
+            SELECT 'message', 1 + floor(random() * m.max_id)::bigint, 1 + floor(random() * m.max_id)::bigint,
+                   g % 3, now() - random() * interval '365 days'
+            FROM generate_series(1, 100000) g, (SELECT max(id) AS max_id FROM users) m;
+
+            ANALYZE;
+            """;
+
+    private static boolean seeded;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class JpaSliceConfiguration {
+    }
+
+    public static class CapturingStatementInspector implements StatementInspector {
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+    @Autowired
+    private SubscriptionCounterRepository subscriptionCounterRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private SkillRepository skillRepository;
+    @Autowired
+    private GoalRepository goalRepository;
+    @Autowired
+    private MentorshipRequestRepository mentorshipRequestRepository;
+    @Autowired
+    private RecommendationRequestRepository recommendationRequestRepository;
+    @Autowired
+    private RecommendationRepository recommendationRepository;
+    @Autowired
+    private EventParticipationRepository eventParticipationRepository;
+    @Autowired
+    private EventRepository eventRepository;
+
+    // The seed is committed once for the whole class; every test then runs in its own rolled back transaction.
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            transaction.executeWithoutResult(status -> jdbcTemplate.execute(SEED));
+            seeded = true;
+        }
+    }
+
+    static Stream<Arguments> hotQueries() {
+        return Stream.of(
+                hotQuery("SubscriptionRepository.findFollowerSummaries",
+                        test -> test.subscriptionRepository.findFollowerSummaries(42, 100, PageRequest.of(0, 100)),
+                        "subscription", "users"),
+                hotQuery("SubscriptionRepository.existsByFollowerIdAndFolloweeId",
+                        test -> test.subscriptionRepository.existsByFollowerIdAndFolloweeId(42, 43),
+                        "subscription"),
+                hotQuery("SubscriptionCounterRepository.sumDrift",
+                        test -> test.subscriptionCounterRepository.sumDrift(41, 42),
+                        "subscription"),
+                hotQuery("UserRepository.countOwnedSkills",
+                        test -> test.userRepository.countOwnedSkills(42, List.of(1L, 2L, 3L)),
+                        "users", "user_skill"),
+                hotQuery("SkillRepository.findAllByUserId",
+                        test -> test.skillRepository.findAllByUserId(42),
+                        "user_skill"),
+                hotQuery("GoalSpecifications.ownedBy",
+                        test -> test.goalRepository.findAll(GoalSpecifications.ownedBy(42)),
+                        "goal", "user_goal"),
+                hotQuery("GoalRepository.countActiveGoalsPerUser",
+                        test -> test.goalRepository.countActiveGoalsPerUser(42),
+                        "goal", "user_goal"),
+                hotQuery("GoalRepository.findUsersByGoalId",
+                        test -> test.goalRepository.findUsersByGoalId(42),
+                        "users", "user_goal"),
+                hotQuery("GoalSpecifications.subtreeOf",
+                        test -> test.goalRepository.findAll(GoalSpecifications.subtreeOf(42, 2)),
+                        "goal", "goal_closure"),
+                hotQuery("MentorshipRequestRepository.findLatestRequest",
+                        test -> test.mentorshipRequestRepository.findLatestRequest(42, 43),
+                        "mentorship_request"),
+                hotQuery("RecommendationRequestRepository.findLatestPendingRequest",
+                        test -> test.recommendationRequestRepository.findLatestPendingRequest(42, 43),
+                        "recommendation_request"),
+                hotQuery("RecommendationRepository.findAllByReceiverId",
+                        test -> test.recommendationRepository.findAllByReceiverId(42, PageRequest.of(0, 20)),
+                        "recommendation"),
+                hotQuery("RecommendationRepository.findFirstByAuthorIdAndReceiverIdOrderByCreatedAtDesc",
+                        test -> test.recommendationRepository
+                                .findFirstByAuthorIdAndReceiverIdOrderByCreatedAtDesc(42, 43),
+                        "recommendation"),
+                hotQuery("EventParticipationRepository.countParticipants",
+                        test -> test.eventParticipationRepository.countParticipants(42),
+                        "user_event"),
+                hotQuery("EventRepository.findParticipatedEventsByUserId",
+                        test -> test.eventRepository.findParticipatedEventsByUserId(42),
+                        "event", "user_event"),
+                hotQuery("EventRepository.findPage keyset page",
+                        test -> test.eventRepository.findPage(Specification.where(null),
+                                new EventCursorDto(LocalDateTime.now(), 100L), 100),
+                        "event"),
+                hotQuery("EventRepository.findPage title search",
+                        test -> test.eventRepository.findPage(new EventTitleFieldFilter()
+                                .toSpecification(new EventFilterDto("vent 4242", null)), null, 100),
+                        "event")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryDoesNotSeqScan(String name, Consumer<RepositoryQueryPlanTest> query, List<String> indexedTables) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        query.accept(this);
+        // the query itself comes first, before any count query or association fetch it triggers
+        String sql = CapturingStatementInspector.STATEMENTS.get(0);
+        String plan = explain(sql);
+
+        for (String table : indexedTables) {
+            assertFalse(plan.contains("Seq Scan on " + table + " "),
+                    () -> name + " regressed to a sequential scan on " + table + ":\n" + sql + "\n" + plan);
+        }
+    }
+
+    private static Arguments hotQuery(String name, Consumer<RepositoryQueryPlanTest> query, String... indexedTables) {
+        return Arguments.of(name, query, List.of(indexedTables));
+    }
+
+    private String explain(String sql) {
+        PositionalSql positional = PositionalSql.of(sql);
+        String arguments = positional.parameters() == 0 ? ""
+                : "(" + String.join(", ", Collections.nCopies(positional.parameters(), "NULL")) + ")";
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            StringBuilder plan = new StringBuilder();
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE hot_query AS " + positional.sql());
+                try (ResultSet resultSet = statement.executeQuery("EXPLAIN EXECUTE hot_query" + arguments)) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("DEALLOCATE hot_query");
+            }
+            return plan.toString();
+        });
+    }
+
+    // JDBC placeholders become $1, $2, ... so the statement can be prepared on the server; literals are left alone.
+    private record PositionalSql(String sql, int parameters) {
+
+        static PositionalSql of(String jdbcSql) {
+            StringBuilder sql = new StringBuilder();
+            int parameters = 0;
+            boolean inLiteral = false;
+            for (char c : jdbcSql.toCharArray()) {
+                if (c == '\'') {
+                    inLiteral = !inLiteral;
+                }
+                if (c == '?' && !inLiteral) {
+                    sql.append('$').append(++parameters);
+                } else {
+                    sql.append(c);
+                }
+            }
+            return new PositionalSql(sql.toString(), parameters);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package school.faang.user_service.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import school.faang.user_service.dto.user.PreferredContact;
+import school.faang.user_service.dto.user.UserTransportDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.mapper.UserMapper;
+import school.faang.user_service.mapper.UserMapperImpl;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(UserMapperImpl.class)
+class UserRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    private static final String SEED = """
+            INSERT INTO users (username, password, email, phone, country_id) VALUES
+            ('transport_phone', 'password', 'transport_phone@example.com', '+100', 1),
+            ('transport_silent', 'password', 'transport_silent@example.com', NULL, 1);
+
+            INSERT INTO contact_preferences (user_id, preference)
+            SELECT id, 1 FROM users WHERE username = 'transport_phone';
+            """;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class JpaSliceConfiguration {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserMapper userMapper;
+
+    private long phoneUserId;
+    private long silentUserId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute(SEED);
+        phoneUserId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE username = 'transport_phone'", Long.class);
+        silentUserId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE username = 'transport_silent'", Long.class);
+    }
+
+    @Test
+    @DisplayName("Transport summaries carry the contact preference, or none if the user has not set one")
+    void testFindTransportSummariesByIdIn() {
+        List<UserTransportDto> users = userRepository.findTransportSummariesByIdIn(List.of(phoneUserId, silentUserId))
+                .stream()
+                .map(userMapper::toTransportDto)
+                .sorted(Comparator.comparing(UserTransportDto::getId))
+                .toList();
+
+        assertEquals(List.of(
+                new UserTransportDto(phoneUserId, "transport_phone", "transport_phone@example.com", "+100",
+                        PreferredContact.SMS),
+                new UserTransportDto(silentUserId, "transport_silent", "transport_silent@example.com", null, null)),
+                users);
+    }
+}
@@ -0,0 +1,115 @@
+package school.faang.user_service.repository.event;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import school.faang.user_service.dto.event.EventCursorDto;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.event.Event;
+import school.faang.user_service.filter.event.EventFilterDto;
+import school.faang.user_service.filter.event.EventStartDateAfterFieldFilter;
+import school.faang.user_service.filter.event.EventTitleFieldFilter;
+import school.faang.user_service.repository.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class EventFilterRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    private static final LocalDateTime START = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private static final String SEED = """
+            INSERT INTO users (username, password, email, country_id) VALUES
+            ('event_owner', 'password', 'event_owner@example.com', 1);
+            """;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class JpaSliceConfiguration {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EventRepository eventRepository;
+
+    private long ownerId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute(SEED);
+        ownerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'event_owner'", Long.class);
+    }
+
+    @Test
+    @DisplayName("Paging continues after the last event of the previous page was deleted")
+    void testFindPageAfterDeletedCursorEvent() {
+        long first = event("first", START);
+        long second = event("second", START);
+        long third = event("third", START.plusHours(1));
+        long fourth = event("fourth", START.plusHours(2));
+
+        List<Event> firstPage = eventRepository.findPage(Specification.where(null), null, 2);
+        assertEquals(List.of(first, second), ids(firstPage));
+        Event last = firstPage.get(1);
+        EventCursorDto cursor = new EventCursorDto(last.getStartDate(), last.getId());
+        jdbcTemplate.update("DELETE FROM event WHERE id = ?", second);
+
+        assertEquals(List.of(third, fourth), ids(eventRepository.findPage(Specification.where(null), cursor, 2)));
+    }
+
+    @Test
+    @DisplayName("Title and start date filters narrow the page")
+    void testFindPageWithFilters() {
+        event("planning", START);
+        long review = event("review", START.plusHours(1));
+        event("retro", START.plusHours(2));
+        long lateReview = event("late review", START.plusHours(3));
+        EventFilterDto filter = new EventFilterDto("review", START);
+
+        Specification<Event> specification = new EventTitleFieldFilter().toSpecification(filter)
+                .and(new EventStartDateAfterFieldFilter().toSpecification(filter));
+
+        assertEquals(List.of(review, lateReview), ids(eventRepository.findPage(specification, null, 10)));
+    }
+
+    private long event(String title, LocalDateTime startDate) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO event (title, description, start_date, end_date, location, user_id, type)
+                VALUES (?, 'description', ?, ?, 'online', ?, 0) RETURNING id
+                """, Long.class, title, startDate, startDate.plusHours(1), ownerId);
+    }
+
+    private List<Long> ids(List<Event> events) {
+        return events.stream().map(Event::getId).toList();
+    }
+}
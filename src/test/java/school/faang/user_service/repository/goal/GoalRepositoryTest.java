@@ -0,0 +1,102 @@
+package school.faang.user_service.repository.goal;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.repository.UserRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class GoalRepositoryTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:13.6");
+
+    private static final String SEED = """
+            INSERT INTO users (username, password, email, country_id) VALUES
+            ('goal_owner', 'password', 'goal_owner@example.com', 1),
+            ('goal_partner', 'password', 'goal_partner@example.com', 1);
+            """;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @SpringBootConfiguration
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = UserRepository.class)
+    static class JpaSliceConfiguration {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private GoalRepository goalRepository;
+
+    private long ownerId;
+    private long partnerId;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.execute(SEED);
+        ownerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'goal_owner'", Long.class);
+        partnerId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'goal_partner'", Long.class);
+    }
+
+    @Test
+    @DisplayName("A shared subtask of a solo goal survives as a top-level goal with its own subtasks")
+    void testDeleteSoloGoalsKeepsSharedSubtasks() {
+        long soloGoal = goal("solo goal", null);
+        goal("private step", soloGoal);
+        long sharedStep = goal("shared step", soloGoal);
+        long sharedDetail = goal("shared detail", sharedStep);
+        link(ownerId, soloGoal);
+        link(ownerId, sharedStep);
+        link(partnerId, sharedStep);
+
+        assertEquals(2, goalRepository.deleteSoloGoalsOfUser(ownerId, 10));
+
+        assertEquals(List.of(sharedStep, sharedDetail),
+                jdbcTemplate.queryForList("SELECT id FROM goal WHERE id >= ? ORDER BY id", Long.class, soloGoal));
+        assertNull(jdbcTemplate.queryForObject("SELECT parent_goal_id FROM goal WHERE id = ?", Long.class,
+                sharedStep));
+        assertEquals(List.of(sharedStep, sharedDetail), jdbcTemplate.queryForList(
+                "SELECT ancestor_id FROM goal_closure WHERE descendant_id = ? ORDER BY depth DESC", Long.class,
+                sharedDetail));
+        assertEquals(List.of(ownerId, partnerId), jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_goal WHERE goal_id = ? ORDER BY id", Long.class, sharedStep));
+        assertEquals(0, goalRepository.deleteSoloGoalsOfUser(ownerId, 10));
+    }
+
+    private long goal(String title, Long parentId) {
+        long goalId = goalRepository.create(title, "description", parentId);
+        goalRepository.addToHierarchy(goalId, parentId);
+        return goalId;
+    }
+
+    private void link(long userId, long goalId) {
+        jdbcTemplate.update("INSERT INTO user_goal (user_id, goal_id) VALUES (?, ?)", userId, goalId);
+    }
+}
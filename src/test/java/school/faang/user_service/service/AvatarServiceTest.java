@@ -6,31 +6,66 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
+import school.faang.user_service.cache.AvatarDiskCache;
+import school.faang.user_service.cache.AvatarImages;
+import school.faang.user_service.cache.AvatarKey;
+import school.faang.user_service.cache.AvatarPool;
+import school.faang.user_service.cache.StoredAvatar;
+import school.faang.user_service.cache.UserCache;
 import school.faang.user_service.config.AvatarConfig;
+import school.faang.user_service.config.AvatarPipelineExecutors;
 import school.faang.user_service.entity.User;
 
+import java.io.InputStream;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class AvatarServiceTest {
 
     @Mock
-    private S3Service s3Service;
+    private ContentStoreService contentStoreService;
+
+    @Mock
+    private ProfilePicService profilePicService;
 
     @Mock
-    private UtilsService utilsService;
+    private ImageResizeService imageResizeService;
 
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private UserCache userCache;
+
+    @Mock
+    private AvatarDiskCache avatarDiskCache;
+
+    private AvatarPool avatarPool;
+
+    private AvatarConfig avatarConfig;
     private AvatarService avatarService;
 
-    private User user;
+    private long userId;
+    private AvatarKey key;
+    private StoredAvatar storedAvatar;
     private byte[] avatarBytes;
     private byte[] smallAvatarBytes;
     private String generationUrl;
@@ -40,46 +75,129 @@ public class AvatarServiceTest {
 
     @BeforeEach
     void setUp() {
-        AvatarConfig avatarConfig = new AvatarConfig();
-        avatarService = new AvatarService(avatarConfig, s3Service, utilsService, restTemplate);
+        avatarConfig = new AvatarConfig();
+        Executor direct = Runnable::run;
+        avatarPool = new AvatarPool(10);
+        avatarService = new AvatarService(avatarConfig, contentStoreService, profilePicService,
+                imageResizeService, restTemplate, userCache, new AvatarPipelineExecutors(direct, direct, direct),
+                avatarPool, avatarDiskCache);
 
         generationUrl = "https://api.dicebear.com/9.x/style/jpeg?seed=0";
+        key = new AvatarKey("style", 0);
+        storedAvatar = new StoredAvatar("avatars/large.jpeg", "avatars/small.jpeg");
         smallAvatarWidth = 200;
         smallAvatarHeight = 200;
         extension = "jpeg";
 
         avatarConfig.setSTYLES(new String[]{"style"});
-        avatarConfig.setGENERATION_URL_PATTERN(generationUrl);
+        avatarConfig.setGENERATION_URL_PATTERN("https://api.dicebear.com/9.x/%s/jpeg?seed=%d");
         avatarConfig.setSEED_RANGE(1);
         avatarConfig.setEXTENSION(extension);
         avatarConfig.setBUCKET_NAME("bucket-name");
-        avatarConfig.setAVATAR_ID_PATTERN("avatar_%d.jpeg");
-        avatarConfig.setSMALL_AVATAR_ID_PATTERN("small_avatar_%d.jpeg");
+        avatarConfig.setOBJECT_KEY_PATTERN("avatars/%s.jpeg");
         avatarConfig.setSMALL_FILE_WIDTH(smallAvatarWidth);
         avatarConfig.setSMALL_FILE_HEIGHT(smallAvatarHeight);
         avatarConfig.setCONTENT_TYPE("image/jpeg");
 
-        user = User.builder()
-                .id(1L)
-                .build();
-
+        userId = 1L;
         avatarBytes = new byte[1000];
-        smallAvatarBytes = new byte[1000];
+        smallAvatarBytes = new byte[100];
     }
 
     @Test
-    @DisplayName("testing updateAvatarToRandom method")
-    void testUpdateAvatarToRandom() {
+    @DisplayName("Pooled avatar is assigned without any I/O")
+    void testAssignRandomAvatarFromPool() {
+        avatarPool.add(key, storedAvatar);
+        User user = User.builder().id(userId).build();
+
+        avatarService.assignRandomAvatar(user);
+
+        verify(profilePicService, times(1)).replace(user, storedAvatar.toProfilePic());
+        verifyNoInteractions(restTemplate, contentStoreService);
+    }
+
+    @Test
+    @DisplayName("Empty pool falls back to the pipeline, which stores both files, updates the user and fills the pool")
+    void testAssignRandomAvatarGeneratesWhenPoolIsEmpty() {
+        when(avatarDiskCache.read(key)).thenReturn(Optional.empty());
         when(restTemplate.getForObject(generationUrl, byte[].class)).thenReturn(avatarBytes);
-        when(utilsService.resizeImage(avatarBytes, smallAvatarWidth, smallAvatarHeight, extension))
+        when(imageResizeService.resize(avatarBytes,
+                new ImageVariant("small", smallAvatarWidth, smallAvatarHeight, extension)))
                 .thenReturn(smallAvatarBytes);
+        when(contentStoreService.store("avatars/%s.jpeg", avatarBytes, "image/jpeg"))
+                .thenReturn(storedAvatar.fileId());
+        when(contentStoreService.store("avatars/%s.jpeg", smallAvatarBytes, "image/jpeg"))
+                .thenReturn(storedAvatar.smallFileId());
+        when(profilePicService.replace(userId, storedAvatar.toProfilePic())).thenReturn(true);
+
+        avatarService.assignRandomAvatar(User.builder().id(userId).build());
+
+        verify(avatarDiskCache, times(1)).write(eq(key), any(AvatarImages.class));
+        verify(userCache, times(1)).evict(userId);
+        assertTrue(avatarPool.contains(key));
+        assertEquals(Optional.of(storedAvatar), avatarPool.pick());
+    }
 
-        avatarService.setRandomAvatar(user);
+    @Test
+    @DisplayName("Avatar found on disk is stored without being fetched or resized again")
+    void testPrepareFromDiskCache() {
+        when(avatarDiskCache.read(key)).thenReturn(Optional.of(new AvatarImages(avatarBytes, smallAvatarBytes)));
+        when(contentStoreService.store("avatars/%s.jpeg", avatarBytes, "image/jpeg"))
+                .thenReturn(storedAvatar.fileId());
+        when(contentStoreService.store("avatars/%s.jpeg", smallAvatarBytes, "image/jpeg"))
+                .thenReturn(storedAvatar.smallFileId());
+
+        assertEquals(storedAvatar, avatarService.prepare(key).join());
+        verifyNoInteractions(restTemplate, imageResizeService);
+        verify(avatarDiskCache, never()).write(any(), any());
+    }
+
+    @Test
+    @DisplayName("User deleted before the pipeline finished keeps the cache untouched")
+    void testGenerateRandomAvatarForDeletedUser() {
+        when(avatarDiskCache.read(key)).thenReturn(Optional.of(new AvatarImages(avatarBytes, smallAvatarBytes)));
+        when(contentStoreService.store(anyString(), any(), anyString())).thenReturn(storedAvatar.fileId());
+        when(profilePicService.replace(anyLong(), any())).thenReturn(false);
 
-        verify(restTemplate, times(1)).getForObject(anyString(), eq(byte[].class));
-        verify(utilsService, times(1)).resizeImage(avatarBytes, smallAvatarWidth,
-                smallAvatarHeight, extension);
-        verify(s3Service, times(2))
-                .uploadToS3(anyString(), eq(avatarBytes), anyString(), anyString());
+        avatarService.generateRandomAvatar(userId);
+
+        verify(userCache, never()).evict(anyLong());
+    }
+
+    @Test
+    @DisplayName("Uploaded avatar is streamed to S3 without touching the user")
+    void testUploadAvatar() {
+        avatarConfig.setUPLOAD_KEY_PATTERN("avatars/uploads/%s");
+        MockMultipartFile file = new MockMultipartFile("file", "me.png", "image/png", avatarBytes);
+        when(contentStoreService.storeStream(eq("avatars/uploads/%s"), any(InputStream.class),
+                eq((long) avatarBytes.length), eq("image/png"))).thenReturn("avatars/uploads/id");
+
+        assertEquals("avatars/uploads/id", avatarService.uploadAvatar(file));
+        verifyNoInteractions(profilePicService);
+    }
+
+    @Test
+    @DisplayName("Failed fetch stops the pipeline before anything is stored")
+    void testGenerateRandomAvatarWhenFetchFails() {
+        when(avatarDiskCache.read(key)).thenReturn(Optional.empty());
+        when(restTemplate.getForObject(generationUrl, byte[].class)).thenThrow(new RestClientException("timeout"));
+
+        assertDoesNotThrow(() -> avatarService.generateRandomAvatar(userId));
+        verifyNoInteractions(imageResizeService, contentStoreService, profilePicService);
+    }
+
+    @Test
+    @DisplayName("Saturated pipeline drops the avatar instead of blocking the caller")
+    void testGenerateRandomAvatarWhenSaturated() {
+        Executor rejecting = task -> {
+            throw new RejectedExecutionException("queue is full");
+        };
+        AvatarService saturated = new AvatarService(avatarConfig, contentStoreService, profilePicService,
+                imageResizeService, restTemplate, userCache,
+                new AvatarPipelineExecutors(rejecting, rejecting, rejecting), avatarPool, avatarDiskCache);
+
+        assertDoesNotThrow(() -> saturated.generateRandomAvatar(userId));
+        verify(restTemplate, never()).getForObject(anyString(), eq(byte[].class));
+        verifyNoInteractions(contentStoreService);
     }
-}
\ No newline at end of file
+}
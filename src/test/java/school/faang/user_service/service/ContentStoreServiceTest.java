@@ -0,0 +1,129 @@
+package school.faang.user_service.service;
+
+import com.google.common.hash.Hashing;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import school.faang.user_service.repository.StoredObjectRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ContentStoreServiceTest {
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private StoredObjectRepository storedObjectRepository;
+
+    @InjectMocks
+    private ContentStoreService contentStoreService;
+
+    private byte[] bytes;
+    private String objectKey;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(contentStoreService, "bucketName", "bucket-name");
+        bytes = new byte[]{1, 2, 3};
+        objectKey = "avatars/" + Hashing.sha256().hashBytes(bytes) + ".jpeg";
+    }
+
+    @Test
+    @DisplayName("New content is registered and uploaded under the hash of its bytes")
+    void testStoreNewContent() {
+        when(storedObjectRepository.insertIfAbsent(objectKey, bytes.length)).thenReturn(1);
+
+        assertEquals(objectKey, contentStoreService.store("avatars/%s.jpeg", bytes, "image/jpeg"));
+        verify(s3Service, times(1)).uploadToS3(objectKey, bytes, "image/jpeg", "bucket-name");
+    }
+
+    @Test
+    @DisplayName("Content that is already stored is not uploaded again")
+    void testStoreDuplicateContent() {
+        when(storedObjectRepository.insertIfAbsent(objectKey, bytes.length)).thenReturn(0);
+        when(storedObjectRepository.touch(List.of(objectKey))).thenReturn(1);
+
+        assertEquals(objectKey, contentStoreService.store("avatars/%s.jpeg", bytes, "image/jpeg"));
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("Content collected while the store waited is registered and uploaded again")
+    void testStoreContentCollectedConcurrently() {
+        when(storedObjectRepository.insertIfAbsent(objectKey, bytes.length)).thenReturn(0, 1);
+        when(storedObjectRepository.touch(List.of(objectKey))).thenReturn(0);
+
+        assertEquals(objectKey, contentStoreService.store("avatars/%s.jpeg", bytes, "image/jpeg"));
+        verify(s3Service, times(1)).uploadToS3(objectKey, bytes, "image/jpeg", "bucket-name");
+    }
+
+    @Test
+    @DisplayName("Empty key lists never reach the database")
+    void testRetainAndReleaseNothing() {
+        contentStoreService.retain(List.of());
+        contentStoreService.release(List.of());
+        contentStoreService.touch(List.of());
+
+        verifyNoInteractions(storedObjectRepository);
+    }
+
+    @Test
+    @DisplayName("Garbage collection deletes the locked objects from S3 before their rows")
+    void testCollectGarbage() {
+        List<String> unreferenced = List.of("avatars/a.jpeg", "avatars/b.jpeg");
+        when(storedObjectRepository.lockUnreferenced(any(LocalDateTime.class), eq(100))).thenReturn(unreferenced);
+        when(storedObjectRepository.deleteUnreferenced(unreferenced)).thenReturn(2);
+
+        assertEquals(2, contentStoreService.collectGarbage(Duration.ofDays(1), 100));
+        verify(s3Service, times(1)).deleteFromS3(unreferenced, "bucket-name");
+    }
+
+    @Test
+    @DisplayName("Nothing to collect touches neither S3 nor the rows")
+    void testCollectGarbageWhenNothingIsUnreferenced() {
+        when(storedObjectRepository.lockUnreferenced(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+        assertEquals(0, contentStoreService.collectGarbage(Duration.ofDays(1), 100));
+        verifyNoInteractions(s3Service);
+        verify(storedObjectRepository, never()).deleteUnreferenced(any());
+    }
+
+    @Test
+    @DisplayName("Discarded upload nobody references is deleted from S3")
+    void testDiscard() {
+        when(storedObjectRepository.deleteUnreferenced(List.of(objectKey))).thenReturn(1);
+
+        contentStoreService.discard(objectKey);
+
+        verify(s3Service, times(1)).deleteFromS3(List.of(objectKey), "bucket-name");
+    }
+
+    @Test
+    @DisplayName("Discarding a referenced object keeps it in S3")
+    void testDiscardReferenced() {
+        when(storedObjectRepository.deleteUnreferenced(List.of(objectKey))).thenReturn(0);
+
+        contentStoreService.discard(objectKey);
+
+        verifyNoInteractions(s3Service);
+    }
+}
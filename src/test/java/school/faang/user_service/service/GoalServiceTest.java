@@ -8,22 +8,30 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import school.faang.user_service.cache.GoalTitleBloomFilter;
 import school.faang.user_service.dto.GoalDto;
 import school.faang.user_service.entity.Skill;
-import school.faang.user_service.entity.User;
 import school.faang.user_service.entity.goal.Goal;
 import school.faang.user_service.entity.goal.GoalStatus;
+import school.faang.user_service.event.GoalTitleSavedEvent;
 import school.faang.user_service.mapper.GoalMapper;
 import school.faang.user_service.repository.goal.GoalRepository;
 import school.faang.user_service.service.goal.GoalService;
 import school.faang.user_service.service.goal.SkillService;
 import school.faang.user_service.validator.GoalServiceValidate;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -42,6 +50,10 @@ public class GoalServiceTest {
     private GoalMapper goalMapper;
     @Mock
     private GoalServiceValidate goalServiceValidate;
+    @Mock
+    private GoalTitleBloomFilter goalTitleBloomFilter;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     private long userId;
     private long goalId;
@@ -68,21 +80,52 @@ public class GoalServiceTest {
     @DisplayName("Когда метод создания нового goal отработал")
     @Test
     public void testCreateGoalWhenValid() {
-        List<String> allGoalTitles = List.of("title");
         int countActiveUser = 2;
         List<Skill> skills = List.of(new Skill());
 
-        when(goalRepository.findAllGoalTitles()).thenReturn(allGoalTitles);
+        when(goalTitleBloomFilter.mightContain(goalDto.getTitle())).thenReturn(true);
+        when(goalRepository.existsByTitle(goalDto.getTitle())).thenReturn(false);
         when(goalRepository.countActiveGoalsPerUser(userId)).thenReturn(countActiveUser);
+        when(goalRepository.create(goalDto.getTitle(), goalDto.getDescription(), goalDto.getParentId()))
+                .thenReturn(2L);
         when(goalMapper.toGoal(goalDto)).thenReturn(goal);
 
         goalService.createGoal(userId, goalDto);
         verify(goalServiceValidate, times(1)).checkLimitCountUser(countActiveUser);
-        verify(goalServiceValidate, times(1)).checkDuplicateTitleGoal(goalDto, allGoalTitles);
-        verify(goalRepository, times(1)).create(goalDto.getTitle(), goalDto.getDescription(), goalDto.getParentId());
+        verify(goalServiceValidate, times(1)).checkDuplicateTitleGoal(false);
+        verify(goalRepository, times(1)).addToHierarchy(2L, goalDto.getParentId());
+        verify(eventPublisher, times(1)).publishEvent(new GoalTitleSavedEvent(goalDto.getTitle()));
         verify(skillService, times(1)).create(skills, userId);
     }
 
+    @DisplayName("Title the Bloom filter has never seen is not looked up in the database")
+    @Test
+    public void testCreateGoalSkipsExistenceQueryForUnseenTitle() {
+        when(goalTitleBloomFilter.mightContain(goalDto.getTitle())).thenReturn(false);
+        when(goalRepository.create(goalDto.getTitle(), goalDto.getDescription(), goalDto.getParentId()))
+                .thenReturn(2L);
+        when(goalMapper.toGoal(goalDto)).thenReturn(goal);
+
+        goalService.createGoal(userId, goalDto);
+        verify(goalServiceValidate, times(1)).checkDuplicateTitleGoal(false);
+        verify(goalRepository, never()).existsByTitle(goalDto.getTitle());
+    }
+
+    @DisplayName("Title taken concurrently is reported by the unique index as a duplicate")
+    @Test
+    public void testCreateGoalWhenUniqueIndexRejectsTitle() {
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("insert failed",
+                new SQLException("duplicate key value violates unique constraint \"uq_goal_title\""));
+        when(goalRepository.create(goalDto.getTitle(), goalDto.getDescription(), goalDto.getParentId()))
+                .thenThrow(violation);
+        doThrow(new IllegalArgumentException("A goal with the same name already exists"))
+                .when(goalServiceValidate).checkDuplicateTitleGoal(true);
+
+        assertThrows(IllegalArgumentException.class, () -> goalService.createGoal(userId, goalDto));
+        verify(goalRepository, never()).addToHierarchy(anyLong(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @DisplayName("Если goal с таким id нету в базе")
     @Test
     public void testUpdateGoal() {
@@ -96,27 +139,71 @@ public class GoalServiceTest {
     public void testUpdateGoalWhenValid() {
         Goal updateGoal = new Goal();
         updateGoal.setSkillsToAchieve(List.of(new Skill()));
-        List<User> users = List.of(new User());
 
         when(goalRepository.findById(goalId)).thenReturn(Optional.of(goal));
         when(goalMapper.toGoal(goalDto)).thenReturn(updateGoal);
-        when(goalRepository.findUsersByGoalId(goalId)).thenReturn(users);
 
         goalService.updateGoal(goalId, goalDto);
-        verify(goalRepository, times(1)).save(goal);
-        verify(skillService, times(1)).addSkillToUsers(users, goalId);
+        verify(goalRepository, times(1)).saveAndFlush(goal);
+        verify(skillService, times(1)).addSkillToUsers(goalId);
         verify(goalServiceValidate, times(1)).checkStatusGoal(goal);
         verify(goalServiceValidate, times(1)).existByTitle(updateGoal.getSkillsToAchieve());
     }
 
+    @DisplayName("Renaming a goal to a title another goal already has is rejected before the update")
+    @Test
+    public void testUpdateGoalWhenTitleTaken() {
+        Goal updateGoal = new Goal();
+        updateGoal.setTitle("taken");
+        goal.setTitle("title");
+        when(goalRepository.findById(goalId)).thenReturn(Optional.of(goal));
+        when(goalMapper.toGoal(goalDto)).thenReturn(updateGoal);
+        when(goalTitleBloomFilter.mightContain("taken")).thenReturn(true);
+        when(goalRepository.existsByTitle("taken")).thenReturn(true);
+        doThrow(new IllegalArgumentException("A goal with the same name already exists"))
+                .when(goalServiceValidate).checkDuplicateTitleGoal(true);
+
+        assertThrows(IllegalArgumentException.class, () -> goalService.updateGoal(goalId, goalDto));
+        verify(goalRepository, never()).saveAndFlush(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @DisplayName("Title taken concurrently during an update is reported by the unique index as a duplicate")
+    @Test
+    public void testUpdateGoalWhenUniqueIndexRejectsTitle() {
+        Goal updateGoal = new Goal();
+        updateGoal.setTitle("taken");
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("update failed",
+                new SQLException("duplicate key value violates unique constraint \"uq_goal_title\""));
+        when(goalRepository.findById(goalId)).thenReturn(Optional.of(goal));
+        when(goalMapper.toGoal(goalDto)).thenReturn(updateGoal);
+        when(goalRepository.saveAndFlush(goal)).thenThrow(violation);
+        doThrow(new IllegalArgumentException("A goal with the same name already exists"))
+                .when(goalServiceValidate).checkDuplicateTitleGoal(true);
+
+        assertThrows(IllegalArgumentException.class, () -> goalService.updateGoal(goalId, goalDto));
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(skillService, never()).addSkillToUsers(anyLong());
+    }
+
     @DisplayName("Когда удаления goal отработал")
     @Test
     public void testDeleteWhenValid() {
-        Stream<Goal> goal = Stream.of(new Goal());
-        when(goalRepository.findByParent(goalId)).thenReturn(goal);
+        when(goalRepository.existsById(goalId)).thenReturn(true);
 
         goalService.deleteGoal(goalId);
-        verify(goalServiceValidate, times(1)).checkExistenceGoal(goal);
-        verify(goalRepository, times(1)).deleteById(goalId);
+        verify(goalServiceValidate, times(1)).checkExistenceGoal(true);
+        verify(goalRepository, times(1)).deleteSubtree(goalId);
+    }
+
+    @DisplayName("Missing goal is rejected before anything is deleted")
+    @Test
+    public void testDeleteWhenGoalDoesNotExist() {
+        when(goalRepository.existsById(goalId)).thenReturn(false);
+        doThrow(new NoSuchElementException("A goal with this ID does not exist"))
+                .when(goalServiceValidate).checkExistenceGoal(false);
+
+        assertThrows(NoSuchElementException.class, () -> goalService.deleteGoal(goalId));
+        verify(goalRepository, never()).deleteSubtree(anyLong());
     }
 }
\ No newline at end of file
@@ -0,0 +1,126 @@
+package school.faang.user_service.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import school.faang.user_service.exception.DataValidationException;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ImageResizeServiceTest {
+
+    private static final ImageVariant SMALL = new ImageVariant("small", 100, 100, "jpeg");
+    private static final ImageVariant MEDIUM = new ImageVariant("medium", 200, 200, "png");
+
+    private ImageResizeService resizeService;
+
+    @BeforeEach
+    void setUp() {
+        resizeService = new ImageResizeService(400 * 200, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        resizeService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Image is fitted into the variant box with its aspect ratio kept")
+    void testResize() throws IOException {
+        BufferedImage resized = read(resizeService.resize(image(400, 200, Color.RED), SMALL));
+
+        assertEquals(100, resized.getWidth());
+        assertEquals(50, resized.getHeight());
+    }
+
+    @Test
+    @DisplayName("All writable variants are rendered from one decode")
+    void testResizeAll() throws IOException {
+        ImageVariant webp = new ImageVariant("webp", 100, 100, "webp");
+
+        Map<ImageVariant, byte[]> variants = resizeService.resizeAll(image(400, 200, Color.RED),
+                List.of(SMALL, MEDIUM, webp));
+
+        assertEquals(100, read(variants.get(SMALL)).getWidth());
+        assertEquals(200, read(variants.get(MEDIUM)).getWidth());
+        assertEquals(webp.isWritable(), variants.containsKey(webp));
+    }
+
+    @Test
+    @DisplayName("Reused target image carries nothing over from the previous image")
+    void testScratchImageReuse() throws IOException {
+        resizeService.resize(image(400, 200, Color.RED), SMALL);
+
+        BufferedImage blue = read(resizeService.resize(image(400, 200, Color.BLUE), SMALL));
+
+        Color pixel = new Color(blue.getRGB(50, 25));
+        assertTrue(pixel.getBlue() > 200 && pixel.getRed() < 50, () -> "unexpected color " + pixel);
+    }
+
+    @Test
+    @DisplayName("Smaller image halved into reused buffers carries nothing over from a larger one")
+    void testHalvingBufferReuse() throws IOException {
+        ImageVariant tiny = new ImageVariant("tiny", 20, 20, "png");
+        resizeService.resize(image(400, 200, Color.RED), tiny);
+
+        BufferedImage blue = read(resizeService.resize(image(200, 100, Color.BLUE), tiny));
+
+        assertEquals(20, blue.getWidth());
+        Color corner = new Color(blue.getRGB(19, 9));
+        assertTrue(corner.getBlue() > 200 && corner.getRed() < 50, () -> "unexpected color " + corner);
+    }
+
+    @Test
+    @DisplayName("Image over the pixel limit is rejected")
+    void testResizeOverPixelLimit() {
+        byte[] tooLarge = image(401, 200, Color.RED);
+
+        assertThrows(DataValidationException.class, () -> resizeService.resize(tooLarge, SMALL));
+    }
+
+    @Test
+    @DisplayName("Bytes that are not an image are rejected")
+    void testResizeGarbage() {
+        assertThrows(DataValidationException.class, () -> resizeService.resize(new byte[]{1, 2, 3}, SMALL));
+    }
+
+    @Test
+    @DisplayName("Variants without an ImageIO writer are not writable")
+    void testVariantWritable() {
+        assertTrue(SMALL.isWritable());
+        assertFalse(new ImageVariant("nope", 1, 1, "no-such-format").isWritable());
+    }
+
+    private byte[] image(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(color);
+        graphics.fillRect(0, 0, width, height);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", output);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return output.toByteArray();
+    }
+
+    private BufferedImage read(byte[] bytes) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(bytes));
+    }
+}
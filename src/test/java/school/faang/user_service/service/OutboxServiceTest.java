@@ -0,0 +1,101 @@
+package school.faang.user_service.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.dto.event.FollowerEventDto;
+import school.faang.user_service.entity.outbox.AggregateType;
+import school.faang.user_service.entity.outbox.OutboxEvent;
+import school.faang.user_service.publisher.FollowerEventPublisher;
+import school.faang.user_service.repository.outbox.OutboxEventRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+    private static final String CHANNEL = "follower_channel";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private FollowerEventPublisher followerEventPublisher;
+
+    private OutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        when(followerEventPublisher.getChannel()).thenReturn(CHANNEL);
+        outboxService = new OutboxService(outboxEventRepository, List.of(followerEventPublisher));
+    }
+
+    @Test
+    @DisplayName("Enqueue stores the serialized event under the publisher channel")
+    void testEnqueueStoresSerializedEvent() {
+        FollowerEventDto event = FollowerEventDto.builder().visitorId(1L).visitedId(2L).build();
+        when(followerEventPublisher.serialize(event)).thenReturn("{\"visitorId\":1}".getBytes(StandardCharsets.UTF_8));
+
+        outboxService.enqueue(followerEventPublisher, AggregateType.USER, 1L, event);
+
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(captor.capture());
+        assertEquals(AggregateType.USER, captor.getValue().getAggregateType());
+        assertEquals(1L, captor.getValue().getAggregateId());
+        assertEquals(CHANNEL, captor.getValue().getChannel());
+        assertEquals("{\"visitorId\":1}", captor.getValue().getPayload());
+    }
+
+    @Test
+    @DisplayName("Relay publishes the locked batch and deletes it afterwards")
+    void testRelayBatchPublishesAndDeletes() {
+        List<OutboxEvent> events = List.of(
+                OutboxEvent.builder().id(1L).channel(CHANNEL).payload("a").build(),
+                OutboxEvent.builder().id(2L).channel(CHANNEL).payload("b").build());
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(events);
+
+        assertEquals(2, outboxService.relayBatch(10));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<byte[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(followerEventPublisher).publishSerialized(captor.capture());
+        assertArrayEquals("a".getBytes(StandardCharsets.UTF_8), captor.getValue().get(0));
+        assertArrayEquals("b".getBytes(StandardCharsets.UTF_8), captor.getValue().get(1));
+        verify(outboxEventRepository).deleteAllInBatch(events);
+    }
+
+    @Test
+    @DisplayName("Events of an unknown channel are marked failed and not counted as relayed")
+    void testRelayBatchMarksUnknownChannelFailed() {
+        OutboxEvent unknown = OutboxEvent.builder().id(1L).channel("unknown").payload("a").build();
+        OutboxEvent known = OutboxEvent.builder().id(2L).channel(CHANNEL).payload("b").build();
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of(unknown, known));
+
+        assertEquals(1, outboxService.relayBatch(10));
+
+        verify(outboxEventRepository).markFailed(List.of(1L));
+        verify(followerEventPublisher).publishSerialized(anyList());
+        verify(outboxEventRepository).deleteAllInBatch(List.of(known));
+    }
+
+    @Test
+    @DisplayName("Empty outbox relays nothing")
+    void testRelayBatchEmpty() {
+        when(outboxEventRepository.lockNextBatch(10)).thenReturn(List.of());
+
+        assertEquals(0, outboxService.relayBatch(10));
+
+        verify(followerEventPublisher, never()).publishSerialized(anyList());
+    }
+}
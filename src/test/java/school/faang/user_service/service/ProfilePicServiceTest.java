@@ -0,0 +1,79 @@
+package school.faang.user_service.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.UserProfilePic;
+import school.faang.user_service.repository.UserRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfilePicServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ContentStoreService contentStoreService;
+
+    @InjectMocks
+    private ProfilePicService profilePicService;
+
+    @Test
+    @DisplayName("Replacing a picture releases the old objects and retains the new ones")
+    void testReplace() {
+        User user = User.builder().id(1L).userProfilePic(new UserProfilePic("old", "old_small")).build();
+        UserProfilePic profilePic = new UserProfilePic("new", "new_small");
+
+        profilePicService.replace(user, profilePic);
+
+        assertEquals(profilePic, user.getUserProfilePic());
+        verify(contentStoreService).release(List.of("old", "old_small"));
+        verify(contentStoreService).retain(List.of("new", "new_small"));
+    }
+
+    @Test
+    @DisplayName("Clearing a picture only releases")
+    void testReplaceWithNothing() {
+        User user = User.builder().id(1L).userProfilePic(new UserProfilePic("old", null)).build();
+
+        profilePicService.replace(user, null);
+
+        assertNull(user.getUserProfilePic());
+        verify(contentStoreService).release(List.of("old"));
+        verify(contentStoreService).retain(List.of());
+    }
+
+    @Test
+    @DisplayName("Replacing by id locks the user row first")
+    void testReplaceById() {
+        User user = User.builder().id(1L).build();
+        when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(user));
+
+        assertTrue(profilePicService.replace(1L, new UserProfilePic("new", "new_small")));
+        verify(contentStoreService).retain(List.of("new", "new_small"));
+    }
+
+    @Test
+    @DisplayName("Replacing the picture of a deleted user changes nothing")
+    void testReplaceByIdOfDeletedUser() {
+        when(userRepository.findByIdForUpdate(1L)).thenReturn(Optional.empty());
+
+        assertFalse(profilePicService.replace(1L, new UserProfilePic("new", "new_small")));
+        verifyNoInteractions(contentStoreService);
+    }
+}
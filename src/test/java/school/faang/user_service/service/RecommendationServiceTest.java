@@ -7,6 +7,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import school.faang.user_service.cache.RecommendationFeedCache;
+import school.faang.user_service.dto.CursorPageDto;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recomendation.RecommendationDto;
 import school.faang.user_service.dto.recomendation.SkillOfferDto;
 import school.faang.user_service.entity.User;
@@ -21,9 +27,13 @@ import school.faang.user_service.validator.RecommendationValidator;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +50,8 @@ public class RecommendationServiceTest {
     private RecommendationValidator recommendationValidator;
     @Mock
     private RecommendationMapper recommendationMapper;
+    @Mock
+    private RecommendationFeedCache recommendationFeedCache;
     @InjectMocks
     private RecommendationService recommendationService;
 
@@ -85,49 +97,142 @@ public class RecommendationServiceTest {
     @Test
     void createTest() {
         doNothing().when(recommendationValidator).validateRecommendationDto(recommendationDto);
-        when(recommendationMapper.toEntity(recommendationDto)).thenReturn(recommendation);
+        when(recommendationRepository.create(authorId, receiverId, content)).thenReturn(recommendation.getId());
         when(recommendationMapper.toDto(any())).thenReturn(recommendationDto);
         RecommendationDto result = recommendationService.create(recommendationDto);
         assertNotNull(result);
         assertEquals(recommendationDto, result);
+        verify(skillOfferRepository).createAll(recommendation.getId(), List.of(1L));
+        verify(userSkillGuaranteeRepository).addGuarantees(receiverId, authorId, List.of(1L));
+    }
+
+    @Test
+    void createWritesManyOffersWithOneStatement() {
+        List<SkillOfferDto> skillOffers = LongStream.rangeClosed(1, 50)
+                .mapToObj(skillId -> SkillOfferDto.builder().skillId(skillId).build())
+                .toList();
+        recommendationDto.setSkillOffers(skillOffers);
+        when(recommendationRepository.create(authorId, receiverId, content)).thenReturn(recommendation.getId());
+
+        recommendationService.create(recommendationDto);
+
+        List<Long> skillIds = LongStream.rangeClosed(1, 50).boxed().toList();
+        verify(skillOfferRepository, times(1)).createAll(recommendation.getId(), skillIds);
+        verify(userSkillGuaranteeRepository, times(1)).addGuarantees(receiverId, authorId, skillIds);
+        verifyNoMoreInteractions(skillOfferRepository, userSkillGuaranteeRepository);
+    }
+
+    @Test
+    void createWithoutSkillOffersSkipsWrites() {
+        recommendationDto.setSkillOffers(null);
+        when(recommendationRepository.create(authorId, receiverId, content)).thenReturn(recommendation.getId());
+
+        recommendationService.create(recommendationDto);
+
+        verifyNoInteractions(skillOfferRepository, userSkillGuaranteeRepository);
     }
 
     @Test
     void updateTest() {
-        when(recommendationRepository.existsById(recommendationDto.getId())).thenReturn(true);
+        recommendationDto.setId(recommendation.getId());
+        when(recommendationRepository.findReceiverIdById(recommendationDto.getId())).thenReturn(Optional.of(receiverId));
         doNothing().when(recommendationValidator).validateRecommendationDto(recommendationDto);
-        when(recommendationMapper.toEntity(recommendationDto)).thenReturn(recommendation);
         when(recommendationMapper.toDto(any())).thenReturn(recommendationDto);
         RecommendationDto result = recommendationService.update(recommendationDto);
         assertNotNull(result);
         assertEquals(recommendationDto, result);
+        verify(skillOfferRepository).deleteAllByRecommendationId(recommendation.getId());
+        verify(skillOfferRepository).createAll(recommendation.getId(), List.of(1L));
+        verify(recommendationFeedCache, times(1)).evict(receiverId);
+    }
+
+    @Test
+    void updateEvictsStoredReceiverWhenDtoNamesAnother() {
+        long storedReceiverId = 5L;
+        recommendation.getReceiver().setId(storedReceiverId);
+        recommendationDto.setId(recommendation.getId());
+        when(recommendationRepository.findReceiverIdById(recommendation.getId()))
+                .thenReturn(Optional.of(storedReceiverId));
+        when(recommendationRepository.findById(recommendation.getId())).thenReturn(Optional.of(recommendation));
+
+        recommendationService.update(recommendationDto);
+
+        verify(recommendationFeedCache, times(1)).evict(storedReceiverId);
+        verify(recommendationFeedCache, times(1)).evict(receiverId);
+    }
+
+    @Test
+    void updateNotExistById() {
+        recommendationDto.setId(10000L);
+        when(recommendationRepository.findReceiverIdById(10000L)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> recommendationService.update(recommendationDto));
+        verify(recommendationFeedCache, never()).evict(anyLong());
     }
 
     @Test
     void getAllUserRecommendations() {
-        when(recommendationMapper.recommendationToRecommendationDto(any())).thenReturn(recommendationsDto);
-        doNothing().when(recommendationValidator).checkRecommendationList(any(), anyLong());
-        List<RecommendationDto> result = recommendationService.getAllUserRecommendations(authorId);
-        assertNotNull(result);
-        assertEquals(recommendationsDto, result);
+        Pageable pageable = PageRequest.of(0, 20);
+        when(recommendationRepository.findAllByReceiverId(receiverId, pageable))
+                .thenReturn(new PageImpl<>(List.of(recommendation), pageable, 21));
+        when(recommendationMapper.recommendationToRecommendationDto(List.of(recommendation))).thenReturn(recommendationsDto);
+        PageDto<RecommendationDto> result = recommendationService.getAllUserRecommendations(receiverId, pageable);
+        assertEquals(recommendationsDto, result.getContent());
+        assertTrue(result.isHasNext());
+        assertEquals(21L, result.getTotalElements());
+        verify(recommendationValidator).validatePageRequest(pageable);
     }
 
     @Test
-    void getAllGivenRecommendations() {
-        when(recommendationMapper.recommendationToRecommendationDto(any())).thenReturn(recommendationsDto);
-        doNothing().when(recommendationValidator).checkRecommendationList(any(), anyLong());
-        List<RecommendationDto> result = recommendationService.getAllGivenRecommendations(receiverId);
-        assertNotNull(result);
-        assertEquals(recommendationsDto, result);
+    void getAllGivenRecommendationsQueriesByAuthor() {
+        Pageable pageable = PageRequest.of(0, 20);
+        when(recommendationRepository.findAllByAuthorId(authorId, pageable))
+                .thenReturn(new PageImpl<>(List.of(recommendation), pageable, 1));
+        when(recommendationMapper.recommendationToRecommendationDto(List.of(recommendation))).thenReturn(recommendationsDto);
+        PageDto<RecommendationDto> result = recommendationService.getAllGivenRecommendations(authorId, pageable);
+        assertEquals(recommendationsDto, result.getContent());
+        verify(recommendationRepository, never()).findAllByReceiverId(anyLong(), any());
+    }
+
+    @Test
+    void getReceivedFeedServesCachedFirstPage() {
+        CursorPageDto<RecommendationDto> cached = new CursorPageDto<>(recommendationsDto, null);
+        when(recommendationFeedCache.isCacheable(null, 20)).thenReturn(true);
+        when(recommendationFeedCache.getFirstPage(eq(receiverId), any())).thenReturn(cached);
+        assertEquals(cached, recommendationService.getReceivedFeed(receiverId, null, 20));
+        verifyNoInteractions(recommendationRepository);
+    }
+
+    @Test
+    void getReceivedFeedReadsOlderPagesBelowTheCursor() {
+        when(recommendationFeedCache.isCacheable(5L, 1)).thenReturn(false);
+        when(recommendationRepository.findByReceiverIdAndIdLessThanOrderByIdDesc(receiverId, 5L, PageRequest.of(0, 1)))
+                .thenReturn(List.of(recommendation));
+        when(recommendationMapper.recommendationToRecommendationDto(List.of(recommendation))).thenReturn(recommendationsDto);
+        CursorPageDto<RecommendationDto> result = recommendationService.getReceivedFeed(receiverId, 5L, 1);
+        assertEquals(recommendationsDto, result.getContent());
+        assertEquals(recommendation.getId(), result.getNextCursor());
+        verify(recommendationFeedCache, never()).getFirstPage(anyLong(), any());
+    }
+
+    @Test
+    void getGivenFeedStartsFromTheNewest() {
+        when(recommendationRepository.findByAuthorIdAndIdLessThanOrderByIdDesc(authorId, Long.MAX_VALUE, PageRequest.of(0, 20)))
+                .thenReturn(List.of(recommendation));
+        when(recommendationMapper.recommendationToRecommendationDto(List.of(recommendation))).thenReturn(recommendationsDto);
+        CursorPageDto<RecommendationDto> result = recommendationService.getGivenFeed(authorId, null, 20);
+        assertEquals(recommendationsDto, result.getContent());
+        assertNull(result.getNextCursor());
     }
 
     @Test
     void delete() {
         long recommendationId = 1L;
-        when(recommendationRepository.existsById(recommendationId)).thenReturn(true);
+        when(recommendationRepository.findReceiverIdById(recommendationId)).thenReturn(Optional.of(receiverId));
         recommendationService.delete(recommendationId);
         verify(recommendationValidator).validateId(recommendationId);
-        verify(recommendationRepository).existsById(recommendationId);
+        verify(recommendationRepository).deleteById(recommendationId);
+        verify(recommendationFeedCache).evict(receiverId);
     }
 
     @Test
@@ -140,9 +245,9 @@ public class RecommendationServiceTest {
     @Test
     void deleteNotExistById() {
         long recommendationId = 10000L;
-        when(recommendationRepository.existsById(recommendationId)).thenReturn(false);
+        when(recommendationRepository.findReceiverIdById(recommendationId)).thenReturn(Optional.empty());
         assertThrows(IllegalArgumentException.class, () -> recommendationService.delete(recommendationId));
         verify(recommendationValidator).validateId(recommendationId);
-        verify(recommendationRepository).existsById(recommendationId);
+        verify(recommendationFeedCache, never()).evict(anyLong());
     }
 }
@@ -0,0 +1,101 @@
+package school.faang.user_service.service;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.S3Object;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.testcontainers.containers.localstack.LocalStackContainer.Service.S3;
+
+@Testcontainers(disabledWithoutDocker = true)
+class S3ServiceLocalStackTest {
+    private static final String BUCKET = "user-service-test";
+    // the smallest part S3 accepts
+    private static final DataSize PART_SIZE = DataSize.ofMegabytes(5);
+
+    @Container
+    private static final LocalStackContainer LOCALSTACK =
+            new LocalStackContainer(DockerImageName.parse("localstack/localstack:1.4")).withServices(S3);
+
+    private AmazonS3 s3Client;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3Client = AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                        LOCALSTACK.getEndpointOverride(S3).toString(), LOCALSTACK.getRegion()))
+                .withCredentials(new AWSStaticCredentialsProvider(
+                        new BasicAWSCredentials(LOCALSTACK.getAccessKey(), LOCALSTACK.getSecretKey())))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        if (!s3Client.doesBucketExistV2(BUCKET)) {
+            s3Client.createBucket(BUCKET);
+        }
+        // a single buffer: every upload below has to return it for the next one to start
+        s3Service = new S3Service(s3Client, new UploadBufferPool(PART_SIZE, PART_SIZE, Duration.ofSeconds(5)));
+    }
+
+    @Test
+    @DisplayName("Small stream is stored with a single put")
+    void testUploadSmallStream() throws IOException {
+        byte[] content = randomBytes(1000);
+
+        s3Service.uploadToS3("small", new ByteArrayInputStream(content), "image/png", BUCKET);
+
+        try (S3Object object = s3Client.getObject(BUCKET, "small")) {
+            assertArrayEquals(content, object.getObjectContent().readAllBytes());
+            assertEquals("image/png", object.getObjectMetadata().getContentType());
+        }
+    }
+
+    @Test
+    @DisplayName("Stream larger than a part is stored with a multipart upload")
+    void testUploadLargeStream() throws IOException {
+        byte[] content = randomBytes((int) (PART_SIZE.toBytes() * 2 + 1024));
+
+        s3Service.uploadToS3("large", new ByteArrayInputStream(content), "image/png", BUCKET);
+
+        try (S3Object object = s3Client.getObject(BUCKET, "large")) {
+            assertArrayEquals(content, object.getObjectContent().readAllBytes());
+            // S3 marks multipart objects with the part count in the ETag
+            assertTrue(object.getObjectMetadata().getETag().endsWith("-3"));
+        }
+    }
+
+    @Test
+    @DisplayName("Deleted objects are gone")
+    void testDeleteFromS3() {
+        s3Service.uploadToS3("deleted", randomBytes(10), "image/png", BUCKET);
+
+        s3Service.deleteFromS3(List.of("deleted", "never-existed"), BUCKET);
+
+        assertFalse(s3Client.doesObjectExist(BUCKET, "deleted"));
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -1,19 +1,37 @@
 package school.faang.user_service.service;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.util.unit.DataSize;
 
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class S3ServiceTest {
@@ -21,12 +39,12 @@ class S3ServiceTest {
     @Mock
     private AmazonS3 s3Client;
 
-    @InjectMocks
-    public S3Service s3Service;
+    private S3Service s3Service;
 
     @Captor
     private ArgumentCaptor<PutObjectRequest> putObjectRequestArgumentCaptor;
 
+    private UploadBufferPool uploadBufferPool;
     private String fileName;
     private byte[] imageBytes;
     private String contentType;
@@ -34,6 +52,8 @@ class S3ServiceTest {
 
     @BeforeEach
     public void setUp() {
+        uploadBufferPool = new UploadBufferPool(DataSize.ofBytes(4), DataSize.ofBytes(4), Duration.ofMillis(10));
+        s3Service = new S3Service(s3Client, uploadBufferPool);
         fileName = "fileName";
         imageBytes = new byte[1000];
         contentType = "image/jpeg";
@@ -47,4 +67,59 @@ class S3ServiceTest {
 
         verify(s3Client, times(1)).putObject(putObjectRequestArgumentCaptor.capture());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Stream that fits in one buffer is a single put")
+    public void testUploadStreamWithSinglePut() {
+        s3Service.uploadToS3(fileName, new ByteArrayInputStream(new byte[3]), contentType, bucketName);
+
+        verify(s3Client, times(1)).putObject(putObjectRequestArgumentCaptor.capture());
+        assertEquals(3, putObjectRequestArgumentCaptor.getValue().getMetadata().getContentLength());
+        verify(s3Client, never()).initiateMultipartUpload(any());
+        assertDoesNotThrow(uploadBufferPool::acquire, "buffer was not returned to the pool");
+    }
+
+    @Test
+    @DisplayName("Larger stream is uploaded in one part per buffer")
+    public void testUploadStreamInParts() {
+        stubInitiate();
+        when(s3Client.uploadPart(any(UploadPartRequest.class))).thenReturn(new UploadPartResult());
+
+        s3Service.uploadToS3(fileName, new ByteArrayInputStream(new byte[10]), contentType, bucketName);
+
+        ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(s3Client, times(3)).uploadPart(parts.capture());
+        assertEquals(List.of(4L, 4L, 2L), parts.getAllValues().stream().map(UploadPartRequest::getPartSize).toList());
+        verify(s3Client, times(1)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("Failed part aborts the multipart upload and returns the buffer")
+    public void testUploadStreamAbortsOnFailure() {
+        stubInitiate();
+        when(s3Client.uploadPart(any(UploadPartRequest.class))).thenThrow(new IllegalStateException("S3 is down"));
+
+        assertThrows(IllegalStateException.class,
+                () -> s3Service.uploadToS3(fileName, new ByteArrayInputStream(new byte[10]), contentType, bucketName));
+
+        verify(s3Client, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(s3Client, never()).completeMultipartUpload(any());
+        assertDoesNotThrow(uploadBufferPool::acquire, "buffer was not returned to the pool");
+    }
+
+    @Test
+    @DisplayName("deleteFromS3 sends one multi-object delete per thousand keys")
+    public void testDeleteFromS3() {
+        List<String> fileNames = IntStream.range(0, 1500).mapToObj(i -> "file_" + i).toList();
+
+        s3Service.deleteFromS3(fileNames, bucketName);
+
+        verify(s3Client, times(2)).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    private void stubInitiate() {
+        InitiateMultipartUploadResult initiated = new InitiateMultipartUploadResult();
+        initiated.setUploadId("upload-id");
+        when(s3Client.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiated);
+    }
+}
@@ -13,10 +13,14 @@ import school.faang.user_service.service.goal.SkillService;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -73,9 +77,25 @@ public class SkillServiceTest {
     @DisplayName("Метод создания успешен")
     @Test
     public void testCreateWhenValid() {
-        skillService.create(skills, userId);
+        Set<Long> skillIds = Set.of(firstSkill.getId(), secondSkill.getId());
+        when(skillRepository.assignSkillsToUser(userId, skillIds)).thenReturn(2);
 
-        verify(skillRepository, times(1)).assignSkillToUser(firstSkill.getId(), userId);
-        verify(skillRepository, times(1)).assignSkillToUser(secondSkill.getId(), userId);
+        assertEquals(2, skillService.create(skills, userId));
+        verify(skillRepository, times(1)).assignSkillsToUser(userId, skillIds);
+    }
+
+    @DisplayName("Goal without skills assigns nothing and skips the insert")
+    @Test
+    public void testCreateWithoutSkills() {
+        assertEquals(0, skillService.create(List.of(), userId));
+        verify(skillRepository, never()).assignSkillsToUser(anyLong(), anyCollection());
+    }
+
+    @DisplayName("Goal skills reach all participants with one statement")
+    @Test
+    public void testAddSkillToUsers() {
+        when(skillRepository.assignGoalSkillsToParticipants(goalId)).thenReturn(300);
+
+        assertEquals(300, skillService.addSkillToUsers(goalId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,61 @@
+package school.faang.user_service.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
+import school.faang.user_service.service.SubscriptionCounterService.ReconciliationBatch;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubscriptionCounterServiceTest {
+
+    @Mock
+    private SubscriptionCounterRepository subscriptionCounterRepository;
+
+    @InjectMocks
+    private SubscriptionCounterService subscriptionCounterService;
+
+    @Test
+    @DisplayName("Reconciliation stops when no users are left after the cursor")
+    void testReconcileBatchNoUsersLeft() {
+        when(subscriptionCounterRepository.findBatchUpperBound(100L, 10)).thenReturn(null);
+
+        assertTrue(subscriptionCounterService.reconcileBatch(100L, 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Reconciliation skips the rewrite when a batch has no drift")
+    void testReconcileBatchWithoutDrift() {
+        when(subscriptionCounterRepository.findBatchUpperBound(0L, 10)).thenReturn(10L);
+        when(subscriptionCounterRepository.sumDrift(0L, 10L)).thenReturn(0L);
+
+        Optional<ReconciliationBatch> batch = subscriptionCounterService.reconcileBatch(0L, 10);
+
+        assertEquals(Optional.of(new ReconciliationBatch(10L, 0L, 0)), batch);
+        verify(subscriptionCounterRepository, never()).reconcile(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Reconciliation rewrites drifted counters in the batch range")
+    void testReconcileBatchWithDrift() {
+        when(subscriptionCounterRepository.findBatchUpperBound(0L, 10)).thenReturn(10L);
+        when(subscriptionCounterRepository.sumDrift(0L, 10L)).thenReturn(3L);
+        when(subscriptionCounterRepository.reconcile(0L, 10L)).thenReturn(2);
+
+        Optional<ReconciliationBatch> batch = subscriptionCounterService.reconcileBatch(0L, 10);
+
+        assertEquals(Optional.of(new ReconciliationBatch(10L, 3L, 2)), batch);
+    }
+}
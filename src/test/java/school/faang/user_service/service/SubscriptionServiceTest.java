@@ -1,5 +1,6 @@
 package school.faang.user_service.service;
 
+import jakarta.persistence.EntityManager;
 import org.junit.Assert;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,21 +9,40 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import school.faang.user_service.dto.CursorPageDto;
 import school.faang.user_service.dto.event.FollowerEventDto;
+import school.faang.user_service.dto.user.UserDto;
 import school.faang.user_service.dto.user.UserFilterDto;
+import school.faang.user_service.entity.Subscription;
+import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.outbox.AggregateType;
 import school.faang.user_service.exception.DataValidationException;
+import school.faang.user_service.filter.userFilter.QueryableUserFilter;
+import school.faang.user_service.filter.userFilter.UserCityFilter;
 import school.faang.user_service.filter.userFilter.UserFilter;
+import school.faang.user_service.filter.userFilter.UserNameFilter;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.publisher.FollowerEventPublisher;
+import school.faang.user_service.repository.SubscriptionCounterRepository;
 import school.faang.user_service.repository.SubscriptionRepository;
+import school.faang.user_service.repository.projection.SubscribedUserSummary;
 import school.faang.user_service.validator.SubscriptionServiceValidator;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class SubscriptionServiceTest {
@@ -32,6 +52,9 @@ public class SubscriptionServiceTest {
     @Mock
     private SubscriptionRepository subscriptionRepository;
 
+    @Mock
+    private SubscriptionCounterRepository subscriptionCounterRepository;
+
     @Mock
     private List<UserFilter> userFilters;
 
@@ -44,6 +67,12 @@ public class SubscriptionServiceTest {
     @Mock
     private FollowerEventPublisher followerEventPublisher;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private OutboxService outboxService;
+
     @Test
     @DisplayName("Test when follower is already subscribed to followee")
     public void testFollowUserFollowerSubscribedFollowee() {
@@ -99,9 +128,12 @@ public class SubscriptionServiceTest {
 
         verify(subscriptionRepository, Mockito.times(1))
                 .followUser(followerId, followeeId);
+        verify(subscriptionCounterRepository, Mockito.times(1))
+                .addSubscription(followerId, followeeId, 1);
 
-        verify(followerEventPublisher, Mockito.times(1))
-                .publish(Mockito.any(FollowerEventDto.class));
+        verify(outboxService, Mockito.times(1))
+                .enqueue(Mockito.eq(followerEventPublisher), Mockito.eq(AggregateType.USER),
+                        Mockito.eq(followerId), Mockito.any(FollowerEventDto.class));
     }
 
     @Test
@@ -154,11 +186,26 @@ public class SubscriptionServiceTest {
         long followeeId = 2L;
 
         doNothing().when(subscriptionServiceValidator).validateFollowUnfollowUser(followerId, followeeId);
+        when(subscriptionRepository.unfollowUser(followerId, followeeId)).thenReturn(1);
 
         subscriptionService.unfollowUser(followerId, followeeId);
 
         verify(subscriptionRepository, Mockito.times(1))
                 .unfollowUser(followerId, followeeId);
+        verify(subscriptionCounterRepository, Mockito.times(1))
+                .addSubscription(followerId, followeeId, -1);
+    }
+
+    @Test
+    @DisplayName("Test unfollow of a missing subscription leaves counters untouched")
+    public void testUnfollowUserMissingSubscriptionKeepsCounters() {
+        long followerId = 1L;
+        long followeeId = 2L;
+
+        subscriptionService.unfollowUser(followerId, followeeId);
+
+        verify(subscriptionCounterRepository, Mockito.never())
+                .addSubscription(Mockito.anyLong(), Mockito.anyLong(), Mockito.anyInt());
     }
 
     @Test
@@ -191,10 +238,121 @@ public class SubscriptionServiceTest {
     @Test
     @DisplayName("Test getting followers returns UserDto list")
     public void testGetFollowersReturnedUsersDto() {
-        subscriptionService.getFollowers(1L, new UserFilterDto());
+        UserFilterDto userFilterDto = new UserFilterDto();
+
+        subscriptionService.getFollowers(1L, userFilterDto);
 
         verify(subscriptionRepository, Mockito.times(1))
-                .findByFolloweeId(1L);
+                .findFollowers(1L, List.of(), userFilterDto, Pageable.unpaged());
+    }
+
+    @Test
+    @DisplayName("Test getting followers pushes queryable filters and paging to the repository")
+    public void testGetFollowersQueryableFiltersPushedDown() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        userFilterDto.setNamePattern("name");
+        QueryableUserFilter userNameFilter = new UserNameFilter();
+        Pageable pageable = PageRequest.of(1, 10);
+        when(userFilters.stream()).thenReturn(Stream.of(userNameFilter, new UserCityFilter()));
+
+        subscriptionService.getFollowers(1L, userFilterDto, pageable);
+
+        verify(subscriptionRepository, Mockito.times(1))
+                .findFollowers(1L, List.of(userNameFilter), userFilterDto, pageable);
+    }
+
+    @Test
+    @DisplayName("Test getting followers falls back to in-memory filtering for non-queryable filters")
+    public void testGetFollowersInMemoryFallback() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        User matching = User.builder().id(1L).username("match").build();
+        User other = User.builder().id(2L).username("other").build();
+        UserFilter inMemoryFilter = mock(UserFilter.class);
+        when(inMemoryFilter.isApplicable(userFilterDto)).thenReturn(true);
+        when(inMemoryFilter.apply(List.of(matching, other), userFilterDto)).thenReturn(Stream.of(matching));
+        when(userFilters.stream()).thenReturn(Stream.of(inMemoryFilter));
+        when(subscriptionRepository.findFollowers(1L, List.of(), userFilterDto, Pageable.unpaged()))
+                .thenReturn(List.of(matching, other));
+
+        subscriptionService.getFollowers(1L, userFilterDto, PageRequest.of(0, 10));
+
+        verify(userMapper, Mockito.times(1)).toDtoList(List.of(matching));
+    }
+
+    @Test
+    @DisplayName("Test keyset page of followers returns the last subscription id as the next cursor")
+    public void testGetFollowersCursorPage() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        User first = User.builder().id(3L).build();
+        User second = User.builder().id(4L).build();
+        List<Subscription> subscriptions = List.of(
+                Subscription.builder().id(11L).follower(first).build(),
+                Subscription.builder().id(12L).follower(second).build());
+        when(subscriptionRepository.findFollowerSubscriptions(1L, List.of(), userFilterDto, 10L, 2))
+                .thenReturn(subscriptions);
+
+        CursorPageDto<UserDto> page = subscriptionService.getFollowers(1L, userFilterDto, 10L, 2);
+
+        verify(subscriptionServiceValidator).validatePageSize(2);
+        verify(userMapper, Mockito.times(1)).toDtoList(List.of(first, second));
+        assertEquals(12L, page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Test unfiltered follower page is read from the projection and keyed by subscription id")
+    public void testGetFollowerSummaries() {
+        SubscribedUserSummary first = mock(SubscribedUserSummary.class);
+        SubscribedUserSummary second = mock(SubscribedUserSummary.class);
+        when(second.getSubscriptionId()).thenReturn(12L);
+        when(subscriptionRepository.findFollowerSummaries(1L, 10L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+
+        CursorPageDto<UserDto> page = subscriptionService.getFollowerSummaries(1L, 10L, 2);
+
+        verify(subscriptionServiceValidator).validateExistsById(1L);
+        verify(subscriptionServiceValidator).validatePageSize(2);
+        verify(userMapper).toDto(first);
+        verify(userMapper).toDto(second);
+        assertEquals(12L, page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Test last keyset page of following has no next cursor")
+    public void testGetFollowingLastCursorPage() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        User followee = User.builder().id(3L).build();
+        when(subscriptionRepository.findFolloweeSubscriptions(1L, List.of(), userFilterDto, null, 2))
+                .thenReturn(List.of(Subscription.builder().id(11L).followee(followee).build()));
+
+        CursorPageDto<UserDto> page = subscriptionService.getFollowing(1L, userFilterDto, null, 2);
+
+        verify(userMapper, Mockito.times(1)).toDtoList(List.of(followee));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Test streaming followers maps and detaches every row")
+    public void testStreamFollowers() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        User follower = User.builder().id(3L).build();
+        UserDto followerDto = UserDto.builder().id(3L).build();
+        when(subscriptionRepository.streamFollowers(1L, List.of(), userFilterDto)).thenReturn(Stream.of(follower));
+        when(userMapper.toDto(follower)).thenReturn(followerDto);
+        List<UserDto> streamed = new ArrayList<>();
+
+        subscriptionService.streamFollowers(1L, userFilterDto, streamed::add);
+
+        assertEquals(List.of(followerDto), streamed);
+        verify(entityManager).detach(follower);
+    }
+
+    @Test
+    @DisplayName("Test getting filtered followers count is executed by the repository")
+    public void testGetFollowersCountWithFilter() {
+        UserFilterDto userFilterDto = new UserFilterDto();
+        when(subscriptionRepository.countFollowers(1L, List.of(), userFilterDto)).thenReturn(5L);
+
+        assertEquals(5L, subscriptionService.getFollowersCount(1L, userFilterDto));
     }
 
     @Test
@@ -215,10 +373,9 @@ public class SubscriptionServiceTest {
     public void testGetFollowersCountReturnedUsersCount() {
         long followerId = 1L;
 
-        subscriptionService.getFollowersCount(followerId);
+        when(subscriptionCounterRepository.findFollowersCount(followerId)).thenReturn(Optional.of(7));
 
-        verify(subscriptionRepository, Mockito.times(1))
-                .findFollowersAmountByFolloweeId(followerId);
+        assertEquals(7, subscriptionService.getFollowersCount(followerId));
     }
 
     @Test
@@ -257,6 +414,8 @@ public class SubscriptionServiceTest {
         subscriptionService.getFollowing(followeeId, userFilterDto);
 
         verify(subscriptionServiceValidator).validateGetFollowing(followeeId, userFilterDto);
+        verify(subscriptionRepository, Mockito.times(1))
+                .findFollowees(followeeId, List.of(), userFilterDto, Pageable.unpaged());
     }
 
     @Test
@@ -277,9 +436,8 @@ public class SubscriptionServiceTest {
     public void testGetFollowingCountReturnedUsersCount() {
         long followerId = 1L;
 
-        subscriptionService.getFollowingCount(followerId);
+        when(subscriptionCounterRepository.findFolloweesCount(followerId)).thenReturn(Optional.empty());
 
-        verify(subscriptionRepository, Mockito.times(1))
-                .findFolloweesAmountByFollowerId(followerId);
+        assertEquals(0, subscriptionService.getFollowingCount(followerId));
     }
 }
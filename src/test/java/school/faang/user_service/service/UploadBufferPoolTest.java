@@ -0,0 +1,53 @@
+package school.faang.user_service.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import school.faang.user_service.exception.UploadCapacityExceededException;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class UploadBufferPoolTest {
+
+    private UploadBufferPool bufferPool;
+
+    @BeforeEach
+    void setUp() {
+        bufferPool = new UploadBufferPool(DataSize.ofBytes(4), DataSize.ofBytes(8), Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("Buffers are part-sized and reused once released")
+    void testAcquireReusesReleasedBuffer() {
+        byte[] buffer = bufferPool.acquire();
+        assertEquals(4, buffer.length);
+
+        bufferPool.release(buffer);
+
+        assertSame(buffer, bufferPool.acquire());
+    }
+
+    @Test
+    @DisplayName("Acquiring past the in-flight cap times out until a buffer is released")
+    void testAcquireOverCap() {
+        byte[] first = bufferPool.acquire();
+        bufferPool.acquire();
+
+        assertThrows(UploadCapacityExceededException.class, bufferPool::acquire);
+
+        bufferPool.release(first);
+        assertSame(first, bufferPool.acquire());
+    }
+
+    @Test
+    @DisplayName("A cap below one part is rejected at start-up")
+    void testCapBelowPartSize() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new UploadBufferPool(DataSize.ofBytes(8), DataSize.ofBytes(4), Duration.ofMillis(10)));
+    }
+}
@@ -0,0 +1,117 @@
+package school.faang.user_service.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import school.faang.user_service.dto.user.UserDeactivationDto;
+import school.faang.user_service.entity.DeactivationStage;
+import school.faang.user_service.entity.UserDeactivation;
+import school.faang.user_service.repository.UserDeactivationRepository;
+import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.repository.goal.GoalRepository;
+import school.faang.user_service.repository.mentorship.MentorshipRepository;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserDeactivationServiceTest {
+    private static final int CHUNK_SIZE = 100;
+    private static final long USER_ID = 1L;
+
+    @Mock
+    private UserDeactivationRepository userDeactivationRepository;
+    @Mock
+    private GoalRepository goalRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private MentorshipRepository mentorshipRepository;
+
+    @InjectMocks
+    private UserDeactivationService userDeactivationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userDeactivationService, "chunkSize", CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("A full chunk keeps the job on its stage")
+    void testProcessChunkStaysOnStage() {
+        UserDeactivation deactivation = job(DeactivationStage.SOLO_GOALS, 0);
+        when(userDeactivationRepository.lockUnfinished(USER_ID)).thenReturn(Optional.of(deactivation));
+        when(goalRepository.deleteSoloGoalsOfUser(USER_ID, CHUNK_SIZE)).thenReturn(CHUNK_SIZE);
+
+        assertTrue(userDeactivationService.processChunk(USER_ID));
+        assertEquals(DeactivationStage.SOLO_GOALS, deactivation.getStage());
+        assertEquals(CHUNK_SIZE, deactivation.getProcessed());
+        verify(userDeactivationRepository).save(deactivation);
+    }
+
+    @Test
+    @DisplayName("A short chunk moves the job to the next stage")
+    void testProcessChunkAdvancesStage() {
+        UserDeactivation deactivation = job(DeactivationStage.PLANNED_EVENTS, 250);
+        when(userDeactivationRepository.lockUnfinished(USER_ID)).thenReturn(Optional.of(deactivation));
+        when(eventRepository.cancelPlannedEventsOfOwner(USER_ID, CHUNK_SIZE)).thenReturn(3);
+
+        assertTrue(userDeactivationService.processChunk(USER_ID));
+        assertEquals(DeactivationStage.MENTORED_GOALS, deactivation.getStage());
+        assertEquals(253, deactivation.getProcessed());
+    }
+
+    @Test
+    @DisplayName("The last stage finishes the job")
+    void testProcessChunkFinishes() {
+        UserDeactivation deactivation = job(DeactivationStage.MENTORSHIPS, 10);
+        when(userDeactivationRepository.lockUnfinished(USER_ID)).thenReturn(Optional.of(deactivation));
+        when(mentorshipRepository.deleteMenteesOf(USER_ID, CHUNK_SIZE)).thenReturn(0);
+
+        assertFalse(userDeactivationService.processChunk(USER_ID));
+        assertEquals(DeactivationStage.DONE, deactivation.getStage());
+    }
+
+    @Test
+    @DisplayName("A job locked by another worker or already finished is skipped")
+    void testProcessChunkWhenLockedElsewhere() {
+        when(userDeactivationRepository.lockUnfinished(USER_ID)).thenReturn(Optional.empty());
+
+        assertFalse(userDeactivationService.processChunk(USER_ID));
+        verifyNoInteractions(goalRepository, eventRepository, mentorshipRepository);
+        verify(userDeactivationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Progress reports the stage and the rows processed so far")
+    void testGetProgress() {
+        when(userDeactivationRepository.findById(USER_ID))
+                .thenReturn(Optional.of(job(DeactivationStage.GOAL_LINKS, 42)));
+
+        UserDeactivationDto progress = userDeactivationService.getProgress(USER_ID);
+        assertEquals(DeactivationStage.GOAL_LINKS, progress.getStage());
+        assertEquals(42, progress.getProcessed());
+        assertFalse(progress.isFinished());
+    }
+
+    private UserDeactivation job(DeactivationStage stage, long processed) {
+        return UserDeactivation.builder()
+                .userId(USER_ID)
+                .stage(stage)
+                .processed(processed)
+                .build();
+    }
+}
@@ -4,16 +4,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import school.faang.user_service.cache.UserCache;
+import school.faang.user_service.dto.event.ProfilePicEvent;
 import school.faang.user_service.dto.user.UserDto;
+import school.faang.user_service.dto.user.UserFilterDto;
 import school.faang.user_service.dto.user.UserTransportDto;
 import school.faang.user_service.entity.Country;
 import school.faang.user_service.entity.User;
-import school.faang.user_service.entity.event.Event;
-import school.faang.user_service.entity.event.EventStatus;
-import school.faang.user_service.entity.goal.Goal;
+import school.faang.user_service.entity.UserProfilePic;
+import school.faang.user_service.entity.outbox.AggregateType;
 import school.faang.user_service.event.ProfileViewEvent;
 import school.faang.user_service.exception.UserNotFoundException;
 import school.faang.user_service.handler.EntityHandler;
@@ -21,14 +28,15 @@ import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.mapper.UserMapperImpl;
 import school.faang.user_service.publisher.ProfileViewEventPublisher;
 import school.faang.user_service.repository.UserRepository;
-import school.faang.user_service.repository.event.EventRepository;
-import school.faang.user_service.repository.goal.GoalRepository;
+import school.faang.user_service.repository.projection.UserTransportSummary;
 import school.faang.user_service.validator.UserValidator;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -38,7 +46,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -49,21 +60,29 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
     @Mock
+    private UserCache userCache;
+    @Mock
     private AvatarService avatarService;
     @Mock
+    private ProfilePicService profilePicService;
+    @Mock
     private UserValidator userValidator;
     @Mock
     private UserRepository userRepository;
     @Mock
     private EntityHandler entityHandler;
     @Mock
-    private EventRepository eventRepository;
-    @Mock
-    private GoalRepository goalRepository;
+    private UserDeactivationService userDeactivationService;
     @Mock
-    private MentorshipService mentorshipService;
+    private SubscriptionService subscriptionService;
     @Mock
     private ProfileViewEventPublisher profileViewEventPublisher;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private ThreadPoolExecutor threadPool;
+    @Mock
+    private TransactionOperations transactionOperations;
 
     @InjectMocks
     private UserService userService;
@@ -75,18 +94,13 @@ class UserServiceTest {
     private User user;
     private UserDto userDto;
     private UserTransportDto userTransportDto;
-    private User mentee;
-    private Goal mentorAssignedGoal;
     private List<Long> userIds;
     private List<UserTransportDto> userTransportDtoList;
     private List<User> userFollowers;
 
     @BeforeEach
     public void setUp() {
-        List<Goal> goalList = new ArrayList<>();
-        List<User> userList = new ArrayList<>();
-        List<User> menteesList = new ArrayList<>();
-        List<Event> ownedEvents = new ArrayList<>();
+        ReflectionTestUtils.setField(userService, "lookupChunkSize", 500);
 
         userId = 1L;
         authorId = 2L;
@@ -117,9 +131,7 @@ class UserServiceTest {
                 .followers(userFollowers)
                 .email("test@mail.com")
                 .phone("123456")
-                .goals(goalList)
-                .ownedEvents(ownedEvents)
-                .mentees(menteesList).build();
+                .active(true).build();
         userDto = UserDto.builder()
                 .id(userId)
                 .username("username")
@@ -137,73 +149,167 @@ class UserServiceTest {
         userIds = List.of(userId);
         userTransportDtoList = List.of(userTransportDto);
 
-        Goal goal = Goal.builder()
-                .id(1L)
-                .users(userList).build();
-        mentorAssignedGoal = Goal.builder()
-                .mentor(user).build();
-        mentee = User.builder()
-                .id(2L)
-                .goals(List.of(mentorAssignedGoal)).build();
-        Event event = Event.builder().id(1L)
-                .status(EventStatus.PLANNED).build();
-        menteesList.add(mentee);
-        goalList.add(goal);
-        userList.add(user);
-        ownedEvents.add(event);
     }
 
     @Test
     @DisplayName("testing getUser method")
     public void testGetUser() {
+        when(userCache.get(eq(userId), any())).thenAnswer(invocation ->
+                invocation.<Supplier<UserDto>>getArgument(1).get());
         when(entityHandler.getOrThrowException(eq(User.class), eq(userId), any())).thenReturn(user);
         doNothing().when(profileViewEventPublisher).publish(any());
         userService.getUser(userId, authorId);
         verify(entityHandler, times(1)).getOrThrowException(eq(User.class), eq(userId), any());
-        verify(userMapper, times(1)).toDto(user);
+        verify(userMapper, times(1)).toCachedDto(user);
+    }
+
+    @Test
+    @DisplayName("testing getUser method served from cache")
+    public void testGetUserFromCache() {
+        when(userCache.get(eq(userId), any())).thenReturn(userDto);
+
+        assertEquals(userDto, userService.getUser(userId, authorId));
+        verify(entityHandler, times(0)).getOrThrowException(eq(User.class), eq(userId), any());
     }
 
     @Test
     @DisplayName("testing createUser method with null multipartFile")
     public void testCreateUser() {
+        runTransactionsInline();
         when(userMapper.toEntity(userDto)).thenReturn(user);
         when(userRepository.save(user)).thenReturn(user);
 
         userService.createUser(userDto, null);
 
         verify(userMapper, times(1)).toEntity(userDto);
-        verify(userRepository, times(2)).save(user);
-        verify(avatarService, times(1)).setRandomAvatar(user);
+        verify(userRepository, times(1)).save(user);
+        verify(avatarService, times(1)).assignRandomAvatar(user);
         verify(userMapper, times(1)).toDto(user);
     }
 
+    @Test
+    @DisplayName("createUser streams the avatar before the transaction and points the new user at it")
+    public void testCreateUserWithFile() {
+        MockMultipartFile file = new MockMultipartFile("file", "me.png", "image/png", new byte[10]);
+        when(avatarService.uploadAvatar(file)).thenReturn("avatars/uploads/id");
+        runTransactionsInline();
+        when(userMapper.toEntity(userDto)).thenReturn(user);
+        when(userRepository.save(user)).thenReturn(user);
+
+        userService.createUser(userDto, file);
+
+        InOrder inOrder = inOrder(avatarService, transactionOperations);
+        inOrder.verify(avatarService).uploadAvatar(file);
+        inOrder.verify(transactionOperations).execute(any());
+        verify(profilePicService, times(1)).replace(user, new UserProfilePic("avatars/uploads/id", null));
+        verify(outboxService, times(1)).enqueue(any(), eq(AggregateType.USER), eq(userId),
+                eq(new ProfilePicEvent(userId, "avatars/uploads/id")));
+    }
+
+    @Test
+    @DisplayName("createUser discards the uploaded avatar when the user cannot be saved")
+    public void testCreateUserWithFileDiscardsUploadOnFailure() {
+        MockMultipartFile file = new MockMultipartFile("file", "me.png", "image/png", new byte[10]);
+        when(avatarService.uploadAvatar(file)).thenReturn("avatars/uploads/id");
+        runTransactionsInline();
+        when(userMapper.toEntity(userDto)).thenReturn(user);
+        when(userRepository.save(user)).thenThrow(new IllegalStateException("duplicate username"));
+
+        assertThrows(IllegalStateException.class, () -> userService.createUser(userDto, file));
+        verify(avatarService, times(1)).discardUpload("avatars/uploads/id");
+    }
+
     @Test
     @DisplayName("testing updateUserAvatar method with null multipartFile")
     public void testUpdateUserAvatar() {
+        runTransactionsInline();
         when(entityHandler.getOrThrowException(eq(User.class), eq(userId), any())).thenReturn(user);
 
         userService.updateUserAvatar(userId, null);
 
         verify(entityHandler, times(1)).getOrThrowException(eq(User.class), eq(userId), any());
-        verify(avatarService, times(1)).setRandomAvatar(user);
+        verify(avatarService, times(1)).assignRandomAvatar(user);
+        verify(userRepository, times(1)).save(user);
+        verify(userCache, times(1)).evict(userId);
+    }
+    @Test
+    @DisplayName("updateUserAvatar with a file uploads it and tells the resizer where it is")
+    public void testUpdateUserAvatarWithFile() {
+        MockMultipartFile file = new MockMultipartFile("file", "me.png", "image/png", new byte[10]);
+        runTransactionsInline();
+        when(entityHandler.getOrThrowException(eq(User.class), eq(userId), any())).thenReturn(user);
+        when(avatarService.uploadAvatar(file)).thenReturn("avatars/uploads/id");
+
+        userService.updateUserAvatar(userId, file);
+
+        verify(outboxService, times(1)).enqueue(any(), eq(AggregateType.USER), eq(userId),
+                eq(new ProfilePicEvent(userId, "avatars/uploads/id")));
         verify(userRepository, times(1)).save(user);
     }
 
+    @Test
+    @DisplayName("deleteAvatar clears the picture through the reference-counting service")
+    public void testDeleteAvatar() {
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+
+        userService.deleteAvatar(userId);
+
+        verify(profilePicService, times(1)).replace(user, null);
+        verify(userRepository, times(1)).save(user);
+        verify(userCache, times(1)).evict(userId);
+    }
 
     @Test
     @DisplayName("test that getUsersByIds calls all methods correctly + return test")
     public void testGetUsersByIds() {
-        when(userRepository.findAllById(userIds)).thenReturn(List.of(user));
-        when(userMapper.toTransportDto(user)).thenReturn(userTransportDto);
+        runThreadPoolInline();
+        UserTransportSummary summary = mock(UserTransportSummary.class);
+        when(userRepository.findTransportSummariesByIdIn(userIds)).thenReturn(List.of(summary));
+        when(userMapper.toTransportDto(summary)).thenReturn(userTransportDto);
 
         List<UserTransportDto> result = userService.getUsersByIds(userIds);
 
-        verify(userRepository).findAllById(userIds);
-        verify(userMapper).toTransportDto(user);
+        verify(userRepository).findTransportSummariesByIdIn(userIds);
 
         assertEquals(result, userTransportDtoList);
     }
 
+    @Test
+    @DisplayName("test that getUsersByIds splits distinct ids into chunks and keeps chunk order")
+    public void testGetUsersByIdsInChunks() {
+        ReflectionTestUtils.setField(userService, "lookupChunkSize", 2);
+        runThreadPoolInline();
+        UserTransportSummary firstSummary = mock(UserTransportSummary.class);
+        UserTransportSummary secondSummary = mock(UserTransportSummary.class);
+        UserTransportSummary thirdSummary = mock(UserTransportSummary.class);
+        UserTransportDto first = UserTransportDto.builder().id(1L).build();
+        UserTransportDto second = UserTransportDto.builder().id(2L).build();
+        UserTransportDto third = UserTransportDto.builder().id(3L).build();
+        when(userRepository.findTransportSummariesByIdIn(List.of(1L, 2L)))
+                .thenReturn(List.of(firstSummary, secondSummary));
+        when(userRepository.findTransportSummariesByIdIn(List.of(3L))).thenReturn(List.of(thirdSummary));
+        when(userMapper.toTransportDto(firstSummary)).thenReturn(first);
+        when(userMapper.toTransportDto(secondSummary)).thenReturn(second);
+        when(userMapper.toTransportDto(thirdSummary)).thenReturn(third);
+
+        List<UserTransportDto> streamed = new ArrayList<>();
+        userService.streamUsersByIds(List.of(1L, 2L, 1L, 3L), streamed::add);
+
+        assertEquals(List.of(first, second, third), streamed);
+    }
+
+    private void runTransactionsInline() {
+        when(transactionOperations.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private void runThreadPoolInline() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(threadPool).execute(any(Runnable.class));
+    }
+
     @Test
     @DisplayName("testing deactivateUser by providing non existing user id")
     public void testDeactivateUserWithNonExistingUserId() {
@@ -212,14 +318,15 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("testing deactivateUser deleteAll methods execution")
-    public void testDeactivateUserWithRepositoryGoalDeletion() {
+    @DisplayName("deactivateUser marks the user inactive and leaves the clean-up to the background job")
+    public void testDeactivateUserSchedulesCleanUp() {
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userRepository.save(user)).thenReturn(user);
+
         userService.deactivateUser(user.getId());
-        verify(goalRepository, times(1)).deleteAll(any());
-        verify(eventRepository, times(1)).saveAll(any());
-        verify(mentorshipService, times(1)).deleteMentor(mentee.getId(), user.getId());
-        assertEquals(mentorAssignedGoal.getMentor(), mentee);
+        assertFalse(user.isActive());
+        verify(userDeactivationService, times(1)).schedule(user.getId());
+        verify(userCache, times(1)).evict(user.getId());
     }
 
     @Test
@@ -239,10 +346,8 @@ class UserServiceTest {
     @Test
     @DisplayName("testing getUserFollowers method")
     public void testGetUserFollowers() {
-        when(entityHandler.getOrThrowException(eq(User.class), eq(userId), any())).thenReturn(user);
-        userService.getUserFollowers(userId);
-        verify(entityHandler, times(1)).getOrThrowException(eq(User.class), eq(userId), any());
-        verify(userMapper, times(userFollowers.size())).toDto(any());
+        userService.getUserFollowers(userId, null, 100);
+        verify(subscriptionService, times(1)).getFollowerSummaries(userId, null, 100);
     }
 
     @Test
@@ -1,11 +1,18 @@
 package school.faang.user_service.service.event;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.event.EventCursorDto;
+import school.faang.user_service.dto.event.EventPageDto;
 import school.faang.user_service.dto.event.ReadEvetDto;
 import school.faang.user_service.dto.event.WriteEventDto;
 import school.faang.user_service.dto.user.UserReadDto;
@@ -21,6 +28,7 @@ import school.faang.user_service.filter.event.EventTitleFieldFilter;
 import school.faang.user_service.mapper.event.EventToReadEventDtoMapper;
 import school.faang.user_service.mapper.event.WriteEventDtoToEventMapper;
 import school.faang.user_service.repository.event.EventRepository;
+import school.faang.user_service.validator.PageRequestValidator;
 import school.faang.user_service.validator.WriteEventValidator;
 
 import java.time.LocalDateTime;
@@ -61,6 +69,7 @@ public class EventServiceTest {
                 writeEventDtoToEventMapper,
                 eventToReadEventDtoMapper,
                 writeEventValidator,
+                new PageRequestValidator(),
                 List.of(eventTitleFieldFilter, eventStartDateAfterFieldFilter));
     }
 
@@ -80,22 +89,54 @@ public class EventServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void findAllByFilter() {
         EventFilterDto eventFilterDto = new EventFilterDto("2", DATE_NOW.minusDays(1));
+        Specification<Event> titleSpecification = Mockito.mock(Specification.class);
+        Specification<Event> startDateSpecification = Mockito.mock(Specification.class);
+        Event first = getEvent("title2");
+        first.setId(7L);
+        Event second = getEvent("a2");
+        second.setId(9L);
+        EventCursorDto cursor = new EventCursorDto(DATE_NOW, 5L);
         List<ReadEvetDto> expectedResult = List.of(getReadEvetDto("title2"), getReadEvetDto("a2"));
-        List<Event> events = List.of(getEvent("title"), getEvent("title2"), getEvent("atitle"), getEvent("a2"));
-        doReturn(events).when(repository).findAll();
         doReturn(true).when(eventTitleFieldFilter).isApplicable(eventFilterDto);
         doReturn(true).when(eventStartDateAfterFieldFilter).isApplicable(eventFilterDto);
-        doReturn(Stream.of(events.get(1))).when(eventTitleFieldFilter).apply(Mockito.any(), Mockito.any());
-        doReturn(Stream.of(events.get(3))).when(eventStartDateAfterFieldFilter).apply(Mockito.any(), Mockito.any());
-        doReturn(expectedResult.get(0)).when(eventToReadEventDtoMapper).map(events.get(1));
-        doReturn(expectedResult.get(1)).when(eventToReadEventDtoMapper).map(events.get(3));
+        doReturn(titleSpecification).when(eventTitleFieldFilter).toSpecification(eventFilterDto);
+        doReturn(startDateSpecification).when(eventStartDateAfterFieldFilter).toSpecification(eventFilterDto);
+        ArgumentCaptor<Specification<Event>> specificationCaptor = ArgumentCaptor.forClass(Specification.class);
+        doReturn(List.of(first, second)).when(repository).findPage(specificationCaptor.capture(), Mockito.eq(cursor), Mockito.eq(2));
+        doReturn(expectedResult.get(0)).when(eventToReadEventDtoMapper).map(first);
+        doReturn(expectedResult.get(1)).when(eventToReadEventDtoMapper).map(second);
+
+        EventPageDto actualResult = eventService.findAllByFilter(eventFilterDto, cursor, 2);
+
+        assertThat(actualResult.getContent()).isEqualTo(expectedResult);
+        assertThat(actualResult.getNextCursor()).isEqualTo(new EventCursorDto(second.getStartDate(), 9L));
+        Root<Event> root = Mockito.mock(Root.class);
+        CriteriaQuery<?> query = Mockito.mock(CriteriaQuery.class);
+        CriteriaBuilder cb = Mockito.mock(CriteriaBuilder.class);
+        specificationCaptor.getValue().toPredicate(root, query, cb);
+        verify(titleSpecification).toPredicate(root, query, cb);
+        verify(startDateSpecification).toPredicate(root, query, cb);
+    }
+
+    @Test
+    void findAllByFilterLastPageHasNoCursor() {
+        EventFilterDto eventFilterDto = new EventFilterDto(null, null);
+        Event event = getEvent();
+        doReturn(List.of(event)).when(repository).findPage(Mockito.any(), Mockito.isNull(), Mockito.eq(2));
 
-        List<ReadEvetDto> actualResult = eventService.findAllByFilter(eventFilterDto);
+        EventPageDto actualResult = eventService.findAllByFilter(eventFilterDto, null, 2);
 
-        assertThat(actualResult.size()).isEqualTo(2);
-        assertThat(actualResult).isEqualTo(expectedResult);
+        assertThat(actualResult.getNextCursor()).isNull();
+    }
+
+    @Test
+    void findAllByFilterRejectsPageSize() {
+        assertThrows(DataValidationException.class,
+                () -> eventService.findAllByFilter(new EventFilterDto(null, null), null, 0));
+        verifyNoInteractions(repository);
     }
 
     @Test
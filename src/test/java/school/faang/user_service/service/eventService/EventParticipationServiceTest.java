@@ -9,11 +9,16 @@ import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.repository.event.EventParticipationRepository;
+import school.faang.user_service.repository.event.EventRepository;
 import school.faang.user_service.validator.EventParticipantValidator;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 public class EventParticipationServiceTest {
@@ -24,6 +29,9 @@ public class EventParticipationServiceTest {
     @Mock
     private EventParticipationRepository eventParticipationRepository;
 
+    @Mock
+    private EventRepository eventRepository;
+
     @Mock
     private EventParticipantValidator eventParticipantValidator;
 
@@ -33,24 +41,51 @@ public class EventParticipationServiceTest {
     @Test
     @DisplayName("Test register user on event")
     public void testRegisterUserAndEvent() {
+        when(eventParticipationRepository.register(1L, 2L)).thenReturn(1);
+        when(eventRepository.reserveSeat(1L)).thenReturn(1);
+
         eventParticipationService.registerParticipant(1L, 2L);
         verify(eventParticipantValidator, times(1)).checkNoRegistrationAtEvent(1L, 2L);
         verify(eventParticipationRepository, times(1)).register(1L, 2L);
+        verify(eventParticipantValidator, times(1)).checkSeatReserved(1L, 1);
+    }
+
+    @Test
+    @DisplayName("Registration that lost a race to the same user takes no seat")
+    public void testRegisterUserAlreadyRegisteredConcurrently() {
+        when(eventParticipationRepository.register(1L, 2L)).thenReturn(0);
+
+        eventParticipationService.registerParticipant(1L, 2L);
+        verify(eventRepository, never()).reserveSeat(anyLong());
+    }
+
+    @Test
+    @DisplayName("Registration at a full event is rejected")
+    public void testRegisterUserAtFullEvent() {
+        when(eventParticipationRepository.register(1L, 2L)).thenReturn(1);
+        when(eventRepository.reserveSeat(1L)).thenReturn(0);
+        doThrow(new IllegalStateException("Event 1 has no free seats left"))
+                .when(eventParticipantValidator).checkSeatReserved(1L, 0);
+
+        assertThrows(IllegalStateException.class, () -> eventParticipationService.registerParticipant(1L, 2L));
     }
 
     @Test
     @DisplayName("Test unregister user on event")
     public void testUnregisterUserOnEvent() {
+        when(eventParticipationRepository.unregister(1L, 2L)).thenReturn(1);
+
         eventParticipationService.unregisterParticipant(1L, 2L);
         verify(eventParticipantValidator, times(1)).checkRegistrationAtEvent(1L, 2L);
         verify(eventParticipationRepository, times(1)).unregister(1L, 2L);
+        verify(eventRepository, times(1)).releaseSeat(1L);
     }
 
     @Test
     @DisplayName("Test get all participants on event")
     public void testGetParticipantsOnEvent() {
         eventParticipationService.getParticipant(anyLong());
-        verify(eventParticipationRepository, times(1)).findAllParticipantsByEventId(anyLong());
+        verify(eventParticipationRepository, times(1)).findParticipantSummariesByEventId(anyLong());
     }
 
     @Test
@@ -1,5 +1,6 @@
 package school.faang.user_service.service.mentorship;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -9,6 +10,12 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.event.MentorshipAcceptedEvent;
 import school.faang.user_service.dto.mentorship.MentorshipRequestDto;
 import school.faang.user_service.dto.mentorship.MentorshipRequestFilterDto;
@@ -16,6 +23,7 @@ import school.faang.user_service.dto.mentorship.RejectionDto;
 import school.faang.user_service.entity.MentorshipRequest;
 import school.faang.user_service.entity.RequestStatus;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.entity.outbox.AggregateType;
 import school.faang.user_service.event.MentorshipOfferedEvent;
 import school.faang.user_service.event.MentorshipRequestEvent;
 import school.faang.user_service.event.MentorshipStartEvent;
@@ -29,10 +37,11 @@ import school.faang.user_service.mapper.mentorship.MentorshipRequestEventMapper;
 import school.faang.user_service.mapper.mentorship.MentorshipRequestMapper;
 import school.faang.user_service.mapper.mentorship.MentorshipRequestMapperImpl;
 import school.faang.user_service.publisher.MentorshipAcceptedEventPublisher;
+import school.faang.user_service.publisher.MentorshipOfferedEventPublisher;
 import school.faang.user_service.publisher.MentorshipRequestEventPublisher;
-import school.faang.user_service.publishier.MentorshipOfferedEventPublisher;
 import school.faang.user_service.publisher.MentorshipStartEventPublisher;
 import school.faang.user_service.repository.mentorship.MentorshipRequestRepository;
+import school.faang.user_service.service.OutboxService;
 import school.faang.user_service.validator.MentorshipRequestValidator;
 
 import java.time.LocalDateTime;
@@ -42,7 +51,10 @@ import java.util.Optional;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -77,6 +89,10 @@ class MentorshipRequestServiceTest {
     private MentorshipRequestEventMapper mentorshipRequestEventMapper;
     @Mock
     private MentorshipAcceptedEventPublisher mentorshipAcceptedEventPublisher;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private EntityManager entityManager;
 
     @InjectMocks
     private MentorshipRequestService mentorshipRequestService;
@@ -120,7 +136,6 @@ class MentorshipRequestServiceTest {
         when(mentorshipRequestMapper.toDto(mentorshipRequest)).thenReturn(new MentorshipRequestDto());
         doNothing().when(mentorshipRequestValidator).validateParticipantsAndRequestFrequency(any(), any(), any());
         when(mentorshipRequestEventMapper.toEvent(mentorshipRequestCaptor.capture())).thenReturn(mentorshipRequestEvent);
-        doNothing().when(mentorshipRequestEventPublisher).publish(any());
 
         mentorshipRequestService.requestMentorship(mentorshipRequestDto);
 
@@ -137,40 +152,79 @@ class MentorshipRequestServiceTest {
 
         verify(mentorshipRequestValidator, times(1)).validateParticipantsAndRequestFrequency(any(), any(), any());
         verify(mentorshipRequestEventMapper, times(1)).toEvent(mentorshipRequestCaptor.getValue());
-        verify(mentorshipRequestEventPublisher, times(1)).publish(mentorshipRequestEvent);
+        verify(outboxService, times(1)).enqueue(mentorshipRequestEventPublisher,
+                AggregateType.MENTORSHIP_REQUEST, mentorshipRequest.getId(), mentorshipRequestEvent);
         verify(mentorshipRequestMapper, times(1)).toDto(mentorshipRequestCaptor.getValue());
     }
 
     @Test
-    @DisplayName("testing getRequests repository findAll() method execution")
-    public void testGetRequestsRepositorySelectionExecution() {
+    @DisplayName("testing getRequests reads a slice without counting")
+    public void testGetRequestsReadsSliceWithoutCount() {
         MentorshipRequestFilterDto mentorshipRequestFilterDto = new MentorshipRequestFilterDto();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by("createdAt"));
+        List<MentorshipRequest> mentorshipRequestList = getMentorshipRequestList().subList(0, 2);
 
         when(mentorshipRequestFilterList.stream()).thenReturn(getAllFilters());
-        mentorshipRequestService.getRequests(mentorshipRequestFilterDto);
-        verify(mentorshipRequestRepository, times(1)).findAll();
+        when(mentorshipRequestRepository.findSlice(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(mentorshipRequestList, pageable, true));
+        when(mentorshipRequestMapper.toDtoList(mentorshipRequestList))
+                .thenReturn(mentorshipRequestMapperImpl.toDtoList(mentorshipRequestList));
+
+        PageDto<MentorshipRequestDto> result =
+                mentorshipRequestService.getRequests(mentorshipRequestFilterDto, pageable, false);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertNull(result.getTotalElements());
+        verify(mentorshipRequestValidator, times(1)).validatePageRequest(pageable);
+        verify(mentorshipRequestRepository, never()).count(any(Specification.class));
     }
 
     @Test
-    @DisplayName("testing getRequests with appropriate request selection")
-    public void testGetRequestsWithAppropriateRequestSelection() {
+    @DisplayName("testing getRequests counts the matching requests only when asked to")
+    public void testGetRequestsWithTotal() {
         MentorshipRequestFilterDto mentorshipRequestFilterDto = MentorshipRequestFilterDto.builder()
                 .requesterId(1L)
                 .receiverId(2L)
                 .description("description")
                 .status(RequestStatus.PENDING).build();
+        Pageable pageable = PageRequest.of(0, 10);
+        List<MentorshipRequest> mentorshipRequestList = List.of(getMentorshipRequestList().get(0));
+
+        when(mentorshipRequestFilterList.stream()).thenReturn(getAllFilters());
+        when(mentorshipRequestRepository.findSlice(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(mentorshipRequestList, pageable, false));
+        when(mentorshipRequestRepository.count(any(Specification.class))).thenReturn(1L);
+        when(mentorshipRequestMapper.toDtoList(mentorshipRequestList))
+                .thenReturn(mentorshipRequestMapperImpl.toDtoList(mentorshipRequestList));
+
+        PageDto<MentorshipRequestDto> result =
+                mentorshipRequestService.getRequests(mentorshipRequestFilterDto, pageable, true);
+
+        assertEquals(1, result.getContent().size());
+        assertEquals(mentorshipRequestMapperImpl.toDto(mentorshipRequestList.get(0)), result.getContent().get(0));
+        assertFalse(result.isHasNext());
+        assertEquals(1L, result.getTotalElements());
+    }
+
+    @Test
+    @DisplayName("testing exportRequests streams every row and detaches it")
+    public void testExportRequestsDetachesRows() {
+        MentorshipRequestFilterDto mentorshipRequestFilterDto = new MentorshipRequestFilterDto();
+        Sort sort = Sort.by("id");
         List<MentorshipRequest> mentorshipRequestList = getMentorshipRequestList();
+        List<MentorshipRequestDto> exported = new ArrayList<>();
 
-        when(mentorshipRequestRepository.findAll()).thenReturn(mentorshipRequestList);
         when(mentorshipRequestFilterList.stream()).thenReturn(getAllFilters());
-        when(mentorshipRequestMapper.toDtoList(List.of(mentorshipRequestList.get(0))))
-                .thenReturn(mentorshipRequestMapperImpl.toDtoList(List.of(mentorshipRequestList.get(0))));
+        when(mentorshipRequestRepository.stream(any(), eq(sort))).thenReturn(mentorshipRequestList.stream());
+        when(mentorshipRequestMapper.toDto(any(MentorshipRequest.class)))
+                .thenAnswer(invocation -> mentorshipRequestMapperImpl.toDto(invocation.getArgument(0)));
 
-        List<MentorshipRequestDto> resultRequests =
-                mentorshipRequestService.getRequests(mentorshipRequestFilterDto);
+        mentorshipRequestService.exportRequests(mentorshipRequestFilterDto, sort, exported::add);
 
-        assertEquals(1, resultRequests.size());
-        assertEquals(mentorshipRequestMapperImpl.toDto(mentorshipRequestList.get(0)), resultRequests.get(0));
+        assertEquals(mentorshipRequestList.size(), exported.size());
+        verify(mentorshipRequestValidator, times(1)).validateSort(sort);
+        mentorshipRequestList.forEach(request -> verify(entityManager, times(1)).detach(request));
     }
 
     @Test
@@ -197,7 +251,6 @@ class MentorshipRequestServiceTest {
                 .receiver(receiver)
                 .status(RequestStatus.PENDING).build();
 
-        doNothing().when(mentorshipAcceptedEventPublisher).publish(any(MentorshipAcceptedEvent.class));
         when(mentorshipRequestRepository.save(any())).thenReturn(mentorshipRequest);
         when(mentorshipRequestRepository.findById(mentorshipRequest.getId())).thenReturn(Optional.of(mentorshipRequest));
 
@@ -218,7 +271,6 @@ class MentorshipRequestServiceTest {
                 .receiver(receiver)
                 .status(RequestStatus.PENDING).build();
 
-        doNothing().when(mentorshipAcceptedEventPublisher).publish(any(MentorshipAcceptedEvent.class));
         when(mentorshipRequestRepository.save(any())).thenReturn(mentorshipRequest);
         when(mentorshipRequestRepository.findById(requestId)).thenReturn(Optional.of(mentorshipRequest));
         mentorshipRequestService.acceptRequest(requestId);
@@ -238,13 +290,14 @@ class MentorshipRequestServiceTest {
                 .receiver(receiver)
                 .status(RequestStatus.PENDING).build();
 
-        doNothing().when(mentorshipAcceptedEventPublisher).publish(any(MentorshipAcceptedEvent.class));
         when(mentorshipRequestRepository.save(any())).thenReturn(mentorshipRequest);
         when(mentorshipRequestRepository.findById(mentorshipRequest.getId()))
                 .thenReturn(Optional.of(mentorshipRequest));
 
         mentorshipRequestService.acceptRequest(mentorshipRequest.getId());
         verify(mentorshipRequestRepository, times(1)).save(mentorshipRequest);
+        verify(outboxService, times(1)).enqueue(eq(mentorshipAcceptedEventPublisher),
+                eq(AggregateType.MENTORSHIP_REQUEST), eq(requestId), any(MentorshipAcceptedEvent.class));
     }
 
     @Test
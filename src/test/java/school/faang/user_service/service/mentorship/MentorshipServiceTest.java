@@ -12,6 +12,7 @@ import school.faang.user_service.dto.user.UserDto;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.mapper.UserMapper;
 import school.faang.user_service.repository.mentorship.MentorshipRepository;
+import school.faang.user_service.repository.projection.UserSummary;
 import school.faang.user_service.service.MentorshipService;
 import school.faang.user_service.validator.MentorshipValidator;
 
@@ -23,6 +24,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -72,25 +75,27 @@ public class MentorshipServiceTest {
     @Test
     @DisplayName("testGetMentees")
     public void testGetMentees() {
-        when(mentorshipRepository.findById(mentor.getId())).thenReturn(mentorOptional);
-        when(userMapper.toDtoList(mentor.getMentees())).thenReturn(menteesDto);
+        UserSummary menteeSummary = mock(UserSummary.class);
+        UserDto menteeDto = UserDto.builder().id(mentee.getId()).build();
+        when(mentorshipRepository.findMenteeSummaries(mentor.getId())).thenReturn(List.of(menteeSummary));
+        when(userMapper.toDto(menteeSummary)).thenReturn(menteeDto);
 
         List<UserDto> result = mentorshipService.getMentees(mentor.getId());
 
-        verify(mentorshipRepository).findById(mentor.getId());
-        assertNotNull(result);
-        assertEquals(menteesDto, result);
+        verify(mentorshipRepository).findMenteeSummaries(mentor.getId());
+        verify(mentorshipRepository, never()).existsById(mentor.getId());
+        assertEquals(List.of(menteeDto), result);
     }
 
     @Test
     @DisplayName("testGetMentors")
     public void testGetMentors() {
-        when(mentorshipRepository.findById(mentee.getId())).thenReturn(menteeOptional);
-        when(userMapper.toDtoList(mentee.getMentors())).thenReturn(mentorsDto);
+        when(mentorshipRepository.findMentorSummaries(mentee.getId())).thenReturn(List.of());
+        when(mentorshipRepository.existsById(mentee.getId())).thenReturn(true);
 
         List<UserDto> result = mentorshipService.getMentors(mentee.getId());
 
-        verify(mentorshipRepository).findById(mentee.getId());
+        verify(mentorshipRepository).findMentorSummaries(mentee.getId());
         assertNotNull(result);
         assertEquals(mentorsDto, result);
     }
@@ -124,7 +129,8 @@ public class MentorshipServiceTest {
     @Test
     @DisplayName("testGetMenteesMentorNotFound")
     public void testGetMenteesMentorNotFound() {
-        when(mentorshipRepository.findById(mentor.getId())).thenReturn(Optional.empty());
+        when(mentorshipRepository.findMenteeSummaries(mentor.getId())).thenReturn(List.of());
+        when(mentorshipRepository.existsById(mentor.getId())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> mentorshipService.getMentees(mentor.getId()));
     }
@@ -132,7 +138,8 @@ public class MentorshipServiceTest {
     @Test
     @DisplayName("testGetMentorsMenteeNotFound")
     public void testGetMentorsMenteeNotFound() {
-        when(mentorshipRepository.findById(mentee.getId())).thenReturn(Optional.empty());
+        when(mentorshipRepository.findMentorSummaries(mentee.getId())).thenReturn(List.of());
+        when(mentorshipRepository.existsById(mentee.getId())).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> mentorshipService.getMentors(mentee.getId()));
     }
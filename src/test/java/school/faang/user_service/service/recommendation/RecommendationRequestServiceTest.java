@@ -6,6 +6,11 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import school.faang.user_service.dto.PageDto;
 import school.faang.user_service.dto.recommendation.RecommendationRequestDto;
 import school.faang.user_service.dto.recommendation.RejectionDto;
 import school.faang.user_service.dto.recommendation.RequestFilterDto;
@@ -25,9 +30,13 @@ import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static school.faang.user_service.entity.RequestStatus.ACCEPTED;
@@ -93,24 +102,56 @@ class RecommendationRequestServiceTest {
         when(recommendationRequestMapper.toEntity(any(), any())).thenReturn(new RecommendationRequest());
         when(recommendationRequestRepository.create(any(), any(), any())).thenReturn(id);
         when(skillRequestRepository.create(id, id)).thenReturn(new SkillRequest());
-        when(recommendationRequestMapper.toDto(any(), any())).thenReturn(recommendationRequestDto);
+        when(recommendationRequestMapper.toDto(any())).thenReturn(recommendationRequestDto);
 
         recommendationRequestService.create(recommendationRequestDto);
 
         verify(recommendationRequestMapper).toEntity(any(), any());
         verify(recommendationRequestRepository).create(any(), any(), any());
         verify(skillRequestRepository).create(id, id);
-        verify(recommendationRequestMapper).toDto(any(), any());
+        verify(recommendationRequestMapper).toDto(any());
     }
 
     @Test
-    @DisplayName("Test that getRequests method returns empty list when empty list was given")
+    @DisplayName("Test that getRequests method returns empty page when nothing matches")
     public void testGetZeroRequests() {
+        Pageable pageable = PageRequest.of(0, 10);
         Stream<RequestFilter> requestFilterStream = StreamSupport.stream(requestFilterList.spliterator(), false);
 
         when(requestFilters.stream()).thenReturn(requestFilterStream);
+        when(recommendationRequestRepository.findSlice(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(), pageable, false));
+        when(recommendationRequestMapper.toDtoList(List.of())).thenReturn(emptyList);
 
-        assertEquals(emptyList, recommendationRequestService.getRequests(requestFilterDto));
+        PageDto<RecommendationRequestDto> result = recommendationRequestService.getRequests(requestFilterDto, pageable, false);
+
+        assertEquals(emptyList, result.getContent());
+        assertFalse(result.isHasNext());
+        verify(recommendationRequestDtoValidator).validatePageRequest(pageable);
+        verify(recommendationRequestRepository, never()).count(any(Specification.class));
+    }
+
+    @Test
+    @DisplayName("Test that getRequests combines the applicable filters and counts only when asked to")
+    public void testGetRequestsWithApplicableFilters() {
+        Pageable pageable = PageRequest.of(0, 10);
+        RecommendationRequestDto dto = new RecommendationRequestDto();
+        requestFilterDto.setStatus(ACCEPTED);
+        requestFilterDto.setSkillIds(List.of(id));
+        Stream<RequestFilter> requestFilterStream = Stream.of(
+                new RequestStatusFilter(), new RequestSkillsFilter(), new RequestReceiverIdFilter());
+
+        when(requestFilters.stream()).thenReturn(requestFilterStream);
+        when(recommendationRequestRepository.findSlice(any(), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(recommendationRequest), pageable, true));
+        when(recommendationRequestRepository.count(any(Specification.class))).thenReturn(11L);
+        when(recommendationRequestMapper.toDtoList(List.of(recommendationRequest))).thenReturn(List.of(dto));
+
+        PageDto<RecommendationRequestDto> result = recommendationRequestService.getRequests(requestFilterDto, pageable, true);
+
+        assertEquals(List.of(dto), result.getContent());
+        assertTrue(result.isHasNext());
+        assertEquals(11L, result.getTotalElements());
     }
 
     @Test
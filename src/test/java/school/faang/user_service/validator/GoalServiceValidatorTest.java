@@ -17,7 +17,6 @@ import school.faang.user_service.service.goal.SkillService;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
-import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -51,15 +50,13 @@ public class GoalServiceValidatorTest {
     @DisplayName("Когда есть дубликат по title")
     @Test
     public void testCheckDuplicateTitleGoal() {
-        List<String> allGoalTitles = List.of("Duplicate");
-        assertThrows(IllegalArgumentException.class, () -> goalServiceValidate.checkDuplicateTitleGoal(goalDto, allGoalTitles));
+        assertThrows(IllegalArgumentException.class, () -> goalServiceValidate.checkDuplicateTitleGoal(true));
     }
 
     @DisplayName("Когда дубликаты title отсутствуют")
     @Test
     public void testCheckDuplicateTitleGoalWhenValid() {
-        List<String> allGoalTitles = List.of("Title");
-        assertDoesNotThrow(() -> goalServiceValidate.checkDuplicateTitleGoal(goalDto, allGoalTitles));
+        assertDoesNotThrow(() -> goalServiceValidate.checkDuplicateTitleGoal(false));
     }
 
     @DisplayName("Когда число user больше чем лимит")
@@ -77,17 +74,13 @@ public class GoalServiceValidatorTest {
     @DisplayName("Если goal с таким id нк существует")
     @Test
     public void testCheckExistenceGoal() {
-        Stream<Goal> emptyGoalStream = Stream.empty();
-
-        assertThrows(NoSuchElementException.class, () -> goalServiceValidate.checkExistenceGoal(emptyGoalStream));
+        assertThrows(NoSuchElementException.class, () -> goalServiceValidate.checkExistenceGoal(false));
     }
 
     @DisplayName("Когда метод отработал без ошибки")
     @Test
     public void testCheckExistenceGoalWhenValid() {
-        Stream<Goal> golaStream = Stream.of(goal);
-
-        assertDoesNotThrow(() -> goalServiceValidate.checkExistenceGoal(golaStream));
+        assertDoesNotThrow(() -> goalServiceValidate.checkExistenceGoal(true));
     }
 
     @DisplayName("Если goal уже был COMPLETED")
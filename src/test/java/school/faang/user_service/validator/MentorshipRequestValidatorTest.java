@@ -5,10 +5,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import school.faang.user_service.entity.MentorshipRequest;
 import school.faang.user_service.entity.RequestStatus;
 import school.faang.user_service.entity.User;
+import school.faang.user_service.exception.DataValidationException;
 import school.faang.user_service.repository.UserRepository;
 import school.faang.user_service.repository.mentorship.MentorshipRequestRepository;
 
@@ -27,6 +31,8 @@ class MentorshipRequestValidatorTest {
     private UserRepository userRepository;
     @Mock
     private MentorshipRequestRepository mentorshipRequestRepository;
+    @Spy
+    private PageRequestValidator pageRequestValidator;
 
     @InjectMocks
     private MentorshipRequestValidator mentorshipRequestValidator;
@@ -124,4 +130,20 @@ class MentorshipRequestValidatorTest {
                 () -> mentorshipRequestValidator.validateReceiverIsNotMentorOfRequester(requesterUser, receiverUser));
         assertEquals("User with ID: 2 is already the mentor of User with ID: 1", exception.getMessage());
     }
+
+    @Test
+    @DisplayName("testing page size above the limit")
+    public void testValidatePageRequestWithOversizedPage() {
+        DataValidationException exception = assertThrows(DataValidationException.class,
+                () -> mentorshipRequestValidator.validatePageRequest(PageRequest.of(0, 1001)));
+        assertEquals("Page size must be between 1 and 1000", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("testing sort by a property outside the whitelist")
+    public void testValidateSortWithUnknownProperty() {
+        DataValidationException exception = assertThrows(DataValidationException.class,
+                () -> mentorshipRequestValidator.validateSort(Sort.by("createdAt").and(Sort.by("requester.password"))));
+        assertEquals("Cannot sort by requester.password", exception.getMessage());
+    }
 }
\ No newline at end of file
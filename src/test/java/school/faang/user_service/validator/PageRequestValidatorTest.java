@@ -0,0 +1,49 @@
+package school.faang.user_service.validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import school.faang.user_service.exception.DataValidationException;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PageRequestValidatorTest {
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt");
+
+    private final PageRequestValidator pageRequestValidator = new PageRequestValidator();
+
+    @Test
+    @DisplayName("Page within the limit sorted by whitelisted properties is accepted")
+    void testValidatePageRequest() {
+        assertDoesNotThrow(() -> pageRequestValidator.validatePageRequest(
+                PageRequest.of(0, PageRequestValidator.MAX_PAGE_SIZE, Sort.by("createdAt", "id")),
+                SORTABLE_PROPERTIES));
+    }
+
+    @Test
+    @DisplayName("Page size above the limit is rejected")
+    void testValidatePageRequestWithOversizedPage() {
+        DataValidationException exception = assertThrows(DataValidationException.class,
+                () -> pageRequestValidator.validatePageRequest(PageRequest.of(0, 1001), SORTABLE_PROPERTIES));
+        assertEquals("Page size must be between 1 and 1000", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Empty page is rejected")
+    void testValidatePageSizeZero() {
+        assertThrows(DataValidationException.class, () -> pageRequestValidator.validatePageSize(0));
+    }
+
+    @Test
+    @DisplayName("Sort by a property outside the whitelist is rejected")
+    void testValidateSortWithUnknownProperty() {
+        DataValidationException exception = assertThrows(DataValidationException.class,
+                () -> pageRequestValidator.validateSort(Sort.by("id").and(Sort.by("password")), SORTABLE_PROPERTIES));
+        assertEquals("Cannot sort by password", exception.getMessage());
+    }
+}
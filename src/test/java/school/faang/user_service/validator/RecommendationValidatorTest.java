@@ -14,7 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
 public class RecommendationValidatorTest {
-    private final RecommendationValidator recommendationValidator = new RecommendationValidator();
+    private final RecommendationValidator recommendationValidator = new RecommendationValidator(new PageRequestValidator());
 
 
     @Test
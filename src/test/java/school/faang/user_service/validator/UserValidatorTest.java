@@ -7,6 +7,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 import school.faang.user_service.entity.User;
 import school.faang.user_service.repository.UserRepository;
 
@@ -14,6 +15,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,19 +35,31 @@ class UserValidatorTest {
         user = User.builder()
                 .id(userId)
                 .build();
+        ReflectionTestUtils.setField(userValidator, "chunkSize", 2);
     }
 
     @Test
     @DisplayName("testing doAllUsersExist method with non appropriate value")
     public void testDoAllUsersExistWithNonAppropriateValue() {
-        when(userRepository.findAllById(List.of(userId))).thenReturn(List.of());
+        when(userRepository.countByIdIn(List.of(userId))).thenReturn(0L);
         assertFalse(() -> userValidator.doAllUsersExist(List.of(userId)));
     }
 
     @Test
     @DisplayName("testing doAllUsersExist method with appropriate value")
     public void testDoAllUsersExistWithAppropriateValue() {
-        when(userRepository.findAllById(List.of(userId))).thenReturn(List.of(user));
+        when(userRepository.countByIdIn(List.of(userId))).thenReturn(1L);
         assertTrue(() -> userValidator.doAllUsersExist(List.of(userId)));
     }
+
+    @Test
+    @DisplayName("testing doAllUsersExist counts distinct ids chunk by chunk")
+    public void testDoAllUsersExistCountsDistinctIdsInChunks() {
+        when(userRepository.countByIdIn(List.of(1L, 2L))).thenReturn(2L);
+        when(userRepository.countByIdIn(List.of(3L))).thenReturn(1L);
+
+        assertTrue(() -> userValidator.doAllUsersExist(List.of(1L, 2L, 2L, 3L)));
+        verify(userRepository).countByIdIn(List.of(1L, 2L));
+        verify(userRepository).countByIdIn(List.of(3L));
+    }
 }
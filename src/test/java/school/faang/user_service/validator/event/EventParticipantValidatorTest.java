@@ -6,13 +6,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import school.faang.user_service.entity.User;
 import school.faang.user_service.repository.event.EventParticipationRepository;
 import school.faang.user_service.validator.EventParticipantValidator;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
@@ -21,10 +17,6 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 public class EventParticipantValidatorTest {
 
-    private static final User USER = User.builder()
-            .id(1L)
-            .build();
-
     @Mock
     private EventParticipationRepository eventParticipationRepository;
 
@@ -34,28 +26,35 @@ public class EventParticipantValidatorTest {
     @Test
     @DisplayName("Test true check registration at event")
     public void testCheckRegistrationAtEventWithTrue() {
-        when(eventParticipationRepository.findAllParticipantsByEventId(1L)).thenReturn(new ArrayList<>(List.of(USER)));
+        when(eventParticipationRepository.existsRegistration(1L, 1L)).thenReturn(true);
         assertDoesNotThrow(() -> eventParticipantValidator.checkRegistrationAtEvent(1L, 1L));
     }
 
     @Test
     @DisplayName("Test false check registration at event")
     public void testCheckRegistrationAtEventWithFalse() {
-        when(eventParticipationRepository.findAllParticipantsByEventId(1L)).thenReturn(new ArrayList<>(List.of(USER)));
+        when(eventParticipationRepository.existsRegistration(1L, 2L)).thenReturn(false);
         assertThrows(IllegalArgumentException.class, () -> eventParticipantValidator.checkRegistrationAtEvent(1L, 2L));
     }
 
     @Test
     @DisplayName("Test true check no registrartion at event")
     public void testCheckNoRegistrationAtEventWithTrue() {
-        when(eventParticipationRepository.findAllParticipantsByEventId(1L)).thenReturn(new ArrayList<>(List.of(USER)));
+        when(eventParticipationRepository.existsRegistration(1L, 2L)).thenReturn(false);
         assertDoesNotThrow(() -> eventParticipantValidator.checkNoRegistrationAtEvent(1L, 2L));
     }
 
     @Test
     @DisplayName("Test false check no registration at event")
     public void testCheckNoRegistrationAtEventWithFalse() {
-        when(eventParticipationRepository.findAllParticipantsByEventId(1L)).thenReturn(new ArrayList<>(List.of(USER)));
+        when(eventParticipationRepository.existsRegistration(1L, 1L)).thenReturn(true);
         assertThrows(IllegalArgumentException.class, () -> eventParticipantValidator.checkNoRegistrationAtEvent(1L, 1L));
     }
+
+    @Test
+    @DisplayName("Test no seat reserved at event")
+    public void testCheckSeatReservedWhenEventIsFull() {
+        assertThrows(IllegalStateException.class, () -> eventParticipantValidator.checkSeatReserved(1L, 0));
+        assertDoesNotThrow(() -> eventParticipantValidator.checkSeatReserved(1L, 1));
+    }
 }